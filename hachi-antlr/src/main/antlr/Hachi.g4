@@ -44,7 +44,7 @@ statement: variableDeclaration
 variableDeclaration: VARIABLE name EQUALS expression;
 assignmentStatement: name EQUALS expression;
 forStatement: 'for' ('(')? forCondition (')')? statement;
-forCondition: iterator=variableReference 'from' startExpression=expression range='to' endExpression=expression;
+forCondition: iterator=variableReference 'from' startExpression=expression range='to' endExpression=expression ('step' stepExpression=expression)?;
 ifStatement: 'if' ('(')? expression (')')? trueStatement=statement ('else' falseStatement=statement)?;
 returnStatement: 'return' expression #returnWithValue
             | 'return' #returnVoid;
@@ -55,28 +55,24 @@ functionArgument: expression;
 functionArgumentList: functionArgument? (',' functionArgument)* #unnamedFunctionArgumentList
             | namedFunctionArgument? (',' namedFunctionArgument)* #namedFunctionArgumentList;
 namedFunctionArgument: name '->' expression;
-expression: value #valueLabel
-           | variableReference #variableReferenceLabel
-           | '('expression '*' expression')' #multiply
-           | expression '*' expression #multiply
-           | '(' expression '/' expression ')' #divide
-           | expression '/' expression #divide
-           | '(' expression '+' expression ')' #add
-           | expression '+' expression #add
-           | '(' expression '-' expression ')' #subtract
-           | expression '-' expression #subtract
-           | expression cmp='>' expression #conditionalExpression
-           | expression cmp='<' expression #conditionalExpression
-           | expression cmp='==' expression #conditionalExpression
-           | expression cmp='!=' expression #conditionalExpression
-           | expression cmp='>=' expression #conditionalExpression
-           | expression cmp='<=' expression #conditionalExpression
-           | owner=expression '.' functionName '(' functionArgumentList ')' #functionCall
+expression: owner=expression '.' functionName '(' functionArgumentList ')' #functionCall
            | functionName '(' functionArgumentList ')' #functionCall
            | superCall='super' '('functionArgumentList ')' #supercall
-           | newCall='new' className '('functionArgumentList ')' #constructorCall;
+           | newCall='new' className '('functionArgumentList ')' #constructorCall
+           | value #valueLabel
+           | variableReference #variableReferenceLabel
+           | '(' expression ')' #parenthesizedExpression
+           | '!' expression #negationExpression
+           | expression operator=('*' | '/') expression #multiplicativeExpression
+           | expression operator=('+' | '-') expression #additiveExpression
+           | expression cmp=('>' | '<' | '==' | '!=' | '>=' | '<=') expression #conditionalExpression
+           | expression operator='&&' expression #logicalExpression
+           | expression operator='||' expression #logicalExpression;
 variableReference: ID;
-value: NUMBER
+value: INTEGER
+      | LONG
+      | FLOAT
+      | DOUBLE
       | STRING
       | BOOLEAN;
 qualifiedName: ID ('.' ID)*;
@@ -85,7 +81,11 @@ qualifiedName: ID ('.' ID)*;
 VARIABLE: 'var';
 PRINT: 'print';
 EQUALS: '=';
-NUMBER: '-'?[0-9.]+;
+INTEGER: '-'?[0-9]+;
+LONG: '-'?[0-9]+[lL];
+FLOAT: '-'?([0-9]+ ('.' [0-9]*)? | '.' [0-9]+)[fF];
+DOUBLE: '-'?([0-9]+ '.' [0-9]* | '.' [0-9]+)[dD]?
+      | '-'?[0-9]+[dD];
 STRING: '"'~('\r' | '\n' | '"')*'"';
 BOOLEAN: 'true' | 'false';
 ID: [a-zA-Z0-9]+;
@@ -402,13 +402,13 @@ public class HachiBaseListener implements HachiListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterAdd(HachiParser.AddContext ctx) { }
+	@Override public void enterNegationExpression(HachiParser.NegationExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitAdd(HachiParser.AddContext ctx) { }
+	@Override public void exitNegationExpression(HachiParser.NegationExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -421,6 +421,18 @@ public class HachiBaseListener implements HachiListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitVariableReferenceLabel(HachiParser.VariableReferenceLabelContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterParenthesizedExpression(HachiParser.ParenthesizedExpressionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitParenthesizedExpression(HachiParser.ParenthesizedExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -438,37 +450,37 @@ public class HachiBaseListener implements HachiListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterSupercall(HachiParser.SupercallContext ctx) { }
+	@Override public void enterAdditiveExpression(HachiParser.AdditiveExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitSupercall(HachiParser.SupercallContext ctx) { }
+	@Override public void exitAdditiveExpression(HachiParser.AdditiveExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterConditionalExpression(HachiParser.ConditionalExpressionContext ctx) { }
+	@Override public void enterSupercall(HachiParser.SupercallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitConditionalExpression(HachiParser.ConditionalExpressionContext ctx) { }
+	@Override public void exitSupercall(HachiParser.SupercallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterSubtract(HachiParser.SubtractContext ctx) { }
+	@Override public void enterConditionalExpression(HachiParser.ConditionalExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitSubtract(HachiParser.SubtractContext ctx) { }
+	@Override public void exitConditionalExpression(HachiParser.ConditionalExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -486,37 +498,37 @@ public class HachiBaseListener implements HachiListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterDivide(HachiParser.DivideContext ctx) { }
+	@Override public void enterConstructorCall(HachiParser.ConstructorCallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitDivide(HachiParser.DivideContext ctx) { }
+	@Override public void exitConstructorCall(HachiParser.ConstructorCallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterConstructorCall(HachiParser.ConstructorCallContext ctx) { }
+	@Override public void enterMultiplicativeExpression(HachiParser.MultiplicativeExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitConstructorCall(HachiParser.ConstructorCallContext ctx) { }
+	@Override public void exitMultiplicativeExpression(HachiParser.MultiplicativeExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterMultiply(HachiParser.MultiplyContext ctx) { }
+	@Override public void enterLogicalExpression(HachiParser.LogicalExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitMultiply(HachiParser.MultiplyContext ctx) { }
+	@Override public void exitLogicalExpression(HachiParser.LogicalExpressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -24,8 +24,9 @@ public class HachiLexer extends Lexer {
 		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
 		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
-		T__38=39, VARIABLE=40, PRINT=41, EQUALS=42, NUMBER=43, STRING=44, BOOLEAN=45, 
-		ID=46, WHITE_SPACE=47;
+		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, VARIABLE=44, PRINT=45, 
+		EQUALS=46, INTEGER=47, LONG=48, FLOAT=49, DOUBLE=50, STRING=51, BOOLEAN=52, 
+		ID=53, WHITE_SPACE=54;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -39,24 +40,25 @@ public class HachiLexer extends Lexer {
 		"T__9", "T__10", "T__11", "T__12", "T__13", "T__14", "T__15", "T__16", 
 		"T__17", "T__18", "T__19", "T__20", "T__21", "T__22", "T__23", "T__24", 
 		"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "T__31", "T__32", 
-		"T__33", "T__34", "T__35", "T__36", "T__37", "T__38", "VARIABLE", "PRINT", 
-		"EQUALS", "NUMBER", "STRING", "BOOLEAN", "ID", "WHITE_SPACE"
+		"T__33", "T__34", "T__35", "T__36", "T__37", "T__38", "T__39", "T__40", 
+		"T__41", "T__42", "VARIABLE", "PRINT", "EQUALS", "INTEGER", "LONG", "FLOAT", 
+		"DOUBLE", "STRING", "BOOLEAN", "ID", "WHITE_SPACE"
 	};
 
 	private static final String[] _LITERAL_NAMES = {
 		null, "'class'", "'{'", "'}'", "'constructor'", "'('", "')'", "','", "'boolean'", 
 		"'['", "']'", "'string'", "'char'", "'byte'", "'short'", "'int'", "'long'", 
-		"'float'", "'double'", "'void'", "'for'", "'from'", "'to'", "'if'", "'else'", 
-		"'return'", "'->'", "'*'", "'/'", "'+'", "'-'", "'>'", "'<'", "'=='", 
-		"'!='", "'>='", "'<='", "'.'", "'super'", "'new'", "'var'", "'print'", 
-		"'='"
+		"'float'", "'double'", "'void'", "'for'", "'from'", "'to'", "'step'", 
+		"'if'", "'else'", "'return'", "'->'", "'.'", "'super'", "'new'", "'!'", 
+		"'*'", "'/'", "'+'", "'-'", "'>'", "'<'", "'=='", "'!='", "'>='", "'<='", 
+		"'&&'", "'||'", "'var'", "'print'", "'='"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, "VARIABLE", "PRINT", "EQUALS", "NUMBER", "STRING", 
-		"BOOLEAN", "ID", "WHITE_SPACE"
+		null, null, null, null, null, null, null, null, "VARIABLE", "PRINT", "EQUALS", 
+		"INTEGER", "LONG", "FLOAT", "DOUBLE", "STRING", "BOOLEAN", "ID", "WHITE_SPACE"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -116,101 +118,146 @@ public class HachiLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2\61\u0131\b\1\4\2"+
-		"\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4"+
-		"\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
-		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
-		"\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t"+
-		" \4!\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t"+
-		"+\4,\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3"+
-		"\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\7\3\7"+
-		"\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3\f"+
-		"\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\17\3\17"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\28\u0196\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\4"+
+		"\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\7\3\7\3"+
+		"\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3\f\3"+
+		"\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\17\3\17"+
 		"\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\22"+
 		"\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24"+
 		"\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\27\3\27"+
-		"\3\27\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32"+
-		"\3\32\3\32\3\33\3\33\3\33\3\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37\3 \3"+
-		" \3!\3!\3\"\3\"\3\"\3#\3#\3#\3$\3$\3$\3%\3%\3%\3&\3&\3\'\3\'\3\'\3\'\3"+
-		"\'\3\'\3(\3(\3(\3(\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3+\3+\3,\5,\u010b\n,"+
-		"\3,\6,\u010e\n,\r,\16,\u010f\3-\3-\7-\u0114\n-\f-\16-\u0117\13-\3-\3-"+
-		"\3.\3.\3.\3.\3.\3.\3.\3.\3.\5.\u0124\n.\3/\6/\u0127\n/\r/\16/\u0128\3"+
-		"\60\6\60\u012c\n\60\r\60\16\60\u012d\3\60\3\60\2\2\61\3\3\5\4\7\5\t\6"+
-		"\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24"+
-		"\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K"+
-		"\'M(O)Q*S+U,W-Y.[/]\60_\61\3\2\6\4\2\60\60\62;\5\2\f\f\17\17$$\5\2\62"+
-		";C\\c|\5\2\13\f\17\17\"\"\2\u0136\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2"+
-		"\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3"+
-		"\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2"+
-		"\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2"+
-		"\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2"+
-		"\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2"+
-		"\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2"+
-		"O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3"+
-		"\2\2\2\2]\3\2\2\2\2_\3\2\2\2\3a\3\2\2\2\5g\3\2\2\2\7i\3\2\2\2\tk\3\2\2"+
-		"\2\13w\3\2\2\2\ry\3\2\2\2\17{\3\2\2\2\21}\3\2\2\2\23\u0085\3\2\2\2\25"+
-		"\u0087\3\2\2\2\27\u0089\3\2\2\2\31\u0090\3\2\2\2\33\u0095\3\2\2\2\35\u009a"+
-		"\3\2\2\2\37\u00a0\3\2\2\2!\u00a4\3\2\2\2#\u00a9\3\2\2\2%\u00af\3\2\2\2"+
-		"\'\u00b6\3\2\2\2)\u00bb\3\2\2\2+\u00bf\3\2\2\2-\u00c4\3\2\2\2/\u00c7\3"+
-		"\2\2\2\61\u00ca\3\2\2\2\63\u00cf\3\2\2\2\65\u00d6\3\2\2\2\67\u00d9\3\2"+
-		"\2\29\u00db\3\2\2\2;\u00dd\3\2\2\2=\u00df\3\2\2\2?\u00e1\3\2\2\2A\u00e3"+
-		"\3\2\2\2C\u00e5\3\2\2\2E\u00e8\3\2\2\2G\u00eb\3\2\2\2I\u00ee\3\2\2\2K"+
-		"\u00f1\3\2\2\2M\u00f3\3\2\2\2O\u00f9\3\2\2\2Q\u00fd\3\2\2\2S\u0101\3\2"+
-		"\2\2U\u0107\3\2\2\2W\u010a\3\2\2\2Y\u0111\3\2\2\2[\u0123\3\2\2\2]\u0126"+
-		"\3\2\2\2_\u012b\3\2\2\2ab\7e\2\2bc\7n\2\2cd\7c\2\2de\7u\2\2ef\7u\2\2f"+
-		"\4\3\2\2\2gh\7}\2\2h\6\3\2\2\2ij\7\177\2\2j\b\3\2\2\2kl\7e\2\2lm\7q\2"+
-		"\2mn\7p\2\2no\7u\2\2op\7v\2\2pq\7t\2\2qr\7w\2\2rs\7e\2\2st\7v\2\2tu\7"+
-		"q\2\2uv\7t\2\2v\n\3\2\2\2wx\7*\2\2x\f\3\2\2\2yz\7+\2\2z\16\3\2\2\2{|\7"+
-		".\2\2|\20\3\2\2\2}~\7d\2\2~\177\7q\2\2\177\u0080\7q\2\2\u0080\u0081\7"+
-		"n\2\2\u0081\u0082\7g\2\2\u0082\u0083\7c\2\2\u0083\u0084\7p\2\2\u0084\22"+
-		"\3\2\2\2\u0085\u0086\7]\2\2\u0086\24\3\2\2\2\u0087\u0088\7_\2\2\u0088"+
-		"\26\3\2\2\2\u0089\u008a\7u\2\2\u008a\u008b\7v\2\2\u008b\u008c\7t\2\2\u008c"+
-		"\u008d\7k\2\2\u008d\u008e\7p\2\2\u008e\u008f\7i\2\2\u008f\30\3\2\2\2\u0090"+
-		"\u0091\7e\2\2\u0091\u0092\7j\2\2\u0092\u0093\7c\2\2\u0093\u0094\7t\2\2"+
-		"\u0094\32\3\2\2\2\u0095\u0096\7d\2\2\u0096\u0097\7{\2\2\u0097\u0098\7"+
-		"v\2\2\u0098\u0099\7g\2\2\u0099\34\3\2\2\2\u009a\u009b\7u\2\2\u009b\u009c"+
-		"\7j\2\2\u009c\u009d\7q\2\2\u009d\u009e\7t\2\2\u009e\u009f\7v\2\2\u009f"+
-		"\36\3\2\2\2\u00a0\u00a1\7k\2\2\u00a1\u00a2\7p\2\2\u00a2\u00a3\7v\2\2\u00a3"+
-		" \3\2\2\2\u00a4\u00a5\7n\2\2\u00a5\u00a6\7q\2\2\u00a6\u00a7\7p\2\2\u00a7"+
-		"\u00a8\7i\2\2\u00a8\"\3\2\2\2\u00a9\u00aa\7h\2\2\u00aa\u00ab\7n\2\2\u00ab"+
-		"\u00ac\7q\2\2\u00ac\u00ad\7c\2\2\u00ad\u00ae\7v\2\2\u00ae$\3\2\2\2\u00af"+
-		"\u00b0\7f\2\2\u00b0\u00b1\7q\2\2\u00b1\u00b2\7w\2\2\u00b2\u00b3\7d\2\2"+
-		"\u00b3\u00b4\7n\2\2\u00b4\u00b5\7g\2\2\u00b5&\3\2\2\2\u00b6\u00b7\7x\2"+
-		"\2\u00b7\u00b8\7q\2\2\u00b8\u00b9\7k\2\2\u00b9\u00ba\7f\2\2\u00ba(\3\2"+
-		"\2\2\u00bb\u00bc\7h\2\2\u00bc\u00bd\7q\2\2\u00bd\u00be\7t\2\2\u00be*\3"+
-		"\2\2\2\u00bf\u00c0\7h\2\2\u00c0\u00c1\7t\2\2\u00c1\u00c2\7q\2\2\u00c2"+
-		"\u00c3\7o\2\2\u00c3,\3\2\2\2\u00c4\u00c5\7v\2\2\u00c5\u00c6\7q\2\2\u00c6"+
-		".\3\2\2\2\u00c7\u00c8\7k\2\2\u00c8\u00c9\7h\2\2\u00c9\60\3\2\2\2\u00ca"+
-		"\u00cb\7g\2\2\u00cb\u00cc\7n\2\2\u00cc\u00cd\7u\2\2\u00cd\u00ce\7g\2\2"+
-		"\u00ce\62\3\2\2\2\u00cf\u00d0\7t\2\2\u00d0\u00d1\7g\2\2\u00d1\u00d2\7"+
-		"v\2\2\u00d2\u00d3\7w\2\2\u00d3\u00d4\7t\2\2\u00d4\u00d5\7p\2\2\u00d5\64"+
-		"\3\2\2\2\u00d6\u00d7\7/\2\2\u00d7\u00d8\7@\2\2\u00d8\66\3\2\2\2\u00d9"+
-		"\u00da\7,\2\2\u00da8\3\2\2\2\u00db\u00dc\7\61\2\2\u00dc:\3\2\2\2\u00dd"+
-		"\u00de\7-\2\2\u00de<\3\2\2\2\u00df\u00e0\7/\2\2\u00e0>\3\2\2\2\u00e1\u00e2"+
-		"\7@\2\2\u00e2@\3\2\2\2\u00e3\u00e4\7>\2\2\u00e4B\3\2\2\2\u00e5\u00e6\7"+
-		"?\2\2\u00e6\u00e7\7?\2\2\u00e7D\3\2\2\2\u00e8\u00e9\7#\2\2\u00e9\u00ea"+
-		"\7?\2\2\u00eaF\3\2\2\2\u00eb\u00ec\7@\2\2\u00ec\u00ed\7?\2\2\u00edH\3"+
-		"\2\2\2\u00ee\u00ef\7>\2\2\u00ef\u00f0\7?\2\2\u00f0J\3\2\2\2\u00f1\u00f2"+
-		"\7\60\2\2\u00f2L\3\2\2\2\u00f3\u00f4\7u\2\2\u00f4\u00f5\7w\2\2\u00f5\u00f6"+
-		"\7r\2\2\u00f6\u00f7\7g\2\2\u00f7\u00f8\7t\2\2\u00f8N\3\2\2\2\u00f9\u00fa"+
-		"\7p\2\2\u00fa\u00fb\7g\2\2\u00fb\u00fc\7y\2\2\u00fcP\3\2\2\2\u00fd\u00fe"+
-		"\7x\2\2\u00fe\u00ff\7c\2\2\u00ff\u0100\7t\2\2\u0100R\3\2\2\2\u0101\u0102"+
-		"\7r\2\2\u0102\u0103\7t\2\2\u0103\u0104\7k\2\2\u0104\u0105\7p\2\2\u0105"+
-		"\u0106\7v\2\2\u0106T\3\2\2\2\u0107\u0108\7?\2\2\u0108V\3\2\2\2\u0109\u010b"+
-		"\7/\2\2\u010a\u0109\3\2\2\2\u010a\u010b\3\2\2\2\u010b\u010d\3\2\2\2\u010c"+
-		"\u010e\t\2\2\2\u010d\u010c\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u010d\3\2"+
-		"\2\2\u010f\u0110\3\2\2\2\u0110X\3\2\2\2\u0111\u0115\7$\2\2\u0112\u0114"+
-		"\n\3\2\2\u0113\u0112\3\2\2\2\u0114\u0117\3\2\2\2\u0115\u0113\3\2\2\2\u0115"+
-		"\u0116\3\2\2\2\u0116\u0118\3\2\2\2\u0117\u0115\3\2\2\2\u0118\u0119\7$"+
-		"\2\2\u0119Z\3\2\2\2\u011a\u011b\7v\2\2\u011b\u011c\7t\2\2\u011c\u011d"+
-		"\7w\2\2\u011d\u0124\7g\2\2\u011e\u011f\7h\2\2\u011f\u0120\7c\2\2\u0120"+
-		"\u0121\7n\2\2\u0121\u0122\7u\2\2\u0122\u0124\7g\2\2\u0123\u011a\3\2\2"+
-		"\2\u0123\u011e\3\2\2\2\u0124\\\3\2\2\2\u0125\u0127\t\4\2\2\u0126\u0125"+
-		"\3\2\2\2\u0127\u0128\3\2\2\2\u0128\u0126\3\2\2\2\u0128\u0129\3\2\2\2\u0129"+
-		"^\3\2\2\2\u012a\u012c\t\5\2\2\u012b\u012a\3\2\2\2\u012c\u012d\3\2\2\2"+
-		"\u012d\u012b\3\2\2\2\u012d\u012e\3\2\2\2\u012e\u012f\3\2\2\2\u012f\u0130"+
-		"\b\60\2\2\u0130`\3\2\2\2\t\2\u010a\u010f\u0115\u0123\u0128\u012d\3\b\2"+
-		"\2";
+		"\3\27\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32"+
+		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\35\3\35\3\36\3\36"+
+		"\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3 \3 \3!\3!\3\"\3\"\3#\3#\3$"+
+		"\3$\3%\3%\3&\3&\3\'\3\'\3\'\3(\3(\3(\3)\3)\3)\3*\3*\3*\3+\3+\3+\3,\3,"+
+		"\3,\3-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3/\3/\3\60\5\60\u0126\n\60\3\60\6\60"+
+		"\u0129\n\60\r\60\16\60\u012a\3\61\5\61\u012e\n\61\3\61\6\61\u0131\n\61"+
+		"\r\61\16\61\u0132\3\61\3\61\3\62\5\62\u0138\n\62\3\62\6\62\u013b\n\62"+
+		"\r\62\16\62\u013c\3\62\3\62\7\62\u0141\n\62\f\62\16\62\u0144\13\62\5\62"+
+		"\u0146\n\62\3\62\3\62\6\62\u014a\n\62\r\62\16\62\u014b\5\62\u014e\n\62"+
+		"\3\62\3\62\3\63\5\63\u0153\n\63\3\63\6\63\u0156\n\63\r\63\16\63\u0157"+
+		"\3\63\3\63\7\63\u015c\n\63\f\63\16\63\u015f\13\63\3\63\3\63\6\63\u0163"+
+		"\n\63\r\63\16\63\u0164\5\63\u0167\n\63\3\63\5\63\u016a\n\63\3\63\5\63"+
+		"\u016d\n\63\3\63\6\63\u0170\n\63\r\63\16\63\u0171\3\63\5\63\u0175\n\63"+
+		"\3\64\3\64\7\64\u0179\n\64\f\64\16\64\u017c\13\64\3\64\3\64\3\65\3\65"+
+		"\3\65\3\65\3\65\3\65\3\65\3\65\3\65\5\65\u0189\n\65\3\66\6\66\u018c\n"+
+		"\66\r\66\16\66\u018d\3\67\6\67\u0191\n\67\r\67\16\67\u0192\3\67\3\67\2"+
+		"\28\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35"+
+		"\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36"+
+		";\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67"+
+		"m8\3\2\t\3\2\62;\4\2NNnn\4\2HHhh\4\2FFff\5\2\f\f\17\17$$\5\2\62;C\\c|"+
+		"\5\2\13\f\17\17\"\"\2\u01ac\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3"+
+		"\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2"+
+		"\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37"+
+		"\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3"+
+		"\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2"+
+		"\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C"+
+		"\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2"+
+		"\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2"+
+		"\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i"+
+		"\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\3o\3\2\2\2\5u\3\2\2\2\7w\3\2\2\2\ty\3\2"+
+		"\2\2\13\u0085\3\2\2\2\r\u0087\3\2\2\2\17\u0089\3\2\2\2\21\u008b\3\2\2"+
+		"\2\23\u0093\3\2\2\2\25\u0095\3\2\2\2\27\u0097\3\2\2\2\31\u009e\3\2\2\2"+
+		"\33\u00a3\3\2\2\2\35\u00a8\3\2\2\2\37\u00ae\3\2\2\2!\u00b2\3\2\2\2#\u00b7"+
+		"\3\2\2\2%\u00bd\3\2\2\2\'\u00c4\3\2\2\2)\u00c9\3\2\2\2+\u00cd\3\2\2\2"+
+		"-\u00d2\3\2\2\2/\u00d5\3\2\2\2\61\u00da\3\2\2\2\63\u00dd\3\2\2\2\65\u00e2"+
+		"\3\2\2\2\67\u00e9\3\2\2\29\u00ec\3\2\2\2;\u00ee\3\2\2\2=\u00f4\3\2\2\2"+
+		"?\u00f8\3\2\2\2A\u00fa\3\2\2\2C\u00fc\3\2\2\2E\u00fe\3\2\2\2G\u0100\3"+
+		"\2\2\2I\u0102\3\2\2\2K\u0104\3\2\2\2M\u0106\3\2\2\2O\u0109\3\2\2\2Q\u010c"+
+		"\3\2\2\2S\u010f\3\2\2\2U\u0112\3\2\2\2W\u0115\3\2\2\2Y\u0118\3\2\2\2["+
+		"\u011c\3\2\2\2]\u0122\3\2\2\2_\u0125\3\2\2\2a\u012d\3\2\2\2c\u0137\3\2"+
+		"\2\2e\u0174\3\2\2\2g\u0176\3\2\2\2i\u0188\3\2\2\2k\u018b\3\2\2\2m\u0190"+
+		"\3\2\2\2op\7e\2\2pq\7n\2\2qr\7c\2\2rs\7u\2\2st\7u\2\2t\4\3\2\2\2uv\7}"+
+		"\2\2v\6\3\2\2\2wx\7\177\2\2x\b\3\2\2\2yz\7e\2\2z{\7q\2\2{|\7p\2\2|}\7"+
+		"u\2\2}~\7v\2\2~\177\7t\2\2\177\u0080\7w\2\2\u0080\u0081\7e\2\2\u0081\u0082"+
+		"\7v\2\2\u0082\u0083\7q\2\2\u0083\u0084\7t\2\2\u0084\n\3\2\2\2\u0085\u0086"+
+		"\7*\2\2\u0086\f\3\2\2\2\u0087\u0088\7+\2\2\u0088\16\3\2\2\2\u0089\u008a"+
+		"\7.\2\2\u008a\20\3\2\2\2\u008b\u008c\7d\2\2\u008c\u008d\7q\2\2\u008d\u008e"+
+		"\7q\2\2\u008e\u008f\7n\2\2\u008f\u0090\7g\2\2\u0090\u0091\7c\2\2\u0091"+
+		"\u0092\7p\2\2\u0092\22\3\2\2\2\u0093\u0094\7]\2\2\u0094\24\3\2\2\2\u0095"+
+		"\u0096\7_\2\2\u0096\26\3\2\2\2\u0097\u0098\7u\2\2\u0098\u0099\7v\2\2\u0099"+
+		"\u009a\7t\2\2\u009a\u009b\7k\2\2\u009b\u009c\7p\2\2\u009c\u009d\7i\2\2"+
+		"\u009d\30\3\2\2\2\u009e\u009f\7e\2\2\u009f\u00a0\7j\2\2\u00a0\u00a1\7"+
+		"c\2\2\u00a1\u00a2\7t\2\2\u00a2\32\3\2\2\2\u00a3\u00a4\7d\2\2\u00a4\u00a5"+
+		"\7{\2\2\u00a5\u00a6\7v\2\2\u00a6\u00a7\7g\2\2\u00a7\34\3\2\2\2\u00a8\u00a9"+
+		"\7u\2\2\u00a9\u00aa\7j\2\2\u00aa\u00ab\7q\2\2\u00ab\u00ac\7t\2\2\u00ac"+
+		"\u00ad\7v\2\2\u00ad\36\3\2\2\2\u00ae\u00af\7k\2\2\u00af\u00b0\7p\2\2\u00b0"+
+		"\u00b1\7v\2\2\u00b1 \3\2\2\2\u00b2\u00b3\7n\2\2\u00b3\u00b4\7q\2\2\u00b4"+
+		"\u00b5\7p\2\2\u00b5\u00b6\7i\2\2\u00b6\"\3\2\2\2\u00b7\u00b8\7h\2\2\u00b8"+
+		"\u00b9\7n\2\2\u00b9\u00ba\7q\2\2\u00ba\u00bb\7c\2\2\u00bb\u00bc\7v\2\2"+
+		"\u00bc$\3\2\2\2\u00bd\u00be\7f\2\2\u00be\u00bf\7q\2\2\u00bf\u00c0\7w\2"+
+		"\2\u00c0\u00c1\7d\2\2\u00c1\u00c2\7n\2\2\u00c2\u00c3\7g\2\2\u00c3&\3\2"+
+		"\2\2\u00c4\u00c5\7x\2\2\u00c5\u00c6\7q\2\2\u00c6\u00c7\7k\2\2\u00c7\u00c8"+
+		"\7f\2\2\u00c8(\3\2\2\2\u00c9\u00ca\7h\2\2\u00ca\u00cb\7q\2\2\u00cb\u00cc"+
+		"\7t\2\2\u00cc*\3\2\2\2\u00cd\u00ce\7h\2\2\u00ce\u00cf\7t\2\2\u00cf\u00d0"+
+		"\7q\2\2\u00d0\u00d1\7o\2\2\u00d1,\3\2\2\2\u00d2\u00d3\7v\2\2\u00d3\u00d4"+
+		"\7q\2\2\u00d4.\3\2\2\2\u00d5\u00d6\7u\2\2\u00d6\u00d7\7v\2\2\u00d7\u00d8"+
+		"\7g\2\2\u00d8\u00d9\7r\2\2\u00d9\60\3\2\2\2\u00da\u00db\7k\2\2\u00db\u00dc"+
+		"\7h\2\2\u00dc\62\3\2\2\2\u00dd\u00de\7g\2\2\u00de\u00df\7n\2\2\u00df\u00e0"+
+		"\7u\2\2\u00e0\u00e1\7g\2\2\u00e1\64\3\2\2\2\u00e2\u00e3\7t\2\2\u00e3\u00e4"+
+		"\7g\2\2\u00e4\u00e5\7v\2\2\u00e5\u00e6\7w\2\2\u00e6\u00e7\7t\2\2\u00e7"+
+		"\u00e8\7p\2\2\u00e8\66\3\2\2\2\u00e9\u00ea\7/\2\2\u00ea\u00eb\7@\2\2\u00eb"+
+		"8\3\2\2\2\u00ec\u00ed\7\60\2\2\u00ed:\3\2\2\2\u00ee\u00ef\7u\2\2\u00ef"+
+		"\u00f0\7w\2\2\u00f0\u00f1\7r\2\2\u00f1\u00f2\7g\2\2\u00f2\u00f3\7t\2\2"+
+		"\u00f3<\3\2\2\2\u00f4\u00f5\7p\2\2\u00f5\u00f6\7g\2\2\u00f6\u00f7\7y\2"+
+		"\2\u00f7>\3\2\2\2\u00f8\u00f9\7#\2\2\u00f9@\3\2\2\2\u00fa\u00fb\7,\2\2"+
+		"\u00fbB\3\2\2\2\u00fc\u00fd\7\61\2\2\u00fdD\3\2\2\2\u00fe\u00ff\7-\2\2"+
+		"\u00ffF\3\2\2\2\u0100\u0101\7/\2\2\u0101H\3\2\2\2\u0102\u0103\7@\2\2\u0103"+
+		"J\3\2\2\2\u0104\u0105\7>\2\2\u0105L\3\2\2\2\u0106\u0107\7?\2\2\u0107\u0108"+
+		"\7?\2\2\u0108N\3\2\2\2\u0109\u010a\7#\2\2\u010a\u010b\7?\2\2\u010bP\3"+
+		"\2\2\2\u010c\u010d\7@\2\2\u010d\u010e\7?\2\2\u010eR\3\2\2\2\u010f\u0110"+
+		"\7>\2\2\u0110\u0111\7?\2\2\u0111T\3\2\2\2\u0112\u0113\7(\2\2\u0113\u0114"+
+		"\7(\2\2\u0114V\3\2\2\2\u0115\u0116\7~\2\2\u0116\u0117\7~\2\2\u0117X\3"+
+		"\2\2\2\u0118\u0119\7x\2\2\u0119\u011a\7c\2\2\u011a\u011b\7t\2\2\u011b"+
+		"Z\3\2\2\2\u011c\u011d\7r\2\2\u011d\u011e\7t\2\2\u011e\u011f\7k\2\2\u011f"+
+		"\u0120\7p\2\2\u0120\u0121\7v\2\2\u0121\\\3\2\2\2\u0122\u0123\7?\2\2\u0123"+
+		"^\3\2\2\2\u0124\u0126\7/\2\2\u0125\u0124\3\2\2\2\u0125\u0126\3\2\2\2\u0126"+
+		"\u0128\3\2\2\2\u0127\u0129\t\2\2\2\u0128\u0127\3\2\2\2\u0129\u012a\3\2"+
+		"\2\2\u012a\u0128\3\2\2\2\u012a\u012b\3\2\2\2\u012b`\3\2\2\2\u012c\u012e"+
+		"\7/\2\2\u012d\u012c\3\2\2\2\u012d\u012e\3\2\2\2\u012e\u0130\3\2\2\2\u012f"+
+		"\u0131\t\2\2\2\u0130\u012f\3\2\2\2\u0131\u0132\3\2\2\2\u0132\u0130\3\2"+
+		"\2\2\u0132\u0133\3\2\2\2\u0133\u0134\3\2\2\2\u0134\u0135\t\3\2\2\u0135"+
+		"b\3\2\2\2\u0136\u0138\7/\2\2\u0137\u0136\3\2\2\2\u0137\u0138\3\2\2\2\u0138"+
+		"\u014d\3\2\2\2\u0139\u013b\t\2\2\2\u013a\u0139\3\2\2\2\u013b\u013c\3\2"+
+		"\2\2\u013c\u013a\3\2\2\2\u013c\u013d\3\2\2\2\u013d\u0145\3\2\2\2\u013e"+
+		"\u0142\7\60\2\2\u013f\u0141\t\2\2\2\u0140\u013f\3\2\2\2\u0141\u0144\3"+
+		"\2\2\2\u0142\u0140\3\2\2\2\u0142\u0143\3\2\2\2\u0143\u0146\3\2\2\2\u0144"+
+		"\u0142\3\2\2\2\u0145\u013e\3\2\2\2\u0145\u0146\3\2\2\2\u0146\u014e\3\2"+
+		"\2\2\u0147\u0149\7\60\2\2\u0148\u014a\t\2\2\2\u0149\u0148\3\2\2\2\u014a"+
+		"\u014b\3\2\2\2\u014b\u0149\3\2\2\2\u014b\u014c\3\2\2\2\u014c\u014e\3\2"+
+		"\2\2\u014d\u013a\3\2\2\2\u014d\u0147\3\2\2\2\u014e\u014f\3\2\2\2\u014f"+
+		"\u0150\t\4\2\2\u0150d\3\2\2\2\u0151\u0153\7/\2\2\u0152\u0151\3\2\2\2\u0152"+
+		"\u0153\3\2\2\2\u0153\u0166\3\2\2\2\u0154\u0156\t\2\2\2\u0155\u0154\3\2"+
+		"\2\2\u0156\u0157\3\2\2\2\u0157\u0155\3\2\2\2\u0157\u0158\3\2\2\2\u0158"+
+		"\u0159\3\2\2\2\u0159\u015d\7\60\2\2\u015a\u015c\t\2\2\2\u015b\u015a\3"+
+		"\2\2\2\u015c\u015f\3\2\2\2\u015d\u015b\3\2\2\2\u015d\u015e\3\2\2\2\u015e"+
+		"\u0167\3\2\2\2\u015f\u015d\3\2\2\2\u0160\u0162\7\60\2\2\u0161\u0163\t"+
+		"\2\2\2\u0162\u0161\3\2\2\2\u0163\u0164\3\2\2\2\u0164\u0162\3\2\2\2\u0164"+
+		"\u0165\3\2\2\2\u0165\u0167\3\2\2\2\u0166\u0155\3\2\2\2\u0166\u0160\3\2"+
+		"\2\2\u0167\u0169\3\2\2\2\u0168\u016a\t\5\2\2\u0169\u0168\3\2\2\2\u0169"+
+		"\u016a\3\2\2\2\u016a\u0175\3\2\2\2\u016b\u016d\7/\2\2\u016c\u016b\3\2"+
+		"\2\2\u016c\u016d\3\2\2\2\u016d\u016f\3\2\2\2\u016e\u0170\t\2\2\2\u016f"+
+		"\u016e\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u016f\3\2\2\2\u0171\u0172\3\2"+
+		"\2\2\u0172\u0173\3\2\2\2\u0173\u0175\t\5\2\2\u0174\u0152\3\2\2\2\u0174"+
+		"\u016c\3\2\2\2\u0175f\3\2\2\2\u0176\u017a\7$\2\2\u0177\u0179\n\6\2\2\u0178"+
+		"\u0177\3\2\2\2\u0179\u017c\3\2\2\2\u017a\u0178\3\2\2\2\u017a\u017b\3\2"+
+		"\2\2\u017b\u017d\3\2\2\2\u017c\u017a\3\2\2\2\u017d\u017e\7$\2\2\u017e"+
+		"h\3\2\2\2\u017f\u0180\7v\2\2\u0180\u0181\7t\2\2\u0181\u0182\7w\2\2\u0182"+
+		"\u0189\7g\2\2\u0183\u0184\7h\2\2\u0184\u0185\7c\2\2\u0185\u0186\7n\2\2"+
+		"\u0186\u0187\7u\2\2\u0187\u0189\7g\2\2\u0188\u017f\3\2\2\2\u0188\u0183"+
+		"\3\2\2\2\u0189j\3\2\2\2\u018a\u018c\t\7\2\2\u018b\u018a\3\2\2\2\u018c"+
+		"\u018d\3\2\2\2\u018d\u018b\3\2\2\2\u018d\u018e\3\2\2\2\u018el\3\2\2\2"+
+		"\u018f\u0191\t\b\2\2\u0190\u018f\3\2\2\2\u0191\u0192\3\2\2\2\u0192\u0190"+
+		"\3\2\2\2\u0192\u0193\3\2\2\2\u0193\u0194\3\2\2\2\u0194\u0195\b\67\2\2"+
+		"\u0195n\3\2\2\2\32\2\u0125\u012a\u012d\u0132\u0137\u013c\u0142\u0145\u014b"+
+		"\u014d\u0152\u0157\u015d\u0164\u0166\u0169\u016c\u0171\u0174\u017a\u0188"+
+		"\u018d\u0192\3\b\2\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -338,17 +338,17 @@ public interface HachiListener extends ParseTreeListener {
 	 */
 	void exitNamedFunctionArgument(HachiParser.NamedFunctionArgumentContext ctx);
 	/**
-	 * Enter a parse tree produced by the {@code add}
+	 * Enter a parse tree produced by the {@code negationExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterAdd(HachiParser.AddContext ctx);
+	void enterNegationExpression(HachiParser.NegationExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by the {@code add}
+	 * Exit a parse tree produced by the {@code negationExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitAdd(HachiParser.AddContext ctx);
+	void exitNegationExpression(HachiParser.NegationExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code variableReferenceLabel}
 	 * labeled alternative in {@link HachiParser#expression}.
@@ -361,6 +361,18 @@ public interface HachiListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitVariableReferenceLabel(HachiParser.VariableReferenceLabelContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code parenthesizedExpression}
+	 * labeled alternative in {@link HachiParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterParenthesizedExpression(HachiParser.ParenthesizedExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code parenthesizedExpression}
+	 * labeled alternative in {@link HachiParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitParenthesizedExpression(HachiParser.ParenthesizedExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code valueLabel}
 	 * labeled alternative in {@link HachiParser#expression}.
@@ -374,41 +386,41 @@ public interface HachiListener extends ParseTreeListener {
 	 */
 	void exitValueLabel(HachiParser.ValueLabelContext ctx);
 	/**
-	 * Enter a parse tree produced by the {@code supercall}
+	 * Enter a parse tree produced by the {@code additiveExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterSupercall(HachiParser.SupercallContext ctx);
+	void enterAdditiveExpression(HachiParser.AdditiveExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by the {@code supercall}
+	 * Exit a parse tree produced by the {@code additiveExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitSupercall(HachiParser.SupercallContext ctx);
+	void exitAdditiveExpression(HachiParser.AdditiveExpressionContext ctx);
 	/**
-	 * Enter a parse tree produced by the {@code conditionalExpression}
+	 * Enter a parse tree produced by the {@code supercall}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterConditionalExpression(HachiParser.ConditionalExpressionContext ctx);
+	void enterSupercall(HachiParser.SupercallContext ctx);
 	/**
-	 * Exit a parse tree produced by the {@code conditionalExpression}
+	 * Exit a parse tree produced by the {@code supercall}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitConditionalExpression(HachiParser.ConditionalExpressionContext ctx);
+	void exitSupercall(HachiParser.SupercallContext ctx);
 	/**
-	 * Enter a parse tree produced by the {@code subtract}
+	 * Enter a parse tree produced by the {@code conditionalExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterSubtract(HachiParser.SubtractContext ctx);
+	void enterConditionalExpression(HachiParser.ConditionalExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by the {@code subtract}
+	 * Exit a parse tree produced by the {@code conditionalExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitSubtract(HachiParser.SubtractContext ctx);
+	void exitConditionalExpression(HachiParser.ConditionalExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code functionCall}
 	 * labeled alternative in {@link HachiParser#expression}.
@@ -422,41 +434,41 @@ public interface HachiListener extends ParseTreeListener {
 	 */
 	void exitFunctionCall(HachiParser.FunctionCallContext ctx);
 	/**
-	 * Enter a parse tree produced by the {@code divide}
+	 * Enter a parse tree produced by the {@code constructorCall}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterDivide(HachiParser.DivideContext ctx);
+	void enterConstructorCall(HachiParser.ConstructorCallContext ctx);
 	/**
-	 * Exit a parse tree produced by the {@code divide}
+	 * Exit a parse tree produced by the {@code constructorCall}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitDivide(HachiParser.DivideContext ctx);
+	void exitConstructorCall(HachiParser.ConstructorCallContext ctx);
 	/**
-	 * Enter a parse tree produced by the {@code constructorCall}
+	 * Enter a parse tree produced by the {@code multiplicativeExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterConstructorCall(HachiParser.ConstructorCallContext ctx);
+	void enterMultiplicativeExpression(HachiParser.MultiplicativeExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by the {@code constructorCall}
+	 * Exit a parse tree produced by the {@code multiplicativeExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitConstructorCall(HachiParser.ConstructorCallContext ctx);
+	void exitMultiplicativeExpression(HachiParser.MultiplicativeExpressionContext ctx);
 	/**
-	 * Enter a parse tree produced by the {@code multiply}
+	 * Enter a parse tree produced by the {@code logicalExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterMultiply(HachiParser.MultiplyContext ctx);
+	void enterLogicalExpression(HachiParser.LogicalExpressionContext ctx);
 	/**
-	 * Exit a parse tree produced by the {@code multiply}
+	 * Exit a parse tree produced by the {@code logicalExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitMultiply(HachiParser.MultiplyContext ctx);
+	void exitLogicalExpression(HachiParser.LogicalExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link HachiParser#variableReference}.
 	 * @param ctx the parse tree
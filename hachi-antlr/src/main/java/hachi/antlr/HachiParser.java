@@ -24,8 +24,9 @@ public class HachiParser extends Parser {
 		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
 		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
 		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
-		T__38=39, VARIABLE=40, PRINT=41, EQUALS=42, NUMBER=43, STRING=44, BOOLEAN=45, 
-		ID=46, WHITE_SPACE=47;
+		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, VARIABLE=44, PRINT=45, 
+		EQUALS=46, INTEGER=47, LONG=48, FLOAT=49, DOUBLE=50, STRING=51, BOOLEAN=52, 
+		ID=53, WHITE_SPACE=54;
 	public static final int
 		RULE_compilationUnit = 0, RULE_classDeclaration = 1, RULE_className = 2, 
 		RULE_classBody = 3, RULE_field = 4, RULE_constructor = 5, RULE_constructorDeclaration = 6, 
@@ -52,17 +53,17 @@ public class HachiParser extends Parser {
 	private static final String[] _LITERAL_NAMES = {
 		null, "'class'", "'{'", "'}'", "'constructor'", "'('", "')'", "','", "'boolean'", 
 		"'['", "']'", "'string'", "'char'", "'byte'", "'short'", "'int'", "'long'", 
-		"'float'", "'double'", "'void'", "'for'", "'from'", "'to'", "'if'", "'else'", 
-		"'return'", "'->'", "'*'", "'/'", "'+'", "'-'", "'>'", "'<'", "'=='", 
-		"'!='", "'>='", "'<='", "'.'", "'super'", "'new'", "'var'", "'print'", 
-		"'='"
+		"'float'", "'double'", "'void'", "'for'", "'from'", "'to'", "'step'", 
+		"'if'", "'else'", "'return'", "'->'", "'.'", "'super'", "'new'", "'!'", 
+		"'*'", "'/'", "'+'", "'-'", "'>'", "'<'", "'=='", "'!='", "'>='", "'<='", 
+		"'&&'", "'||'", "'var'", "'print'", "'='"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
 		null, null, null, null, null, null, null, null, null, null, null, null, 
-		null, null, null, null, "VARIABLE", "PRINT", "EQUALS", "NUMBER", "STRING", 
-		"BOOLEAN", "ID", "WHITE_SPACE"
+		null, null, null, null, null, null, null, null, "VARIABLE", "PRINT", "EQUALS", 
+		"INTEGER", "LONG", "FLOAT", "DOUBLE", "STRING", "BOOLEAN", "ID", "WHITE_SPACE"
 	};
 	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
 
@@ -1694,6 +1695,7 @@ public class HachiParser extends Parser {
 		public ExpressionContext startExpression;
 		public Token range;
 		public ExpressionContext endExpression;
+		public ExpressionContext stepExpression;
 		public VariableReferenceContext variableReference() {
 			return getRuleContext(VariableReferenceContext.class,0);
 		}
@@ -1725,6 +1727,7 @@ public class HachiParser extends Parser {
 	public final ForConditionContext forCondition() throws RecognitionException {
 		ForConditionContext _localctx = new ForConditionContext(_ctx, getState());
 		enterRule(_localctx, 42, RULE_forCondition);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
@@ -1738,6 +1741,18 @@ public class HachiParser extends Parser {
 			((ForConditionContext)_localctx).range = match(T__21);
 			setState(294);
 			((ForConditionContext)_localctx).endExpression = expression(0);
+			setState(297);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__22) {
+				{
+				setState(295);
+				match(T__22);
+				setState(296);
+				((ForConditionContext)_localctx).stepExpression = expression(0);
+				}
+			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1789,40 +1804,40 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(296);
-			match(T__22);
-			setState(298);
+			setState(299);
+			match(T__23);
+			setState(301);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
 			case 1:
 				{
-				setState(297);
+				setState(300);
 				match(T__4);
 				}
 				break;
 			}
-			setState(300);
+			setState(303);
 			expression(0);
-			setState(302);
+			setState(305);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__5) {
 				{
-				setState(301);
+				setState(304);
 				match(T__5);
 				}
 			}
 
-			setState(304);
-			((IfStatementContext)_localctx).trueStatement = statement();
 			setState(307);
+			((IfStatementContext)_localctx).trueStatement = statement();
+			setState(310);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 			case 1:
 				{
-				setState(305);
-				match(T__23);
-				setState(306);
+				setState(308);
+				match(T__24);
+				setState(309);
 				((IfStatementContext)_localctx).falseStatement = statement();
 				}
 				break;
@@ -1891,16 +1906,16 @@ public class HachiParser extends Parser {
 		ReturnStatementContext _localctx = new ReturnStatementContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_returnStatement);
 		try {
-			setState(312);
+			setState(315);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
 			case 1:
 				_localctx = new ReturnWithValueContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(309);
-				match(T__24);
-				setState(310);
+				setState(312);
+				match(T__25);
+				setState(313);
 				expression(0);
 				}
 				break;
@@ -1908,8 +1923,8 @@ public class HachiParser extends Parser {
 				_localctx = new ReturnVoidContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(311);
-				match(T__24);
+				setState(314);
+				match(T__25);
 				}
 				break;
 			}
@@ -1955,13 +1970,13 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(314);
+			setState(317);
 			match(PRINT);
-			setState(315);
+			setState(318);
 			match(T__4);
-			setState(316);
+			setState(319);
 			expression(0);
-			setState(317);
+			setState(320);
 			match(T__5);
 			}
 		}
@@ -2009,23 +2024,23 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(319);
+			setState(322);
 			match(T__1);
-			setState(323);
+			setState(326);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__4) | (1L << T__19) | (1L << T__22) | (1L << T__24) | (1L << T__37) | (1L << T__38) | (1L << VARIABLE) | (1L << PRINT) | (1L << NUMBER) | (1L << STRING) | (1L << BOOLEAN) | (1L << ID))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__1) | (1L << T__4) | (1L << T__19) | (1L << T__23) | (1L << T__25) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << VARIABLE) | (1L << PRINT) | (1L << INTEGER) | (1L << LONG) | (1L << FLOAT) | (1L << DOUBLE) | (1L << STRING) | (1L << BOOLEAN) | (1L << ID))) != 0)) {
 				{
 				{
-				setState(320);
+				setState(323);
 				statement();
 				}
 				}
-				setState(325);
+				setState(328);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(326);
+			setState(329);
 			match(T__2);
 			}
 		}
@@ -2067,7 +2082,7 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(328);
+			setState(331);
 			match(ID);
 			}
 		}
@@ -2111,7 +2126,7 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(330);
+			setState(333);
 			expression(0);
 			}
 		}
@@ -2187,36 +2202,36 @@ public class HachiParser extends Parser {
 		enterRule(_localctx, 56, RULE_functionArgumentList);
 		int _la;
 		try {
-			setState(352);
+			setState(355);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
 			case 1:
 				_localctx = new UnnamedFunctionArgumentListContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(333);
+				setState(336);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__37) | (1L << T__38) | (1L << NUMBER) | (1L << STRING) | (1L << BOOLEAN) | (1L << ID))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << INTEGER) | (1L << LONG) | (1L << FLOAT) | (1L << DOUBLE) | (1L << STRING) | (1L << BOOLEAN) | (1L << ID))) != 0)) {
 					{
-					setState(332);
+					setState(335);
 					functionArgument();
 					}
 				}
 
-				setState(339);
+				setState(342);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__6) {
 					{
 					{
-					setState(335);
+					setState(338);
 					match(T__6);
-					setState(336);
+					setState(339);
 					functionArgument();
 					}
 					}
-					setState(341);
+					setState(344);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -2226,29 +2241,29 @@ public class HachiParser extends Parser {
 				_localctx = new NamedFunctionArgumentListContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(343);
+				setState(346);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==ID) {
 					{
-					setState(342);
+					setState(345);
 					namedFunctionArgument();
 					}
 				}
 
-				setState(349);
+				setState(352);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__6) {
 					{
 					{
-					setState(345);
+					setState(348);
 					match(T__6);
-					setState(346);
+					setState(349);
 					namedFunctionArgument();
 					}
 					}
-					setState(351);
+					setState(354);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -2299,11 +2314,11 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(354);
+			setState(357);
 			name();
-			setState(355);
-			match(T__25);
-			setState(356);
+			setState(358);
+			match(T__26);
+			setState(359);
 			expression(0);
 			}
 		}
@@ -2329,25 +2344,22 @@ public class HachiParser extends Parser {
 			super.copyFrom(ctx);
 		}
 	}
-	public static class AddContext extends ExpressionContext {
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
-		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
+	public static class NegationExpressionContext extends ExpressionContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		public AddContext(ExpressionContext ctx) { copyFrom(ctx); }
+		public NegationExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterAdd(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterNegationExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitAdd(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitNegationExpression(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitAdd(this);
+			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitNegationExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -2370,6 +2382,25 @@ public class HachiParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
+	public static class ParenthesizedExpressionContext extends ExpressionContext {
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public ParenthesizedExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterParenthesizedExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitParenthesizedExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitParenthesizedExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 	public static class ValueLabelContext extends ExpressionContext {
 		public ValueContext value() {
 			return getRuleContext(ValueContext.class,0);
@@ -2389,6 +2420,29 @@ public class HachiParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
+	public static class AdditiveExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public AdditiveExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterAdditiveExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitAdditiveExpression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitAdditiveExpression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 	public static class SupercallContext extends ExpressionContext {
 		public Token superCall;
 		public FunctionArgumentListContext functionArgumentList() {
@@ -2432,28 +2486,6 @@ public class HachiParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
-	public static class SubtractContext extends ExpressionContext {
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
-		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
-		}
-		public SubtractContext(ExpressionContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterSubtract(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitSubtract(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitSubtract(this);
-			else return visitor.visitChildren(this);
-		}
-	}
 	public static class FunctionCallContext extends ExpressionContext {
 		public ExpressionContext owner;
 		public FunctionNameContext functionName() {
@@ -2480,70 +2512,72 @@ public class HachiParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
-	public static class DivideContext extends ExpressionContext {
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
+	public static class ConstructorCallContext extends ExpressionContext {
+		public Token newCall;
+		public ClassNameContext className() {
+			return getRuleContext(ClassNameContext.class,0);
 		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
+		public FunctionArgumentListContext functionArgumentList() {
+			return getRuleContext(FunctionArgumentListContext.class,0);
 		}
-		public DivideContext(ExpressionContext ctx) { copyFrom(ctx); }
+		public ConstructorCallContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterDivide(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterConstructorCall(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitDivide(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitConstructorCall(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitDivide(this);
+			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitConstructorCall(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-	public static class ConstructorCallContext extends ExpressionContext {
-		public Token newCall;
-		public ClassNameContext className() {
-			return getRuleContext(ClassNameContext.class,0);
+	public static class MultiplicativeExpressionContext extends ExpressionContext {
+		public Token operator;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public FunctionArgumentListContext functionArgumentList() {
-			return getRuleContext(FunctionArgumentListContext.class,0);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		public ConstructorCallContext(ExpressionContext ctx) { copyFrom(ctx); }
+		public MultiplicativeExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterConstructorCall(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterMultiplicativeExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitConstructorCall(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitMultiplicativeExpression(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitConstructorCall(this);
+			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitMultiplicativeExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-	public static class MultiplyContext extends ExpressionContext {
+	public static class LogicalExpressionContext extends ExpressionContext {
+		public Token operator;
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
 		public ExpressionContext expression(int i) {
 			return getRuleContext(ExpressionContext.class,i);
 		}
-		public MultiplyContext(ExpressionContext ctx) { copyFrom(ctx); }
+		public LogicalExpressionContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterMultiply(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).enterLogicalExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitMultiply(this);
+			if ( listener instanceof HachiListener ) ((HachiListener)listener).exitLogicalExpression(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitMultiply(this);
+			if ( visitor instanceof HachiVisitor ) return ((HachiVisitor<? extends T>)visitor).visitLogicalExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -2559,305 +2593,229 @@ public class HachiParser extends Parser {
 		ExpressionContext _prevctx = _localctx;
 		int _startState = 60;
 		enterRecursionRule(_localctx, 60, RULE_expression, _p);
+		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(401);
+			setState(386);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
 			case 1:
 				{
-				_localctx = new ValueLabelContext(_localctx);
+				_localctx = new FunctionCallContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(359);
-				value();
-				}
-				break;
-			case 2:
-				{
-				_localctx = new VariableReferenceLabelContext(_localctx);
-				_ctx = _localctx;
-				_prevctx = _localctx;
-				setState(360);
-				variableReference();
-				}
-				break;
-			case 3:
-				{
-				_localctx = new MultiplyContext(_localctx);
-				_ctx = _localctx;
-				_prevctx = _localctx;
-				setState(361);
-				match(T__4);
 				setState(362);
-				expression(0);
+				functionName();
 				setState(363);
-				match(T__26);
+				match(T__4);
 				setState(364);
-				expression(0);
+				functionArgumentList();
 				setState(365);
 				match(T__5);
 				}
 				break;
-			case 4:
+			case 2:
 				{
-				_localctx = new DivideContext(_localctx);
+				_localctx = new SupercallContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 				setState(367);
-				match(T__4);
+				((SupercallContext)_localctx).superCall = match(T__28);
 				setState(368);
-				expression(0);
+				match(T__4);
 				setState(369);
-				match(T__27);
+				functionArgumentList();
 				setState(370);
-				expression(0);
-				setState(371);
 				match(T__5);
 				}
 				break;
-			case 5:
+			case 3:
 				{
-				_localctx = new AddContext(_localctx);
+				_localctx = new ConstructorCallContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
+				setState(372);
+				((ConstructorCallContext)_localctx).newCall = match(T__29);
 				setState(373);
-				match(T__4);
+				className();
 				setState(374);
-				expression(0);
+				match(T__4);
 				setState(375);
-				match(T__28);
+				functionArgumentList();
 				setState(376);
-				expression(0);
-				setState(377);
 				match(T__5);
 				}
 				break;
-			case 6:
+			case 4:
 				{
-				_localctx = new SubtractContext(_localctx);
+				_localctx = new ValueLabelContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(379);
-				match(T__4);
-				setState(380);
-				expression(0);
-				setState(381);
-				match(T__29);
-				setState(382);
-				expression(0);
-				setState(383);
-				match(T__5);
+				setState(378);
+				value();
 				}
 				break;
-			case 7:
+			case 5:
 				{
-				_localctx = new FunctionCallContext(_localctx);
+				_localctx = new VariableReferenceLabelContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(385);
-				functionName();
-				setState(386);
-				match(T__4);
-				setState(387);
-				functionArgumentList();
-				setState(388);
-				match(T__5);
+				setState(379);
+				variableReference();
 				}
 				break;
-			case 8:
+			case 6:
 				{
-				_localctx = new SupercallContext(_localctx);
+				_localctx = new ParenthesizedExpressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(390);
-				((SupercallContext)_localctx).superCall = match(T__37);
-				setState(391);
+				setState(380);
 				match(T__4);
-				setState(392);
-				functionArgumentList();
-				setState(393);
+				setState(381);
+				expression(0);
+				setState(382);
 				match(T__5);
 				}
 				break;
-			case 9:
+			case 7:
 				{
-				_localctx = new ConstructorCallContext(_localctx);
+				_localctx = new NegationExpressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(395);
-				((ConstructorCallContext)_localctx).newCall = match(T__38);
-				setState(396);
-				className();
-				setState(397);
-				match(T__4);
-				setState(398);
-				functionArgumentList();
-				setState(399);
-				match(T__5);
+				setState(384);
+				match(T__30);
+				setState(385);
+				expression(6);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(442);
+			setState(412);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(440);
+					setState(410);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
 					case 1:
 						{
-						_localctx = new MultiplyContext(new ExpressionContext(_parentctx, _parentState));
+						_localctx = new MultiplicativeExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(403);
-						if (!(precpred(_ctx, 17))) throw new FailedPredicateException(this, "precpred(_ctx, 17)");
-						setState(404);
-						match(T__26);
-						setState(405);
-						expression(18);
+						setState(388);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(389);
+						((MultiplicativeExpressionContext)_localctx).operator = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__31 || _la==T__32) ) {
+							((MultiplicativeExpressionContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
 						}
-						break;
-					case 2:
-						{
-						_localctx = new DivideContext(new ExpressionContext(_parentctx, _parentState));
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(406);
-						if (!(precpred(_ctx, 15))) throw new FailedPredicateException(this, "precpred(_ctx, 15)");
-						setState(407);
-						match(T__27);
-						setState(408);
-						expression(16);
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
 						}
-						break;
-					case 3:
-						{
-						_localctx = new AddContext(new ExpressionContext(_parentctx, _parentState));
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(409);
-						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
-						setState(410);
-						match(T__28);
-						setState(411);
-						expression(14);
+						setState(390);
+						expression(6);
 						}
 						break;
-					case 4:
+					case 2:
 						{
-						_localctx = new SubtractContext(new ExpressionContext(_parentctx, _parentState));
+						_localctx = new AdditiveExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(412);
-						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(413);
-						match(T__29);
-						setState(414);
-						expression(12);
+						setState(391);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(392);
+						((AdditiveExpressionContext)_localctx).operator = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !(_la==T__33 || _la==T__34) ) {
+							((AdditiveExpressionContext)_localctx).operator = (Token)_errHandler.recoverInline(this);
 						}
-						break;
-					case 5:
-						{
-						_localctx = new ConditionalExpressionContext(new ExpressionContext(_parentctx, _parentState));
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(415);
-						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(416);
-						((ConditionalExpressionContext)_localctx).cmp = match(T__30);
-						setState(417);
-						expression(11);
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
 						}
-						break;
-					case 6:
-						{
-						_localctx = new ConditionalExpressionContext(new ExpressionContext(_parentctx, _parentState));
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(418);
-						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(419);
-						((ConditionalExpressionContext)_localctx).cmp = match(T__31);
-						setState(420);
-						expression(10);
+						setState(393);
+						expression(5);
 						}
 						break;
-					case 7:
+					case 3:
 						{
 						_localctx = new ConditionalExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(421);
-						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(422);
-						((ConditionalExpressionContext)_localctx).cmp = match(T__32);
-						setState(423);
-						expression(9);
+						setState(394);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(395);
+						((ConditionalExpressionContext)_localctx).cmp = _input.LT(1);
+						_la = _input.LA(1);
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40))) != 0)) ) {
+							((ConditionalExpressionContext)_localctx).cmp = (Token)_errHandler.recoverInline(this);
 						}
-						break;
-					case 8:
-						{
-						_localctx = new ConditionalExpressionContext(new ExpressionContext(_parentctx, _parentState));
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(424);
-						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(425);
-						((ConditionalExpressionContext)_localctx).cmp = match(T__33);
-						setState(426);
-						expression(8);
+						else {
+							if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+							_errHandler.reportMatch(this);
+							consume();
+						}
+						setState(396);
+						expression(4);
 						}
 						break;
-					case 9:
+					case 4:
 						{
-						_localctx = new ConditionalExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						_localctx = new LogicalExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(427);
-						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(428);
-						((ConditionalExpressionContext)_localctx).cmp = match(T__34);
-						setState(429);
-						expression(7);
+						setState(397);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(398);
+						((LogicalExpressionContext)_localctx).operator = match(T__41);
+						setState(399);
+						expression(3);
 						}
 						break;
-					case 10:
+					case 5:
 						{
-						_localctx = new ConditionalExpressionContext(new ExpressionContext(_parentctx, _parentState));
+						_localctx = new LogicalExpressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(430);
-						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(431);
-						((ConditionalExpressionContext)_localctx).cmp = match(T__35);
-						setState(432);
-						expression(6);
+						setState(400);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(401);
+						((LogicalExpressionContext)_localctx).operator = match(T__42);
+						setState(402);
+						expression(2);
 						}
 						break;
-					case 11:
+					case 6:
 						{
 						_localctx = new FunctionCallContext(new ExpressionContext(_parentctx, _parentState));
 						((FunctionCallContext)_localctx).owner = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(433);
-						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(434);
-						match(T__36);
-						setState(435);
+						setState(403);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(404);
+						match(T__27);
+						setState(405);
 						functionName();
-						setState(436);
+						setState(406);
 						match(T__4);
-						setState(437);
+						setState(407);
 						functionArgumentList();
-						setState(438);
+						setState(408);
 						match(T__5);
 						}
 						break;
 					}
 					} 
 				}
-				setState(444);
+				setState(414);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 			}
 			}
 		}
@@ -2899,7 +2857,7 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(445);
+			setState(415);
 			match(ID);
 			}
 		}
@@ -2915,7 +2873,10 @@ public class HachiParser extends Parser {
 	}
 
 	public static class ValueContext extends ParserRuleContext {
-		public TerminalNode NUMBER() { return getToken(HachiParser.NUMBER, 0); }
+		public TerminalNode INTEGER() { return getToken(HachiParser.INTEGER, 0); }
+		public TerminalNode LONG() { return getToken(HachiParser.LONG, 0); }
+		public TerminalNode FLOAT() { return getToken(HachiParser.FLOAT, 0); }
+		public TerminalNode DOUBLE() { return getToken(HachiParser.DOUBLE, 0); }
 		public TerminalNode STRING() { return getToken(HachiParser.STRING, 0); }
 		public TerminalNode BOOLEAN() { return getToken(HachiParser.BOOLEAN, 0); }
 		public ValueContext(ParserRuleContext parent, int invokingState) {
@@ -2944,9 +2905,9 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(447);
+			setState(417);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NUMBER) | (1L << STRING) | (1L << BOOLEAN))) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INTEGER) | (1L << LONG) | (1L << FLOAT) | (1L << DOUBLE) | (1L << STRING) | (1L << BOOLEAN))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -2998,21 +2959,21 @@ public class HachiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(449);
+			setState(419);
 			match(ID);
-			setState(454);
+			setState(424);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__36) {
+			while (_la==T__27) {
 				{
 				{
-				setState(450);
-				match(T__36);
-				setState(451);
+				setState(420);
+				match(T__27);
+				setState(421);
 				match(ID);
 				}
 				}
-				setState(456);
+				setState(426);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3039,35 +3000,25 @@ public class HachiParser extends Parser {
 	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
 		switch (predIndex) {
 		case 0:
-			return precpred(_ctx, 17);
+			return precpred(_ctx, 5);
 		case 1:
-			return precpred(_ctx, 15);
+			return precpred(_ctx, 4);
 		case 2:
-			return precpred(_ctx, 13);
+			return precpred(_ctx, 3);
 		case 3:
-			return precpred(_ctx, 11);
+			return precpred(_ctx, 2);
 		case 4:
-			return precpred(_ctx, 10);
+			return precpred(_ctx, 1);
 		case 5:
-			return precpred(_ctx, 9);
-		case 6:
-			return precpred(_ctx, 8);
-		case 7:
-			return precpred(_ctx, 7);
-		case 8:
-			return precpred(_ctx, 6);
-		case 9:
-			return precpred(_ctx, 5);
-		case 10:
-			return precpred(_ctx, 4);
+			return precpred(_ctx, 13);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\61\u01cc\4\2\t\2"+
-		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
-		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\38\u01ae\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
 		"\t!\4\"\t\"\4#\t#\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\5\7\5"+
@@ -3089,149 +3040,139 @@ public class HachiParser extends Parser {
 		"\16\22\u0106\13\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u0110"+
 		"\n\23\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\26\3\26\5\26\u011d"+
 		"\n\26\3\26\3\26\5\26\u0121\n\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27"+
-		"\3\30\3\30\5\30\u012d\n\30\3\30\3\30\5\30\u0131\n\30\3\30\3\30\3\30\5"+
-		"\30\u0136\n\30\3\31\3\31\3\31\5\31\u013b\n\31\3\32\3\32\3\32\3\32\3\32"+
-		"\3\33\3\33\7\33\u0144\n\33\f\33\16\33\u0147\13\33\3\33\3\33\3\34\3\34"+
-		"\3\35\3\35\3\36\5\36\u0150\n\36\3\36\3\36\7\36\u0154\n\36\f\36\16\36\u0157"+
-		"\13\36\3\36\5\36\u015a\n\36\3\36\3\36\7\36\u015e\n\36\f\36\16\36\u0161"+
-		"\13\36\5\36\u0163\n\36\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3 \3 \3 \3 "+
-		"\3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 "+
-		"\3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \5 \u0194\n \3 \3 \3 \3 \3 \3 \3 \3 "+
-		"\3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 "+
-		"\3 \3 \3 \3 \3 \3 \7 \u01bb\n \f \16 \u01be\13 \3!\3!\3\"\3\"\3#\3#\3"+
-		"#\7#\u01c7\n#\f#\16#\u01ca\13#\3#\2\3>$\2\4\6\b\n\f\16\20\22\24\26\30"+
-		"\32\34\36 \"$&(*,.\60\62\64\668:<>@BD\2\3\3\2-/\2\u01f4\2F\3\2\2\2\4I"+
-		"\3\2\2\2\6O\3\2\2\2\bT\3\2\2\2\nc\3\2\2\2\ff\3\2\2\2\16i\3\2\2\2\20s\3"+
-		"\2\2\2\22w\3\2\2\2\24\u0083\3\2\2\2\26\u009d\3\2\2\2\30\u009f\3\2\2\2"+
-		"\32\u00a2\3\2\2\2\34\u00a7\3\2\2\2\36\u00ab\3\2\2\2 \u00fd\3\2\2\2\"\u00ff"+
-		"\3\2\2\2$\u010f\3\2\2\2&\u0111\3\2\2\2(\u0116\3\2\2\2*\u011a\3\2\2\2,"+
-		"\u0124\3\2\2\2.\u012a\3\2\2\2\60\u013a\3\2\2\2\62\u013c\3\2\2\2\64\u0141"+
-		"\3\2\2\2\66\u014a\3\2\2\28\u014c\3\2\2\2:\u0162\3\2\2\2<\u0164\3\2\2\2"+
-		">\u0193\3\2\2\2@\u01bf\3\2\2\2B\u01c1\3\2\2\2D\u01c3\3\2\2\2FG\5\4\3\2"+
-		"GH\7\2\2\3H\3\3\2\2\2IJ\7\3\2\2JK\5\6\4\2KL\7\4\2\2LM\5\b\5\2MN\7\5\2"+
-		"\2N\5\3\2\2\2OP\5D#\2P\7\3\2\2\2QS\5\n\6\2RQ\3\2\2\2SV\3\2\2\2TR\3\2\2"+
-		"\2TU\3\2\2\2UZ\3\2\2\2VT\3\2\2\2WY\5\f\7\2XW\3\2\2\2Y\\\3\2\2\2ZX\3\2"+
-		"\2\2Z[\3\2\2\2[`\3\2\2\2\\Z\3\2\2\2]_\5\20\t\2^]\3\2\2\2_b\3\2\2\2`^\3"+
-		"\2\2\2`a\3\2\2\2a\t\3\2\2\2b`\3\2\2\2cd\5\36\20\2de\5\66\34\2e\13\3\2"+
-		"\2\2fg\5\16\b\2gh\5\34\17\2h\r\3\2\2\2ik\7\6\2\2jl\7\7\2\2kj\3\2\2\2k"+
-		"l\3\2\2\2ln\3\2\2\2mo\5\26\f\2nm\3\2\2\2no\3\2\2\2oq\3\2\2\2pr\7\b\2\2"+
-		"qp\3\2\2\2qr\3\2\2\2r\17\3\2\2\2st\5\22\n\2tu\5\34\17\2u\21\3\2\2\2vx"+
-		"\5\36\20\2wv\3\2\2\2wx\3\2\2\2xy\3\2\2\2y{\5\24\13\2z|\7\7\2\2{z\3\2\2"+
-		"\2{|\3\2\2\2|~\3\2\2\2}\177\5\26\f\2~}\3\2\2\2~\177\3\2\2\2\177\u0081"+
-		"\3\2\2\2\u0080\u0082\7\b\2\2\u0081\u0080\3\2\2\2\u0081\u0082\3\2\2\2\u0082"+
-		"\23\3\2\2\2\u0083\u0084\7\60\2\2\u0084\25\3\2\2\2\u0085\u008a\5\30\r\2"+
-		"\u0086\u0087\7\t\2\2\u0087\u0089\5\30\r\2\u0088\u0086\3\2\2\2\u0089\u008c"+
-		"\3\2\2\2\u008a\u0088\3\2\2\2\u008a\u008b\3\2\2\2\u008b\u009e\3\2\2\2\u008c"+
-		"\u008a\3\2\2\2\u008d\u0092\5\30\r\2\u008e\u008f\7\t\2\2\u008f\u0091\5"+
-		"\32\16\2\u0090\u008e\3\2\2\2\u0091\u0094\3\2\2\2\u0092\u0090\3\2\2\2\u0092"+
-		"\u0093\3\2\2\2\u0093\u009e\3\2\2\2\u0094\u0092\3\2\2\2\u0095\u009a\5\32"+
-		"\16\2\u0096\u0097\7\t\2\2\u0097\u0099\5\32\16\2\u0098\u0096\3\2\2\2\u0099"+
-		"\u009c\3\2\2\2\u009a\u0098\3\2\2\2\u009a\u009b\3\2\2\2\u009b\u009e\3\2"+
-		"\2\2\u009c\u009a\3\2\2\2\u009d\u0085\3\2\2\2\u009d\u008d\3\2\2\2\u009d"+
-		"\u0095\3\2\2\2\u009e\27\3\2\2\2\u009f\u00a0\5\36\20\2\u00a0\u00a1\7\60"+
-		"\2\2\u00a1\31\3\2\2\2\u00a2\u00a3\5\36\20\2\u00a3\u00a4\7\60\2\2\u00a4"+
-		"\u00a5\7,\2\2\u00a5\u00a6\5> \2\u00a6\33\3\2\2\2\u00a7\u00a8\5\64\33\2"+
-		"\u00a8\35\3\2\2\2\u00a9\u00ac\5 \21\2\u00aa\u00ac\5\"\22\2\u00ab\u00a9"+
-		"\3\2\2\2\u00ab\u00aa\3\2\2\2\u00ac\37\3\2\2\2\u00ad\u00b2\7\n\2\2\u00ae"+
-		"\u00af\7\13\2\2\u00af\u00b1\7\f\2\2\u00b0\u00ae\3\2\2\2\u00b1\u00b4\3"+
-		"\2\2\2\u00b2\u00b0\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3\u00fe\3\2\2\2\u00b4"+
-		"\u00b2\3\2\2\2\u00b5\u00ba\7\r\2\2\u00b6\u00b7\7\13\2\2\u00b7\u00b9\7"+
-		"\f\2\2\u00b8\u00b6\3\2\2\2\u00b9\u00bc\3\2\2\2\u00ba\u00b8\3\2\2\2\u00ba"+
-		"\u00bb\3\2\2\2\u00bb\u00fe\3\2\2\2\u00bc\u00ba\3\2\2\2\u00bd\u00c2\7\16"+
-		"\2\2\u00be\u00bf\7\13\2\2\u00bf\u00c1\7\f\2\2\u00c0\u00be\3\2\2\2\u00c1"+
-		"\u00c4\3\2\2\2\u00c2\u00c0\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3\u00fe\3\2"+
-		"\2\2\u00c4\u00c2\3\2\2\2\u00c5\u00ca\7\17\2\2\u00c6\u00c7\7\13\2\2\u00c7"+
-		"\u00c9\7\f\2\2\u00c8\u00c6\3\2\2\2\u00c9\u00cc\3\2\2\2\u00ca\u00c8\3\2"+
-		"\2\2\u00ca\u00cb\3\2\2\2\u00cb\u00fe\3\2\2\2\u00cc\u00ca\3\2\2\2\u00cd"+
-		"\u00d2\7\20\2\2\u00ce\u00cf\7\13\2\2\u00cf\u00d1\7\f\2\2\u00d0\u00ce\3"+
-		"\2\2\2\u00d1\u00d4\3\2\2\2\u00d2\u00d0\3\2\2\2\u00d2\u00d3\3\2\2\2\u00d3"+
-		"\u00fe\3\2\2\2\u00d4\u00d2\3\2\2\2\u00d5\u00da\7\21\2\2\u00d6\u00d7\7"+
-		"\13\2\2\u00d7\u00d9\7\f\2\2\u00d8\u00d6\3\2\2\2\u00d9\u00dc\3\2\2\2\u00da"+
-		"\u00d8\3\2\2\2\u00da\u00db\3\2\2\2\u00db\u00fe\3\2\2\2\u00dc\u00da\3\2"+
-		"\2\2\u00dd\u00e2\7\22\2\2\u00de\u00df\7\13\2\2\u00df\u00e1\7\f\2\2\u00e0"+
-		"\u00de\3\2\2\2\u00e1\u00e4\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e3\3\2"+
-		"\2\2\u00e3\u00fe\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e5\u00ea\7\23\2\2\u00e6"+
-		"\u00e7\7\13\2\2\u00e7\u00e9\7\f\2\2\u00e8\u00e6\3\2\2\2\u00e9\u00ec\3"+
-		"\2\2\2\u00ea\u00e8\3\2\2\2\u00ea\u00eb\3\2\2\2\u00eb\u00fe\3\2\2\2\u00ec"+
-		"\u00ea\3\2\2\2\u00ed\u00f2\7\24\2\2\u00ee\u00ef\7\13\2\2\u00ef\u00f1\7"+
-		"\f\2\2\u00f0\u00ee\3\2\2\2\u00f1\u00f4\3\2\2\2\u00f2\u00f0\3\2\2\2\u00f2"+
-		"\u00f3\3\2\2\2\u00f3\u00fe\3\2\2\2\u00f4\u00f2\3\2\2\2\u00f5\u00fa\7\25"+
-		"\2\2\u00f6\u00f7\7\13\2\2\u00f7\u00f9\7\f\2\2\u00f8\u00f6\3\2\2\2\u00f9"+
-		"\u00fc\3\2\2\2\u00fa\u00f8\3\2\2\2\u00fa\u00fb\3\2\2\2\u00fb\u00fe\3\2"+
-		"\2\2\u00fc\u00fa\3\2\2\2\u00fd\u00ad\3\2\2\2\u00fd\u00b5\3\2\2\2\u00fd"+
-		"\u00bd\3\2\2\2\u00fd\u00c5\3\2\2\2\u00fd\u00cd\3\2\2\2\u00fd\u00d5\3\2"+
-		"\2\2\u00fd\u00dd\3\2\2\2\u00fd\u00e5\3\2\2\2\u00fd\u00ed\3\2\2\2\u00fd"+
-		"\u00f5\3\2\2\2\u00fe!\3\2\2\2\u00ff\u0104\5D#\2\u0100\u0101\7\13\2\2\u0101"+
-		"\u0103\7\f\2\2\u0102\u0100\3\2\2\2\u0103\u0106\3\2\2\2\u0104\u0102\3\2"+
-		"\2\2\u0104\u0105\3\2\2\2\u0105#\3\2\2\2\u0106\u0104\3\2\2\2\u0107\u0110"+
-		"\5&\24\2\u0108\u0110\5(\25\2\u0109\u0110\5*\26\2\u010a\u0110\5.\30\2\u010b"+
-		"\u0110\5\60\31\2\u010c\u0110\5\62\32\2\u010d\u0110\5\64\33\2\u010e\u0110"+
-		"\5> \2\u010f\u0107\3\2\2\2\u010f\u0108\3\2\2\2\u010f\u0109\3\2\2\2\u010f"+
-		"\u010a\3\2\2\2\u010f\u010b\3\2\2\2\u010f\u010c\3\2\2\2\u010f\u010d\3\2"+
-		"\2\2\u010f\u010e\3\2\2\2\u0110%\3\2\2\2\u0111\u0112\7*\2\2\u0112\u0113"+
-		"\5\66\34\2\u0113\u0114\7,\2\2\u0114\u0115\5> \2\u0115\'\3\2\2\2\u0116"+
-		"\u0117\5\66\34\2\u0117\u0118\7,\2\2\u0118\u0119\5> \2\u0119)\3\2\2\2\u011a"+
-		"\u011c\7\26\2\2\u011b\u011d\7\7\2\2\u011c\u011b\3\2\2\2\u011c\u011d\3"+
-		"\2\2\2\u011d\u011e\3\2\2\2\u011e\u0120\5,\27\2\u011f\u0121\7\b\2\2\u0120"+
-		"\u011f\3\2\2\2\u0120\u0121\3\2\2\2\u0121\u0122\3\2\2\2\u0122\u0123\5$"+
-		"\23\2\u0123+\3\2\2\2\u0124\u0125\5@!\2\u0125\u0126\7\27\2\2\u0126\u0127"+
-		"\5> \2\u0127\u0128\7\30\2\2\u0128\u0129\5> \2\u0129-\3\2\2\2\u012a\u012c"+
-		"\7\31\2\2\u012b\u012d\7\7\2\2\u012c\u012b\3\2\2\2\u012c\u012d\3\2\2\2"+
-		"\u012d\u012e\3\2\2\2\u012e\u0130\5> \2\u012f\u0131\7\b\2\2\u0130\u012f"+
-		"\3\2\2\2\u0130\u0131\3\2\2\2\u0131\u0132\3\2\2\2\u0132\u0135\5$\23\2\u0133"+
-		"\u0134\7\32\2\2\u0134\u0136\5$\23\2\u0135\u0133\3\2\2\2\u0135\u0136\3"+
-		"\2\2\2\u0136/\3\2\2\2\u0137\u0138\7\33\2\2\u0138\u013b\5> \2\u0139\u013b"+
-		"\7\33\2\2\u013a\u0137\3\2\2\2\u013a\u0139\3\2\2\2\u013b\61\3\2\2\2\u013c"+
-		"\u013d\7+\2\2\u013d\u013e\7\7\2\2\u013e\u013f\5> \2\u013f\u0140\7\b\2"+
-		"\2\u0140\63\3\2\2\2\u0141\u0145\7\4\2\2\u0142\u0144\5$\23\2\u0143\u0142"+
-		"\3\2\2\2\u0144\u0147\3\2\2\2\u0145\u0143\3\2\2\2\u0145\u0146\3\2\2\2\u0146"+
-		"\u0148\3\2\2\2\u0147\u0145\3\2\2\2\u0148\u0149\7\5\2\2\u0149\65\3\2\2"+
-		"\2\u014a\u014b\7\60\2\2\u014b\67\3\2\2\2\u014c\u014d\5> \2\u014d9\3\2"+
-		"\2\2\u014e\u0150\58\35\2\u014f\u014e\3\2\2\2\u014f\u0150\3\2\2\2\u0150"+
-		"\u0155\3\2\2\2\u0151\u0152\7\t\2\2\u0152\u0154\58\35\2\u0153\u0151\3\2"+
-		"\2\2\u0154\u0157\3\2\2\2\u0155\u0153\3\2\2\2\u0155\u0156\3\2\2\2\u0156"+
-		"\u0163\3\2\2\2\u0157\u0155\3\2\2\2\u0158\u015a\5<\37\2\u0159\u0158\3\2"+
-		"\2\2\u0159\u015a\3\2\2\2\u015a\u015f\3\2\2\2\u015b\u015c\7\t\2\2\u015c"+
-		"\u015e\5<\37\2\u015d\u015b\3\2\2\2\u015e\u0161\3\2\2\2\u015f\u015d\3\2"+
-		"\2\2\u015f\u0160\3\2\2\2\u0160\u0163\3\2\2\2\u0161\u015f\3\2\2\2\u0162"+
-		"\u014f\3\2\2\2\u0162\u0159\3\2\2\2\u0163;\3\2\2\2\u0164\u0165\5\66\34"+
-		"\2\u0165\u0166\7\34\2\2\u0166\u0167\5> \2\u0167=\3\2\2\2\u0168\u0169\b"+
-		" \1\2\u0169\u0194\5B\"\2\u016a\u0194\5@!\2\u016b\u016c\7\7\2\2\u016c\u016d"+
-		"\5> \2\u016d\u016e\7\35\2\2\u016e\u016f\5> \2\u016f\u0170\7\b\2\2\u0170"+
-		"\u0194\3\2\2\2\u0171\u0172\7\7\2\2\u0172\u0173\5> \2\u0173\u0174\7\36"+
-		"\2\2\u0174\u0175\5> \2\u0175\u0176\7\b\2\2\u0176\u0194\3\2\2\2\u0177\u0178"+
-		"\7\7\2\2\u0178\u0179\5> \2\u0179\u017a\7\37\2\2\u017a\u017b\5> \2\u017b"+
-		"\u017c\7\b\2\2\u017c\u0194\3\2\2\2\u017d\u017e\7\7\2\2\u017e\u017f\5>"+
-		" \2\u017f\u0180\7 \2\2\u0180\u0181\5> \2\u0181\u0182\7\b\2\2\u0182\u0194"+
-		"\3\2\2\2\u0183\u0184\5\24\13\2\u0184\u0185\7\7\2\2\u0185\u0186\5:\36\2"+
-		"\u0186\u0187\7\b\2\2\u0187\u0194\3\2\2\2\u0188\u0189\7(\2\2\u0189\u018a"+
-		"\7\7\2\2\u018a\u018b\5:\36\2\u018b\u018c\7\b\2\2\u018c\u0194\3\2\2\2\u018d"+
-		"\u018e\7)\2\2\u018e\u018f\5\6\4\2\u018f\u0190\7\7\2\2\u0190\u0191\5:\36"+
-		"\2\u0191\u0192\7\b\2\2\u0192\u0194\3\2\2\2\u0193\u0168\3\2\2\2\u0193\u016a"+
-		"\3\2\2\2\u0193\u016b\3\2\2\2\u0193\u0171\3\2\2\2\u0193\u0177\3\2\2\2\u0193"+
-		"\u017d\3\2\2\2\u0193\u0183\3\2\2\2\u0193\u0188\3\2\2\2\u0193\u018d\3\2"+
-		"\2\2\u0194\u01bc\3\2\2\2\u0195\u0196\f\23\2\2\u0196\u0197\7\35\2\2\u0197"+
-		"\u01bb\5> \24\u0198\u0199\f\21\2\2\u0199\u019a\7\36\2\2\u019a\u01bb\5"+
-		"> \22\u019b\u019c\f\17\2\2\u019c\u019d\7\37\2\2\u019d\u01bb\5> \20\u019e"+
-		"\u019f\f\r\2\2\u019f\u01a0\7 \2\2\u01a0\u01bb\5> \16\u01a1\u01a2\f\f\2"+
-		"\2\u01a2\u01a3\7!\2\2\u01a3\u01bb\5> \r\u01a4\u01a5\f\13\2\2\u01a5\u01a6"+
-		"\7\"\2\2\u01a6\u01bb\5> \f\u01a7\u01a8\f\n\2\2\u01a8\u01a9\7#\2\2\u01a9"+
-		"\u01bb\5> \13\u01aa\u01ab\f\t\2\2\u01ab\u01ac\7$\2\2\u01ac\u01bb\5> \n"+
-		"\u01ad\u01ae\f\b\2\2\u01ae\u01af\7%\2\2\u01af\u01bb\5> \t\u01b0\u01b1"+
-		"\f\7\2\2\u01b1\u01b2\7&\2\2\u01b2\u01bb\5> \b\u01b3\u01b4\f\6\2\2\u01b4"+
-		"\u01b5\7\'\2\2\u01b5\u01b6\5\24\13\2\u01b6\u01b7\7\7\2\2\u01b7\u01b8\5"+
-		":\36\2\u01b8\u01b9\7\b\2\2\u01b9\u01bb\3\2\2\2\u01ba\u0195\3\2\2\2\u01ba"+
-		"\u0198\3\2\2\2\u01ba\u019b\3\2\2\2\u01ba\u019e\3\2\2\2\u01ba\u01a1\3\2"+
-		"\2\2\u01ba\u01a4\3\2\2\2\u01ba\u01a7\3\2\2\2\u01ba\u01aa\3\2\2\2\u01ba"+
-		"\u01ad\3\2\2\2\u01ba\u01b0\3\2\2\2\u01ba\u01b3\3\2\2\2\u01bb\u01be\3\2"+
-		"\2\2\u01bc\u01ba\3\2\2\2\u01bc\u01bd\3\2\2\2\u01bd?\3\2\2\2\u01be\u01bc"+
-		"\3\2\2\2\u01bf\u01c0\7\60\2\2\u01c0A\3\2\2\2\u01c1\u01c2\t\2\2\2\u01c2"+
-		"C\3\2\2\2\u01c3\u01c8\7\60\2\2\u01c4\u01c5\7\'\2\2\u01c5\u01c7\7\60\2"+
-		"\2\u01c6\u01c4\3\2\2\2\u01c7\u01ca\3\2\2\2\u01c8\u01c6\3\2\2\2\u01c8\u01c9"+
-		"\3\2\2\2\u01c9E\3\2\2\2\u01ca\u01c8\3\2\2\2.TZ`knqw{~\u0081\u008a\u0092"+
-		"\u009a\u009d\u00ab\u00b2\u00ba\u00c2\u00ca\u00d2\u00da\u00e2\u00ea\u00f2"+
-		"\u00fa\u00fd\u0104\u010f\u011c\u0120\u012c\u0130\u0135\u013a\u0145\u014f"+
-		"\u0155\u0159\u015f\u0162\u0193\u01ba\u01bc\u01c8";
+		"\3\27\5\27\u012c\n\27\3\30\3\30\5\30\u0130\n\30\3\30\3\30\5\30\u0134\n"+
+		"\30\3\30\3\30\3\30\5\30\u0139\n\30\3\31\3\31\3\31\5\31\u013e\n\31\3\32"+
+		"\3\32\3\32\3\32\3\32\3\33\3\33\7\33\u0147\n\33\f\33\16\33\u014a\13\33"+
+		"\3\33\3\33\3\34\3\34\3\35\3\35\3\36\5\36\u0153\n\36\3\36\3\36\7\36\u0157"+
+		"\n\36\f\36\16\36\u015a\13\36\3\36\5\36\u015d\n\36\3\36\3\36\7\36\u0161"+
+		"\n\36\f\36\16\36\u0164\13\36\5\36\u0166\n\36\3\37\3\37\3\37\3\37\3 \3"+
+		" \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3"+
+		" \5 \u0185\n \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3"+
+		" \3 \3 \3 \7 \u019d\n \f \16 \u01a0\13 \3!\3!\3\"\3\"\3#\3#\3#\7#\u01a9"+
+		"\n#\f#\16#\u01ac\13#\3#\2\3>$\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 "+
+		"\"$&(*,.\60\62\64\668:<>@BD\2\6\3\2\"#\3\2$%\3\2&+\3\2\61\66\2\u01d0\2"+
+		"F\3\2\2\2\4I\3\2\2\2\6O\3\2\2\2\bT\3\2\2\2\nc\3\2\2\2\ff\3\2\2\2\16i\3"+
+		"\2\2\2\20s\3\2\2\2\22w\3\2\2\2\24\u0083\3\2\2\2\26\u009d\3\2\2\2\30\u009f"+
+		"\3\2\2\2\32\u00a2\3\2\2\2\34\u00a7\3\2\2\2\36\u00ab\3\2\2\2 \u00fd\3\2"+
+		"\2\2\"\u00ff\3\2\2\2$\u010f\3\2\2\2&\u0111\3\2\2\2(\u0116\3\2\2\2*\u011a"+
+		"\3\2\2\2,\u0124\3\2\2\2.\u012d\3\2\2\2\60\u013d\3\2\2\2\62\u013f\3\2\2"+
+		"\2\64\u0144\3\2\2\2\66\u014d\3\2\2\28\u014f\3\2\2\2:\u0165\3\2\2\2<\u0167"+
+		"\3\2\2\2>\u0184\3\2\2\2@\u01a1\3\2\2\2B\u01a3\3\2\2\2D\u01a5\3\2\2\2F"+
+		"G\5\4\3\2GH\7\2\2\3H\3\3\2\2\2IJ\7\3\2\2JK\5\6\4\2KL\7\4\2\2LM\5\b\5\2"+
+		"MN\7\5\2\2N\5\3\2\2\2OP\5D#\2P\7\3\2\2\2QS\5\n\6\2RQ\3\2\2\2SV\3\2\2\2"+
+		"TR\3\2\2\2TU\3\2\2\2UZ\3\2\2\2VT\3\2\2\2WY\5\f\7\2XW\3\2\2\2Y\\\3\2\2"+
+		"\2ZX\3\2\2\2Z[\3\2\2\2[`\3\2\2\2\\Z\3\2\2\2]_\5\20\t\2^]\3\2\2\2_b\3\2"+
+		"\2\2`^\3\2\2\2`a\3\2\2\2a\t\3\2\2\2b`\3\2\2\2cd\5\36\20\2de\5\66\34\2"+
+		"e\13\3\2\2\2fg\5\16\b\2gh\5\34\17\2h\r\3\2\2\2ik\7\6\2\2jl\7\7\2\2kj\3"+
+		"\2\2\2kl\3\2\2\2ln\3\2\2\2mo\5\26\f\2nm\3\2\2\2no\3\2\2\2oq\3\2\2\2pr"+
+		"\7\b\2\2qp\3\2\2\2qr\3\2\2\2r\17\3\2\2\2st\5\22\n\2tu\5\34\17\2u\21\3"+
+		"\2\2\2vx\5\36\20\2wv\3\2\2\2wx\3\2\2\2xy\3\2\2\2y{\5\24\13\2z|\7\7\2\2"+
+		"{z\3\2\2\2{|\3\2\2\2|~\3\2\2\2}\177\5\26\f\2~}\3\2\2\2~\177\3\2\2\2\177"+
+		"\u0081\3\2\2\2\u0080\u0082\7\b\2\2\u0081\u0080\3\2\2\2\u0081\u0082\3\2"+
+		"\2\2\u0082\23\3\2\2\2\u0083\u0084\7\67\2\2\u0084\25\3\2\2\2\u0085\u008a"+
+		"\5\30\r\2\u0086\u0087\7\t\2\2\u0087\u0089\5\30\r\2\u0088\u0086\3\2\2\2"+
+		"\u0089\u008c\3\2\2\2\u008a\u0088\3\2\2\2\u008a\u008b\3\2\2\2\u008b\u009e"+
+		"\3\2\2\2\u008c\u008a\3\2\2\2\u008d\u0092\5\30\r\2\u008e\u008f\7\t\2\2"+
+		"\u008f\u0091\5\32\16\2\u0090\u008e\3\2\2\2\u0091\u0094\3\2\2\2\u0092\u0090"+
+		"\3\2\2\2\u0092\u0093\3\2\2\2\u0093\u009e\3\2\2\2\u0094\u0092\3\2\2\2\u0095"+
+		"\u009a\5\32\16\2\u0096\u0097\7\t\2\2\u0097\u0099\5\32\16\2\u0098\u0096"+
+		"\3\2\2\2\u0099\u009c\3\2\2\2\u009a\u0098\3\2\2\2\u009a\u009b\3\2\2\2\u009b"+
+		"\u009e\3\2\2\2\u009c\u009a\3\2\2\2\u009d\u0085\3\2\2\2\u009d\u008d\3\2"+
+		"\2\2\u009d\u0095\3\2\2\2\u009e\27\3\2\2\2\u009f\u00a0\5\36\20\2\u00a0"+
+		"\u00a1\7\67\2\2\u00a1\31\3\2\2\2\u00a2\u00a3\5\36\20\2\u00a3\u00a4\7\67"+
+		"\2\2\u00a4\u00a5\7\60\2\2\u00a5\u00a6\5> \2\u00a6\33\3\2\2\2\u00a7\u00a8"+
+		"\5\64\33\2\u00a8\35\3\2\2\2\u00a9\u00ac\5 \21\2\u00aa\u00ac\5\"\22\2\u00ab"+
+		"\u00a9\3\2\2\2\u00ab\u00aa\3\2\2\2\u00ac\37\3\2\2\2\u00ad\u00b2\7\n\2"+
+		"\2\u00ae\u00af\7\13\2\2\u00af\u00b1\7\f\2\2\u00b0\u00ae\3\2\2\2\u00b1"+
+		"\u00b4\3\2\2\2\u00b2\u00b0\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3\u00fe\3\2"+
+		"\2\2\u00b4\u00b2\3\2\2\2\u00b5\u00ba\7\r\2\2\u00b6\u00b7\7\13\2\2\u00b7"+
+		"\u00b9\7\f\2\2\u00b8\u00b6\3\2\2\2\u00b9\u00bc\3\2\2\2\u00ba\u00b8\3\2"+
+		"\2\2\u00ba\u00bb\3\2\2\2\u00bb\u00fe\3\2\2\2\u00bc\u00ba\3\2\2\2\u00bd"+
+		"\u00c2\7\16\2\2\u00be\u00bf\7\13\2\2\u00bf\u00c1\7\f\2\2\u00c0\u00be\3"+
+		"\2\2\2\u00c1\u00c4\3\2\2\2\u00c2\u00c0\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3"+
+		"\u00fe\3\2\2\2\u00c4\u00c2\3\2\2\2\u00c5\u00ca\7\17\2\2\u00c6\u00c7\7"+
+		"\13\2\2\u00c7\u00c9\7\f\2\2\u00c8\u00c6\3\2\2\2\u00c9\u00cc\3\2\2\2\u00ca"+
+		"\u00c8\3\2\2\2\u00ca\u00cb\3\2\2\2\u00cb\u00fe\3\2\2\2\u00cc\u00ca\3\2"+
+		"\2\2\u00cd\u00d2\7\20\2\2\u00ce\u00cf\7\13\2\2\u00cf\u00d1\7\f\2\2\u00d0"+
+		"\u00ce\3\2\2\2\u00d1\u00d4\3\2\2\2\u00d2\u00d0\3\2\2\2\u00d2\u00d3\3\2"+
+		"\2\2\u00d3\u00fe\3\2\2\2\u00d4\u00d2\3\2\2\2\u00d5\u00da\7\21\2\2\u00d6"+
+		"\u00d7\7\13\2\2\u00d7\u00d9\7\f\2\2\u00d8\u00d6\3\2\2\2\u00d9\u00dc\3"+
+		"\2\2\2\u00da\u00d8\3\2\2\2\u00da\u00db\3\2\2\2\u00db\u00fe\3\2\2\2\u00dc"+
+		"\u00da\3\2\2\2\u00dd\u00e2\7\22\2\2\u00de\u00df\7\13\2\2\u00df\u00e1\7"+
+		"\f\2\2\u00e0\u00de\3\2\2\2\u00e1\u00e4\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2"+
+		"\u00e3\3\2\2\2\u00e3\u00fe\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e5\u00ea\7\23"+
+		"\2\2\u00e6\u00e7\7\13\2\2\u00e7\u00e9\7\f\2\2\u00e8\u00e6\3\2\2\2\u00e9"+
+		"\u00ec\3\2\2\2\u00ea\u00e8\3\2\2\2\u00ea\u00eb\3\2\2\2\u00eb\u00fe\3\2"+
+		"\2\2\u00ec\u00ea\3\2\2\2\u00ed\u00f2\7\24\2\2\u00ee\u00ef\7\13\2\2\u00ef"+
+		"\u00f1\7\f\2\2\u00f0\u00ee\3\2\2\2\u00f1\u00f4\3\2\2\2\u00f2\u00f0\3\2"+
+		"\2\2\u00f2\u00f3\3\2\2\2\u00f3\u00fe\3\2\2\2\u00f4\u00f2\3\2\2\2\u00f5"+
+		"\u00fa\7\25\2\2\u00f6\u00f7\7\13\2\2\u00f7\u00f9\7\f\2\2\u00f8\u00f6\3"+
+		"\2\2\2\u00f9\u00fc\3\2\2\2\u00fa\u00f8\3\2\2\2\u00fa\u00fb\3\2\2\2\u00fb"+
+		"\u00fe\3\2\2\2\u00fc\u00fa\3\2\2\2\u00fd\u00ad\3\2\2\2\u00fd\u00b5\3\2"+
+		"\2\2\u00fd\u00bd\3\2\2\2\u00fd\u00c5\3\2\2\2\u00fd\u00cd\3\2\2\2\u00fd"+
+		"\u00d5\3\2\2\2\u00fd\u00dd\3\2\2\2\u00fd\u00e5\3\2\2\2\u00fd\u00ed\3\2"+
+		"\2\2\u00fd\u00f5\3\2\2\2\u00fe!\3\2\2\2\u00ff\u0104\5D#\2\u0100\u0101"+
+		"\7\13\2\2\u0101\u0103\7\f\2\2\u0102\u0100\3\2\2\2\u0103\u0106\3\2\2\2"+
+		"\u0104\u0102\3\2\2\2\u0104\u0105\3\2\2\2\u0105#\3\2\2\2\u0106\u0104\3"+
+		"\2\2\2\u0107\u0110\5&\24\2\u0108\u0110\5(\25\2\u0109\u0110\5*\26\2\u010a"+
+		"\u0110\5.\30\2\u010b\u0110\5\60\31\2\u010c\u0110\5\62\32\2\u010d\u0110"+
+		"\5\64\33\2\u010e\u0110\5> \2\u010f\u0107\3\2\2\2\u010f\u0108\3\2\2\2\u010f"+
+		"\u0109\3\2\2\2\u010f\u010a\3\2\2\2\u010f\u010b\3\2\2\2\u010f\u010c\3\2"+
+		"\2\2\u010f\u010d\3\2\2\2\u010f\u010e\3\2\2\2\u0110%\3\2\2\2\u0111\u0112"+
+		"\7.\2\2\u0112\u0113\5\66\34\2\u0113\u0114\7\60\2\2\u0114\u0115\5> \2\u0115"+
+		"\'\3\2\2\2\u0116\u0117\5\66\34\2\u0117\u0118\7\60\2\2\u0118\u0119\5> "+
+		"\2\u0119)\3\2\2\2\u011a\u011c\7\26\2\2\u011b\u011d\7\7\2\2\u011c\u011b"+
+		"\3\2\2\2\u011c\u011d\3\2\2\2\u011d\u011e\3\2\2\2\u011e\u0120\5,\27\2\u011f"+
+		"\u0121\7\b\2\2\u0120\u011f\3\2\2\2\u0120\u0121\3\2\2\2\u0121\u0122\3\2"+
+		"\2\2\u0122\u0123\5$\23\2\u0123+\3\2\2\2\u0124\u0125\5@!\2\u0125\u0126"+
+		"\7\27\2\2\u0126\u0127\5> \2\u0127\u0128\7\30\2\2\u0128\u012b\5> \2\u0129"+
+		"\u012a\7\31\2\2\u012a\u012c\5> \2\u012b\u0129\3\2\2\2\u012b\u012c\3\2"+
+		"\2\2\u012c-\3\2\2\2\u012d\u012f\7\32\2\2\u012e\u0130\7\7\2\2\u012f\u012e"+
+		"\3\2\2\2\u012f\u0130\3\2\2\2\u0130\u0131\3\2\2\2\u0131\u0133\5> \2\u0132"+
+		"\u0134\7\b\2\2\u0133\u0132\3\2\2\2\u0133\u0134\3\2\2\2\u0134\u0135\3\2"+
+		"\2\2\u0135\u0138\5$\23\2\u0136\u0137\7\33\2\2\u0137\u0139\5$\23\2\u0138"+
+		"\u0136\3\2\2\2\u0138\u0139\3\2\2\2\u0139/\3\2\2\2\u013a\u013b\7\34\2\2"+
+		"\u013b\u013e\5> \2\u013c\u013e\7\34\2\2\u013d\u013a\3\2\2\2\u013d\u013c"+
+		"\3\2\2\2\u013e\61\3\2\2\2\u013f\u0140\7/\2\2\u0140\u0141\7\7\2\2\u0141"+
+		"\u0142\5> \2\u0142\u0143\7\b\2\2\u0143\63\3\2\2\2\u0144\u0148\7\4\2\2"+
+		"\u0145\u0147\5$\23\2\u0146\u0145\3\2\2\2\u0147\u014a\3\2\2\2\u0148\u0146"+
+		"\3\2\2\2\u0148\u0149\3\2\2\2\u0149\u014b\3\2\2\2\u014a\u0148\3\2\2\2\u014b"+
+		"\u014c\7\5\2\2\u014c\65\3\2\2\2\u014d\u014e\7\67\2\2\u014e\67\3\2\2\2"+
+		"\u014f\u0150\5> \2\u01509\3\2\2\2\u0151\u0153\58\35\2\u0152\u0151\3\2"+
+		"\2\2\u0152\u0153\3\2\2\2\u0153\u0158\3\2\2\2\u0154\u0155\7\t\2\2\u0155"+
+		"\u0157\58\35\2\u0156\u0154\3\2\2\2\u0157\u015a\3\2\2\2\u0158\u0156\3\2"+
+		"\2\2\u0158\u0159\3\2\2\2\u0159\u0166\3\2\2\2\u015a\u0158\3\2\2\2\u015b"+
+		"\u015d\5<\37\2\u015c\u015b\3\2\2\2\u015c\u015d\3\2\2\2\u015d\u0162\3\2"+
+		"\2\2\u015e\u015f\7\t\2\2\u015f\u0161\5<\37\2\u0160\u015e\3\2\2\2\u0161"+
+		"\u0164\3\2\2\2\u0162\u0160\3\2\2\2\u0162\u0163\3\2\2\2\u0163\u0166\3\2"+
+		"\2\2\u0164\u0162\3\2\2\2\u0165\u0152\3\2\2\2\u0165\u015c\3\2\2\2\u0166"+
+		";\3\2\2\2\u0167\u0168\5\66\34\2\u0168\u0169\7\35\2\2\u0169\u016a\5> \2"+
+		"\u016a=\3\2\2\2\u016b\u016c\b \1\2\u016c\u016d\5\24\13\2\u016d\u016e\7"+
+		"\7\2\2\u016e\u016f\5:\36\2\u016f\u0170\7\b\2\2\u0170\u0185\3\2\2\2\u0171"+
+		"\u0172\7\37\2\2\u0172\u0173\7\7\2\2\u0173\u0174\5:\36\2\u0174\u0175\7"+
+		"\b\2\2\u0175\u0185\3\2\2\2\u0176\u0177\7 \2\2\u0177\u0178\5\6\4\2\u0178"+
+		"\u0179\7\7\2\2\u0179\u017a\5:\36\2\u017a\u017b\7\b\2\2\u017b\u0185\3\2"+
+		"\2\2\u017c\u0185\5B\"\2\u017d\u0185\5@!\2\u017e\u017f\7\7\2\2\u017f\u0180"+
+		"\5> \2\u0180\u0181\7\b\2\2\u0181\u0185\3\2\2\2\u0182\u0183\7!\2\2\u0183"+
+		"\u0185\5> \b\u0184\u016b\3\2\2\2\u0184\u0171\3\2\2\2\u0184\u0176\3\2\2"+
+		"\2\u0184\u017c\3\2\2\2\u0184\u017d\3\2\2\2\u0184\u017e\3\2\2\2\u0184\u0182"+
+		"\3\2\2\2\u0185\u019e\3\2\2\2\u0186\u0187\f\7\2\2\u0187\u0188\t\2\2\2\u0188"+
+		"\u019d\5> \b\u0189\u018a\f\6\2\2\u018a\u018b\t\3\2\2\u018b\u019d\5> \7"+
+		"\u018c\u018d\f\5\2\2\u018d\u018e\t\4\2\2\u018e\u019d\5> \6\u018f\u0190"+
+		"\f\4\2\2\u0190\u0191\7,\2\2\u0191\u019d\5> \5\u0192\u0193\f\3\2\2\u0193"+
+		"\u0194\7-\2\2\u0194\u019d\5> \4\u0195\u0196\f\17\2\2\u0196\u0197\7\36"+
+		"\2\2\u0197\u0198\5\24\13\2\u0198\u0199\7\7\2\2\u0199\u019a\5:\36\2\u019a"+
+		"\u019b\7\b\2\2\u019b\u019d\3\2\2\2\u019c\u0186\3\2\2\2\u019c\u0189\3\2"+
+		"\2\2\u019c\u018c\3\2\2\2\u019c\u018f\3\2\2\2\u019c\u0192\3\2\2\2\u019c"+
+		"\u0195\3\2\2\2\u019d\u01a0\3\2\2\2\u019e\u019c\3\2\2\2\u019e\u019f\3\2"+
+		"\2\2\u019f?\3\2\2\2\u01a0\u019e\3\2\2\2\u01a1\u01a2\7\67\2\2\u01a2A\3"+
+		"\2\2\2\u01a3\u01a4\t\5\2\2\u01a4C\3\2\2\2\u01a5\u01aa\7\67\2\2\u01a6\u01a7"+
+		"\7\36\2\2\u01a7\u01a9\7\67\2\2\u01a8\u01a6\3\2\2\2\u01a9\u01ac\3\2\2\2"+
+		"\u01aa\u01a8\3\2\2\2\u01aa\u01ab\3\2\2\2\u01abE\3\2\2\2\u01ac\u01aa\3"+
+		"\2\2\2/TZ`knqw{~\u0081\u008a\u0092\u009a\u009d\u00ab\u00b2\u00ba\u00c2"+
+		"\u00ca\u00d2\u00da\u00e2\u00ea\u00f2\u00fa\u00fd\u0104\u010f\u011c\u0120"+
+		"\u012b\u012f\u0133\u0138\u013d\u0148\u0152\u0158\u015c\u0162\u0165\u0184"+
+		"\u019c\u019e\u01aa";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
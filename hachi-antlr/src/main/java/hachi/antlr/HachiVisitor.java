@@ -209,12 +209,12 @@ public interface HachiVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitNamedFunctionArgument(HachiParser.NamedFunctionArgumentContext ctx);
 	/**
-	 * Visit a parse tree produced by the {@code add}
+	 * Visit a parse tree produced by the {@code negationExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitAdd(HachiParser.AddContext ctx);
+	T visitNegationExpression(HachiParser.NegationExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code variableReferenceLabel}
 	 * labeled alternative in {@link HachiParser#expression}.
@@ -222,6 +222,13 @@ public interface HachiVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitVariableReferenceLabel(HachiParser.VariableReferenceLabelContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code parenthesizedExpression}
+	 * labeled alternative in {@link HachiParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitParenthesizedExpression(HachiParser.ParenthesizedExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code valueLabel}
 	 * labeled alternative in {@link HachiParser#expression}.
@@ -230,26 +237,26 @@ public interface HachiVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitValueLabel(HachiParser.ValueLabelContext ctx);
 	/**
-	 * Visit a parse tree produced by the {@code supercall}
+	 * Visit a parse tree produced by the {@code additiveExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitSupercall(HachiParser.SupercallContext ctx);
+	T visitAdditiveExpression(HachiParser.AdditiveExpressionContext ctx);
 	/**
-	 * Visit a parse tree produced by the {@code conditionalExpression}
+	 * Visit a parse tree produced by the {@code supercall}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitConditionalExpression(HachiParser.ConditionalExpressionContext ctx);
+	T visitSupercall(HachiParser.SupercallContext ctx);
 	/**
-	 * Visit a parse tree produced by the {@code subtract}
+	 * Visit a parse tree produced by the {@code conditionalExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitSubtract(HachiParser.SubtractContext ctx);
+	T visitConditionalExpression(HachiParser.ConditionalExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code functionCall}
 	 * labeled alternative in {@link HachiParser#expression}.
@@ -258,26 +265,26 @@ public interface HachiVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitFunctionCall(HachiParser.FunctionCallContext ctx);
 	/**
-	 * Visit a parse tree produced by the {@code divide}
+	 * Visit a parse tree produced by the {@code constructorCall}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitDivide(HachiParser.DivideContext ctx);
+	T visitConstructorCall(HachiParser.ConstructorCallContext ctx);
 	/**
-	 * Visit a parse tree produced by the {@code constructorCall}
+	 * Visit a parse tree produced by the {@code multiplicativeExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitConstructorCall(HachiParser.ConstructorCallContext ctx);
+	T visitMultiplicativeExpression(HachiParser.MultiplicativeExpressionContext ctx);
 	/**
-	 * Visit a parse tree produced by the {@code multiply}
+	 * Visit a parse tree produced by the {@code logicalExpression}
 	 * labeled alternative in {@link HachiParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitMultiply(HachiParser.MultiplyContext ctx);
+	T visitLogicalExpression(HachiParser.LogicalExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link HachiParser#variableReference}.
 	 * @param ctx the parse tree
@@ -0,0 +1,7 @@
+package hachi.bench.runtime;
+
+public class Arithmetic {
+    public int run(int a, int b) {
+        return a * b + (a - b) / 2;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package hachi.bench.runtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark {
+    @Param({"7"})
+    public int a;
+
+    @Param({"3"})
+    public int b;
+
+    private MethodHandle hachi;
+
+    private MethodHandle javac;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        MethodType methodType = MethodType.methodType(int.class, int.class, int.class);
+
+        this.hachi = RuntimeHandles.bindHachi("runtime/Arithmetic.hc", "run", methodType);
+        this.javac = RuntimeHandles.bind(Arithmetic.class, "run", methodType);
+    }
+
+    @Benchmark
+    public int hachi() throws Throwable {
+        return (int) this.hachi.invokeExact(this.a, this.b);
+    }
+
+    @Benchmark
+    public int javac() throws Throwable {
+        return (int) this.javac.invokeExact(this.a, this.b);
+    }
+}
\ No newline at end of file
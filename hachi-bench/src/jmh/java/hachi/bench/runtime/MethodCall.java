@@ -0,0 +1,15 @@
+package hachi.bench.runtime;
+
+public class MethodCall {
+    public int add(int a, int b) {
+        return a + b;
+    }
+
+    public int scale(int value, int factor) {
+        return value * factor;
+    }
+
+    public int run(int value) {
+        return this.add(this.scale(value, 3), value);
+    }
+}
\ No newline at end of file
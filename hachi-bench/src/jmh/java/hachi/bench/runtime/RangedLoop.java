@@ -0,0 +1,15 @@
+package hachi.bench.runtime;
+
+public class RangedLoop {
+    public int sum;
+
+    public int run(int limit) {
+        this.sum = 0;
+
+        for (int i = 1; i <= limit; i++) {
+            this.sum = this.sum + i;
+        }
+
+        return this.sum;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package hachi.bench.runtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+@State(Scope.Benchmark)
+public class RangedLoopBenchmark {
+    @Param({"10", "10000"})
+    public int limit;
+
+    private MethodHandle hachi;
+
+    private MethodHandle javac;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        MethodType methodType = MethodType.methodType(int.class, int.class);
+
+        this.hachi = RuntimeHandles.bindHachi("runtime/RangedLoop.hc", "run", methodType);
+        this.javac = RuntimeHandles.bind(RangedLoop.class, "run", methodType);
+    }
+
+    @Benchmark
+    public int hachi() throws Throwable {
+        return (int) this.hachi.invokeExact(this.limit);
+    }
+
+    @Benchmark
+    public int javac() throws Throwable {
+        return (int) this.javac.invokeExact(this.limit);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package hachi.bench.runtime;
+
+import hachi.bench.BenchmarkSources;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Binds the benchmarked method of a fresh instance, so that the hachi and the javac variant
+ * are invoked through exactly the same call path.
+ */
+final class RuntimeHandles {
+    private RuntimeHandles() {
+    }
+
+    static MethodHandle bindHachi(String fileName, String methodName, MethodType methodType) throws ReflectiveOperationException {
+        return bind(BenchmarkSources.INSTANCE.loadClass(fileName), methodName, methodType);
+    }
+
+    static MethodHandle bind(Class<?> type, String methodName, MethodType methodType) throws ReflectiveOperationException {
+        Object instance = type.getConstructor().newInstance();
+
+        return MethodHandles.publicLookup()
+                .findVirtual(type, methodName, methodType)
+                .bindTo(instance);
+    }
+}
\ No newline at end of file
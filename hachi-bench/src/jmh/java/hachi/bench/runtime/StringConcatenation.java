@@ -0,0 +1,7 @@
+package hachi.bench.runtime;
+
+public class StringConcatenation {
+    public String run(String prefix, int value) {
+        return prefix + value + "!";
+    }
+}
\ No newline at end of file
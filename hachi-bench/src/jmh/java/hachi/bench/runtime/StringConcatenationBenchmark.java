@@ -0,0 +1,41 @@
+package hachi.bench.runtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+@State(Scope.Benchmark)
+public class StringConcatenationBenchmark {
+    @Param({"hachi"})
+    public String prefix;
+
+    @Param({"42"})
+    public int value;
+
+    private MethodHandle hachi;
+
+    private MethodHandle javac;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        MethodType methodType = MethodType.methodType(String.class, String.class, int.class);
+
+        this.hachi = RuntimeHandles.bindHachi("runtime/StringConcatenation.hc", "run", methodType);
+        this.javac = RuntimeHandles.bind(StringConcatenation.class, "run", methodType);
+    }
+
+    @Benchmark
+    public String hachi() throws Throwable {
+        return (String) this.hachi.invokeExact(this.prefix, this.value);
+    }
+
+    @Benchmark
+    public String javac() throws Throwable {
+        return (String) this.javac.invokeExact(this.prefix, this.value);
+    }
+}
\ No newline at end of file
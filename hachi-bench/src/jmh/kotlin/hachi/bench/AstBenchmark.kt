@@ -0,0 +1,35 @@
+package hachi.bench
+
+import hachi.antlr.HachiParser
+import hachi.lang.domain.ClassDeclaration
+import hachi.lang.domain.CompilationUnit
+import hachi.lang.parsing.visitor.ClassVisitor
+import hachi.lang.parsing.visitor.CompilationUnitVisitor
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@State(Scope.Benchmark)
+open class AstBenchmark {
+    @Param("Sample.hc")
+    lateinit var fileName: String
+
+    private lateinit var compilationUnitContext: HachiParser.CompilationUnitContext
+
+    @Setup
+    fun setUp() {
+        this.compilationUnitContext = BenchmarkSources.parse(BenchmarkSources.read(this.fileName))
+    }
+
+    @Benchmark
+    fun compilationUnitVisitor(): CompilationUnit {
+        return this.compilationUnitContext.accept(CompilationUnitVisitor())
+    }
+
+    @Benchmark
+    fun classVisitor(): ClassDeclaration {
+        return this.compilationUnitContext.classDeclaration().accept(ClassVisitor())
+    }
+}
\ No newline at end of file
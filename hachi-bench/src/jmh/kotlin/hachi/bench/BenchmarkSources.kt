@@ -0,0 +1,47 @@
+package hachi.bench
+
+import hachi.antlr.HachiLexer
+import hachi.antlr.HachiParser
+import hachi.lang.compiler.Compiler
+import hachi.lang.compiler.HachiClassLoader
+import hachi.lang.domain.CompilationUnit
+import hachi.lang.parsing.Parser
+import org.antlr.v4.runtime.CharStreams
+import org.antlr.v4.runtime.CommonTokenStream
+import java.io.File
+import java.nio.file.Files
+
+object BenchmarkSources {
+    fun read(fileName: String): String {
+        val inputStream = this::class.java.classLoader.getResourceAsStream(fileName)
+                ?: throw IllegalArgumentException("Benchmark source %s not found".format(fileName))
+
+        return inputStream.bufferedReader().use { it.readText() }
+    }
+
+    fun parse(source: String): HachiParser.CompilationUnitContext {
+        val hachiLexer = HachiLexer(CharStreams.fromString(source))
+        val hachiParser = HachiParser(CommonTokenStream(hachiLexer))
+
+        return hachiParser.compilationUnit()
+    }
+
+    fun getCompilationUnit(source: String): CompilationUnit {
+        return Parser().getCompilationUnitFromSource(source)
+    }
+
+    fun loadClass(fileName: String): Class<*> {
+        val compiledClass = Compiler().compile(this.read(fileName))
+
+        return HachiClassLoader(this::class.java.classLoader).defineClass(compiledClass)
+    }
+
+    fun copyToTemporaryDirectory(fileName: String): File {
+        val directory = Files.createTempDirectory("hachi-bench").toFile()
+        val file = File(directory, fileName)
+
+        file.writeText(this.read(fileName))
+
+        return file
+    }
+}
\ No newline at end of file
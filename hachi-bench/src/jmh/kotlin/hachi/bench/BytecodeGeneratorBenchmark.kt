@@ -0,0 +1,39 @@
+package hachi.bench
+
+import hachi.lang.bytecode.generator.BytecodeGenerator
+import hachi.lang.bytecode.generator.FrameComputation
+import hachi.lang.bytecode.generator.MethodGeneration
+import hachi.lang.domain.CompilationUnit
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@State(Scope.Benchmark)
+open class BytecodeGeneratorBenchmark {
+    @Param("Sample.hc")
+    lateinit var fileName: String
+
+    private lateinit var compilationUnit: CompilationUnit
+
+    @Setup
+    fun setUp() {
+        this.compilationUnit = BenchmarkSources.getCompilationUnit(BenchmarkSources.read(this.fileName))
+    }
+
+    @Benchmark
+    fun generate(): ByteArray {
+        return BytecodeGenerator(MethodGeneration.SERIAL, FrameComputation.GENERATOR).generate(this.compilationUnit)
+    }
+
+    @Benchmark
+    fun generateInParallel(): ByteArray {
+        return BytecodeGenerator(MethodGeneration.PARALLEL, FrameComputation.GENERATOR).generate(this.compilationUnit)
+    }
+
+    @Benchmark
+    fun generateWithAsmFrames(): ByteArray {
+        return BytecodeGenerator(MethodGeneration.SERIAL, FrameComputation.ASM).generate(this.compilationUnit)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package hachi.bench
+
+import hachi.lang.compiler.Compiler
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import java.io.File
+
+@State(Scope.Benchmark)
+open class CompilerBenchmark {
+    @Param("Sample.hc")
+    lateinit var fileName: String
+
+    private lateinit var file: File
+
+    @Setup
+    fun setUp() {
+        this.file = BenchmarkSources.copyToTemporaryDirectory(this.fileName)
+    }
+
+    @TearDown
+    fun tearDown() {
+        this.file.parentFile.deleteRecursively()
+    }
+
+    @Benchmark
+    fun compile() {
+        Compiler().compile(this.file)
+    }
+}
\ No newline at end of file
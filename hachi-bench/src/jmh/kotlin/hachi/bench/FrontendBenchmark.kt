@@ -0,0 +1,33 @@
+package hachi.bench
+
+import hachi.lang.domain.CompilationUnit
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@State(Scope.Benchmark)
+open class FrontendBenchmark {
+    @Param("Sample.hc")
+    lateinit var fileName: String
+
+    private lateinit var source: String
+
+    @Setup
+    fun setUp() {
+        this.source = BenchmarkSources.read(this.fileName)
+    }
+
+    @Benchmark
+    fun antlr(): CompilationUnit {
+        return Parser(Frontend.ANTLR).getCompilationUnitFromSource(this.source)
+    }
+
+    @Benchmark
+    fun pratt(): CompilationUnit {
+        return Parser(Frontend.PRATT).getCompilationUnitFromSource(this.source)
+    }
+}
\ No newline at end of file
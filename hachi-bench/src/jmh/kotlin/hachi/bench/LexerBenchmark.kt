@@ -0,0 +1,28 @@
+package hachi.bench
+
+import hachi.antlr.HachiLexer
+import org.antlr.v4.runtime.CharStreams
+import org.antlr.v4.runtime.Token
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@State(Scope.Benchmark)
+open class LexerBenchmark {
+    @Param("Sample.hc")
+    lateinit var fileName: String
+
+    private lateinit var source: String
+
+    @Setup
+    fun setUp() {
+        this.source = BenchmarkSources.read(this.fileName)
+    }
+
+    @Benchmark
+    fun tokenize(): List<Token> {
+        return HachiLexer(CharStreams.fromString(this.source)).allTokens
+    }
+}
\ No newline at end of file
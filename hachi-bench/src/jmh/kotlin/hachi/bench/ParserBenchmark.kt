@@ -0,0 +1,43 @@
+package hachi.bench
+
+import hachi.antlr.HachiLexer
+import hachi.antlr.HachiParser
+import hachi.lang.parsing.Parser
+import org.antlr.v4.runtime.CharStreams
+import org.antlr.v4.runtime.CommonTokenStream
+import org.antlr.v4.runtime.ListTokenSource
+import org.antlr.v4.runtime.Token
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@State(Scope.Benchmark)
+open class ParserBenchmark {
+    @Param("Sample.hc")
+    lateinit var fileName: String
+
+    private lateinit var tokens: List<Token>
+
+    @Setup
+    fun setUp() {
+        val source = BenchmarkSources.read(this.fileName)
+
+        this.tokens = HachiLexer(CharStreams.fromString(source)).allTokens
+    }
+
+    @Benchmark
+    fun compilationUnit(): HachiParser.CompilationUnitContext {
+        val commonTokenStream = CommonTokenStream(ListTokenSource(this.tokens))
+
+        return HachiParser(commonTokenStream).compilationUnit()
+    }
+
+    @Benchmark
+    fun twoStageCompilationUnit(): HachiParser.CompilationUnitContext {
+        val commonTokenStream = CommonTokenStream(ListTokenSource(this.tokens))
+
+        return Parser().getCompilationUnitContext(commonTokenStream)
+    }
+}
\ No newline at end of file
@@ -2,10 +2,10 @@ package hachi.lang.bytecode.generator
 
 import hachi.lang.domain.CompilationUnit
 
-class BytecodeGenerator {
+class BytecodeGenerator(private val methodGeneration: MethodGeneration = MethodGeneration.SERIAL, private val frameComputation: FrameComputation = FrameComputation.getDefault()) {
     fun generate(compilationUnit: CompilationUnit): ByteArray {
         val classDeclaration = compilationUnit.classDeclaration
-        val classGenerator = ClassGenerator()
+        val classGenerator = ClassGenerator(this.methodGeneration, this.frameComputation)
 
         return classGenerator.generate(classDeclaration).toByteArray()
     }
@@ -1,26 +1,52 @@
 package hachi.lang.bytecode.generator
 
 import hachi.lang.domain.ClassDeclaration
+import hachi.lang.domain.Function
+import hachi.lang.util.ForkJoinMapper
 import jdk.internal.org.objectweb.asm.ClassWriter
 import jdk.internal.org.objectweb.asm.Opcodes
-
-class ClassGenerator {
+import jdk.internal.org.objectweb.asm.tree.ClassNode
+import jdk.internal.org.objectweb.asm.tree.MethodNode
+
+/**
+ * Generates a class. With [MethodGeneration.PARALLEL], every method is first generated into its own [MethodNode] on the
+ * common fork-join pool, and the nodes are then replayed into the class writer in declaration order. Replaying produces
+ * the same visits as generating directly into the writer, so the bytes do not depend on [methodGeneration]. Stack map
+ * frames come from the method generators unless [frameComputation] hands them to the class writer.
+ */
+class ClassGenerator(private val methodGeneration: MethodGeneration, private val frameComputation: FrameComputation) {
     private val classVersion = 52
 
-    private val classWriter = ClassWriter(ClassWriter.COMPUTE_FRAMES + ClassWriter.COMPUTE_MAXS)
+    private val classWriter = ClassWriter(if (frameComputation == FrameComputation.ASM) ClassWriter.COMPUTE_FRAMES + ClassWriter.COMPUTE_MAXS else 0)
 
     fun generate(classDeclaration: ClassDeclaration): ClassWriter {
         val name = classDeclaration.name
-        val methodGenerator = MethodGenerator(this.classWriter)
+        val methods = classDeclaration.methods
         val fieldGenerator = FieldGenerator(this.classWriter)
 
         this.classWriter.visit(this.classVersion, Opcodes.ACC_PUBLIC + Opcodes.ACC_SUPER, name, null, "java/lang/Object", null)
 
         classDeclaration.fields.forEach { it.accept(fieldGenerator) }
-        classDeclaration.methods.forEach { it.accept(methodGenerator) }
+
+        if (this.methodGeneration == MethodGeneration.PARALLEL && methods.size > 1) {
+            ForkJoinMapper.map(methods) { this.generateMethodNode(it) }
+                    .forEach { it.accept(this.classWriter) }
+        } else {
+            val methodGenerator = MethodGenerator(this.classWriter, this.frameComputation)
+
+            methods.forEach { it.accept(methodGenerator) }
+        }
 
         this.classWriter.visitEnd()
 
         return this.classWriter
     }
+
+    private fun generateMethodNode(function: Function): MethodNode {
+        val classNode = ClassNode()
+
+        function.accept(MethodGenerator(classNode, this.frameComputation))
+
+        return classNode.methods.single()
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package hachi.lang.bytecode.generator
+
+/**
+ * Who computes the stack map frames and the maximum stack and local sizes of generated methods.
+ */
+enum class FrameComputation {
+    // The generators, while they emit the instructions of each method
+    GENERATOR,
+    // The class writer, from the finished method. It loads classes to merge types, so it is only a debugging fallback
+    ASM;
+
+    companion object {
+        private const val FRAME_COMPUTATION_PROPERTY = "hachi.frames"
+
+        /**
+         * [ASM] when the hachi.frames system property is asm, otherwise [GENERATOR].
+         */
+        fun getDefault(): FrameComputation {
+            return if (System.getProperty(FRAME_COMPUTATION_PROPERTY) == "asm") ASM else GENERATOR
+        }
+    }
+}
\ No newline at end of file
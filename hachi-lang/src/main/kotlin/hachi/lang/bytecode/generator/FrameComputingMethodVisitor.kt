@@ -0,0 +1,408 @@
+package hachi.lang.bytecode.generator
+
+import jdk.internal.org.objectweb.asm.Handle
+import jdk.internal.org.objectweb.asm.Label
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+import jdk.internal.org.objectweb.asm.Type
+
+/**
+ * Forwards the instructions of a method and emits its stack map frames and maximum stack and local sizes on the way,
+ * so the class writer neither analyzes the method nor loads classes to merge types.
+ *
+ * The generators emit structured code: when a label is visited, the jumps to it that were already visited and the
+ * fall through describe every path into it, except for the backward jumps of loops. Loop generators announce their
+ * heads with [visitLoopHead] and the number of locals that are live there. Instructions that cannot be reached are
+ * dropped instead of being framed.
+ */
+class FrameComputingMethodVisitor(methodVisitor: MethodVisitor, private val owner: String, access: Int, name: String, descriptor: String) : MethodVisitor(Opcodes.ASM5, methodVisitor) {
+    companion object {
+        /**
+         * Visits a label that later jumps return to. Locals at or above [localCount] are treated as dead from here on.
+         */
+        fun visitLoopHead(methodVisitor: MethodVisitor, label: Label, localCount: Int) {
+            if (methodVisitor is FrameComputingMethodVisitor) {
+                methodVisitor.visitLoopHead(label, localCount)
+            } else {
+                methodVisitor.visitLabel(label)
+            }
+        }
+
+        private val conversionResults = intArrayOf(
+                Opcodes.LONG, Opcodes.FLOAT, Opcodes.DOUBLE,
+                Opcodes.INTEGER, Opcodes.FLOAT, Opcodes.DOUBLE,
+                Opcodes.INTEGER, Opcodes.LONG, Opcodes.DOUBLE,
+                Opcodes.INTEGER, Opcodes.LONG, Opcodes.FLOAT,
+                Opcodes.INTEGER, Opcodes.INTEGER, Opcodes.INTEGER
+        )
+
+        private val numericTypes = intArrayOf(Opcodes.INTEGER, Opcodes.LONG, Opcodes.FLOAT, Opcodes.DOUBLE)
+
+        private fun isWide(value: Any): Boolean {
+            return value == Opcodes.LONG || value == Opcodes.DOUBLE
+        }
+
+        private fun getFrameType(type: Type): Any {
+            return when (type.sort) {
+                Type.BOOLEAN, Type.CHAR, Type.BYTE, Type.SHORT, Type.INT -> Opcodes.INTEGER
+                Type.FLOAT -> Opcodes.FLOAT
+                Type.LONG -> Opcodes.LONG
+                Type.DOUBLE -> Opcodes.DOUBLE
+                Type.ARRAY -> type.descriptor
+                else -> type.internalName
+            }
+        }
+    }
+
+    // The stack size counts long and double values twice, as the maximum stack size does
+    private class State(val locals: MutableList<Any>, val stack: MutableList<Any>, var stackSize: Int) {
+        fun copy(): State {
+            return State(ArrayList(this.locals), ArrayList(this.stack), this.stackSize)
+        }
+
+        fun merge(state: State) {
+            if (this.stack != state.stack) {
+                throw IllegalStateException("Different operand stacks at branch target: %s and %s".format(this.stack, state.stack))
+            }
+
+            while (this.locals.size > state.locals.size) {
+                this.locals.removeAt(this.locals.size - 1)
+            }
+
+            for (slot in this.locals.indices) {
+                if (this.locals[slot] != state.locals[slot]) {
+                    this.locals[slot] = Opcodes.TOP
+                }
+            }
+        }
+    }
+
+    private var state: State? = State(ArrayList(), ArrayList(), 0)
+
+    private val branchStates = HashMap<Label, State>()
+
+    private val visitedLabels = HashSet<Label>()
+
+    private val uninitializedTypes = HashMap<Label, String>()
+
+    private var isFramePending = false
+
+    private var maxStack = 0
+
+    private var maxLocals = 0
+
+    init {
+        if (access and Opcodes.ACC_STATIC == 0) {
+            this.setLocal(0, if (name == "<init>") Opcodes.UNINITIALIZED_THIS else this.owner)
+        }
+
+        Type.getArgumentTypes(descriptor).forEach { this.setLocal(this.maxLocals, getFrameType(it)) }
+    }
+
+    override fun visitLabel(label: Label) {
+        super.visitLabel(label)
+
+        this.visitedLabels.add(label)
+
+        val branchState = this.branchStates.remove(label)
+        val state = this.state
+
+        if (state == null) {
+            this.state = branchState
+        } else if (branchState != null) {
+            state.merge(branchState)
+        }
+
+        this.isFramePending = this.state != null
+    }
+
+    fun visitLoopHead(label: Label, localCount: Int) {
+        this.visitLabel(label)
+
+        val locals = this.state?.locals ?: return
+
+        while (locals.size > localCount) {
+            locals.removeAt(locals.size - 1)
+        }
+    }
+
+    override fun visitFrame(type: Int, localCount: Int, locals: Array<out Any>?, stackCount: Int, stack: Array<out Any>?) {
+        // Frames are computed here
+    }
+
+    override fun visitInsn(opcode: Int) {
+        val state = this.beginInstruction() ?: return
+
+        when (opcode) {
+            Opcodes.NOP -> {
+            }
+            Opcodes.ACONST_NULL -> this.push(Opcodes.NULL)
+            in Opcodes.ICONST_M1..Opcodes.ICONST_5 -> this.push(Opcodes.INTEGER)
+            Opcodes.LCONST_0, Opcodes.LCONST_1 -> this.push(Opcodes.LONG)
+            in Opcodes.FCONST_0..Opcodes.FCONST_2 -> this.push(Opcodes.FLOAT)
+            Opcodes.DCONST_0, Opcodes.DCONST_1 -> this.push(Opcodes.DOUBLE)
+            in Opcodes.IADD..Opcodes.DREM -> this.pushAfterPopping(2, numericTypes[(opcode - Opcodes.IADD) % 4])
+            in Opcodes.INEG..Opcodes.DNEG -> this.pushAfterPopping(1, numericTypes[opcode - Opcodes.INEG])
+            in Opcodes.ISHL..Opcodes.LXOR -> this.pushAfterPopping(2, numericTypes[(opcode - Opcodes.ISHL) % 2])
+            in Opcodes.I2L..Opcodes.I2S -> this.pushAfterPopping(1, conversionResults[opcode - Opcodes.I2L])
+            in Opcodes.LCMP..Opcodes.DCMPG -> this.pushAfterPopping(2, Opcodes.INTEGER)
+            Opcodes.ARRAYLENGTH -> this.pushAfterPopping(1, Opcodes.INTEGER)
+            Opcodes.DUP -> this.push(state.stack.last())
+            Opcodes.POP -> this.pop()
+            in Opcodes.IRETURN..Opcodes.ARETURN, Opcodes.ATHROW -> {
+                this.pop()
+                this.state = null
+            }
+            Opcodes.RETURN -> this.state = null
+            else -> throw IllegalArgumentException("Unsupported opcode: %d".format(opcode))
+        }
+
+        super.visitInsn(opcode)
+    }
+
+    override fun visitIntInsn(opcode: Int, operand: Int) {
+        this.beginInstruction() ?: return
+
+        when (opcode) {
+            Opcodes.BIPUSH, Opcodes.SIPUSH -> this.push(Opcodes.INTEGER)
+            else -> throw IllegalArgumentException("Unsupported opcode: %d".format(opcode))
+        }
+
+        super.visitIntInsn(opcode, operand)
+    }
+
+    override fun visitVarInsn(opcode: Int, slot: Int) {
+        val state = this.beginInstruction() ?: return
+
+        when (opcode) {
+            in Opcodes.ILOAD..Opcodes.ALOAD -> this.push(state.locals.getOrElse(slot) { Opcodes.TOP })
+            in Opcodes.ISTORE..Opcodes.ASTORE -> this.setLocal(slot, this.pop())
+            else -> throw IllegalArgumentException("Unsupported opcode: %d".format(opcode))
+        }
+
+        super.visitVarInsn(opcode, slot)
+    }
+
+    override fun visitIincInsn(slot: Int, increment: Int) {
+        this.beginInstruction() ?: return
+
+        super.visitIincInsn(slot, increment)
+    }
+
+    override fun visitTypeInsn(opcode: Int, type: String) {
+        this.beginInstruction() ?: return
+
+        when (opcode) {
+            Opcodes.NEW -> {
+                val label = Label()
+
+                super.visitLabel(label)
+
+                this.uninitializedTypes[label] = type
+                this.push(label)
+            }
+            Opcodes.CHECKCAST -> this.pushAfterPopping(1, type)
+            Opcodes.INSTANCEOF -> this.pushAfterPopping(1, Opcodes.INTEGER)
+            else -> throw IllegalArgumentException("Unsupported opcode: %d".format(opcode))
+        }
+
+        super.visitTypeInsn(opcode, type)
+    }
+
+    override fun visitFieldInsn(opcode: Int, owner: String, name: String, descriptor: String) {
+        this.beginInstruction() ?: return
+
+        val type = getFrameType(Type.getType(descriptor))
+
+        when (opcode) {
+            Opcodes.GETSTATIC -> this.push(type)
+            Opcodes.PUTSTATIC -> this.pop()
+            Opcodes.GETFIELD -> this.pushAfterPopping(1, type)
+            Opcodes.PUTFIELD -> {
+                this.pop()
+                this.pop()
+            }
+        }
+
+        super.visitFieldInsn(opcode, owner, name, descriptor)
+    }
+
+    override fun visitMethodInsn(opcode: Int, owner: String, name: String, descriptor: String, isInterface: Boolean) {
+        this.beginInstruction() ?: return
+
+        Type.getArgumentTypes(descriptor).forEach { this.pop() }
+
+        if (opcode != Opcodes.INVOKESTATIC) {
+            val receiver = this.pop()
+
+            if (name == "<init>") {
+                this.initialize(receiver)
+            }
+        }
+
+        val returnType = Type.getReturnType(descriptor)
+
+        if (returnType.sort != Type.VOID) {
+            this.push(getFrameType(returnType))
+        }
+
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface)
+    }
+
+    override fun visitJumpInsn(opcode: Int, label: Label) {
+        this.beginInstruction() ?: return
+
+        when (opcode) {
+            in Opcodes.IFEQ..Opcodes.IFLE, Opcodes.IFNULL, Opcodes.IFNONNULL -> this.pop()
+            in Opcodes.IF_ICMPEQ..Opcodes.IF_ACMPNE -> {
+                this.pop()
+                this.pop()
+            }
+            Opcodes.GOTO -> {
+            }
+            else -> throw IllegalArgumentException("Unsupported opcode: %d".format(opcode))
+        }
+
+        val state = this.state!!
+
+        if (!this.visitedLabels.contains(label)) {
+            val branchState = this.branchStates[label]
+
+            if (branchState == null) {
+                this.branchStates[label] = state.copy()
+            } else {
+                branchState.merge(state)
+            }
+        }
+
+        if (opcode == Opcodes.GOTO) {
+            this.state = null
+        }
+
+        super.visitJumpInsn(opcode, label)
+    }
+
+    override fun visitLdcInsn(value: Any) {
+        this.beginInstruction() ?: return
+
+        when (value) {
+            is Int -> this.push(Opcodes.INTEGER)
+            is Float -> this.push(Opcodes.FLOAT)
+            is Long -> this.push(Opcodes.LONG)
+            is Double -> this.push(Opcodes.DOUBLE)
+            is String -> this.push("java/lang/String")
+            is Type -> this.push("java/lang/Class")
+            else -> throw IllegalArgumentException("Unsupported constant: %s".format(value))
+        }
+
+        super.visitLdcInsn(value)
+    }
+
+    override fun visitInvokeDynamicInsn(name: String, descriptor: String, bootstrapMethodHandle: Handle, vararg bootstrapMethodArguments: Any) {
+        throw IllegalArgumentException("Unsupported instruction: invokedynamic %s%s".format(name, descriptor))
+    }
+
+    override fun visitTableSwitchInsn(min: Int, max: Int, defaultLabel: Label, vararg labels: Label) {
+        throw IllegalArgumentException("Unsupported instruction: tableswitch")
+    }
+
+    override fun visitLookupSwitchInsn(defaultLabel: Label, keys: IntArray, labels: Array<out Label>) {
+        throw IllegalArgumentException("Unsupported instruction: lookupswitch")
+    }
+
+    override fun visitMultiANewArrayInsn(descriptor: String, dimensionCount: Int) {
+        throw IllegalArgumentException("Unsupported instruction: multianewarray %s".format(descriptor))
+    }
+
+    override fun visitMaxs(maxStack: Int, maxLocals: Int) {
+        super.visitMaxs(this.maxStack, this.maxLocals)
+    }
+
+    /**
+     * Returns the state before the next instruction after emitting its frame, or null if the instruction is
+     * unreachable and has to be dropped.
+     */
+    private fun beginInstruction(): State? {
+        val state = this.state ?: return null
+
+        if (this.isFramePending) {
+            this.isFramePending = false
+            this.emitFrame(state)
+        }
+
+        return state
+    }
+
+    private fun emitFrame(state: State) {
+        val locals = ArrayList<Any>()
+        var slot = 0
+        var localCount = 0
+
+        while (slot < state.locals.size) {
+            val value = state.locals[slot]
+
+            locals.add(value)
+
+            if (value != Opcodes.TOP) {
+                localCount = locals.size
+            }
+
+            slot += if (isWide(value)) 2 else 1
+        }
+
+        super.visitFrame(Opcodes.F_NEW, localCount, locals.subList(0, localCount).toTypedArray(), state.stack.size, state.stack.toTypedArray())
+    }
+
+    private fun push(value: Any) {
+        val state = this.state!!
+
+        state.stack.add(value)
+        state.stackSize += if (isWide(value)) 2 else 1
+
+        this.maxStack = maxOf(this.maxStack, state.stackSize)
+    }
+
+    private fun pop(): Any {
+        val state = this.state!!
+        val value = state.stack.removeAt(state.stack.size - 1)
+
+        state.stackSize -= if (isWide(value)) 2 else 1
+
+        return value
+    }
+
+    private fun pushAfterPopping(count: Int, value: Any) {
+        repeat(count) { this.pop() }
+
+        this.push(value)
+    }
+
+    private fun setLocal(slot: Int, value: Any) {
+        val locals = this.state!!.locals
+        val size = if (isWide(value)) 2 else 1
+
+        while (locals.size < slot + size) {
+            locals.add(Opcodes.TOP)
+        }
+
+        if (slot > 0 && isWide(locals[slot - 1])) {
+            locals[slot - 1] = Opcodes.TOP
+        }
+
+        locals[slot] = value
+
+        if (size == 2) {
+            locals[slot + 1] = Opcodes.TOP
+        }
+
+        this.maxLocals = maxOf(this.maxLocals, slot + size)
+    }
+
+    private fun initialize(receiver: Any) {
+        val state = this.state!!
+        val type = if (receiver is Label) this.uninitializedTypes.getValue(receiver) else this.owner
+
+        state.stack.replaceAll { if (it == receiver) type else it }
+        state.locals.replaceAll { if (it == receiver) type else it }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package hachi.lang.bytecode.generator
+
+enum class MethodGeneration {
+    SERIAL,
+    PARALLEL
+}
\ No newline at end of file
@@ -5,22 +5,27 @@ import hachi.lang.domain.Constructor
 import hachi.lang.domain.Function
 import hachi.lang.domain.node.expression.EmptyExpression
 import hachi.lang.domain.node.expression.SuperCall
+import hachi.lang.domain.node.flat.FlatStatement
+import hachi.lang.domain.node.flat.NodeKind
 import hachi.lang.domain.node.statement.BlockStatement
 import hachi.lang.domain.node.statement.ReturnStatement
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.domain.scope.Scope
 import hachi.lang.util.DescriptorFactory
-import jdk.internal.org.objectweb.asm.ClassWriter
+import jdk.internal.org.objectweb.asm.ClassVisitor
+import jdk.internal.org.objectweb.asm.MethodVisitor
 import jdk.internal.org.objectweb.asm.Opcodes
 
-class MethodGenerator(private val classWriter: ClassWriter) {
+class MethodGenerator(private val classVisitor: ClassVisitor, private val frameComputation: FrameComputation) {
     fun generate(function: Function) {
         val functionName = function.getName()
         val isMain = functionName == "main"
         val descriptor = DescriptorFactory.getMethodDescriptor(function)
-        val functionBody = function.functionBody as BlockStatement
+        val functionBody = function.functionBody
         val access = Opcodes.ACC_PUBLIC + (if (isMain) Opcodes.ACC_STATIC else 0)
-        val scope = functionBody.scope
+        val scope = this.getScope(functionBody)
 
-        val methodVisitor = this.classWriter.visitMethod(access, functionName, descriptor, null, null)
+        val methodVisitor = this.visitMethod(access, functionName, descriptor, scope)
         methodVisitor.visitCode()
 
         val statementGenerator = StatementGenerator(methodVisitor, scope)
@@ -34,11 +39,11 @@ class MethodGenerator(private val classWriter: ClassWriter) {
     }
 
     fun generate(constructor: Constructor) {
-        val constructorBody = constructor.functionBody as BlockStatement
-        val scope = constructorBody.scope
+        val constructorBody = constructor.functionBody
+        val scope = this.getScope(constructorBody)
         val access = Opcodes.ACC_PUBLIC
         val descriptor = DescriptorFactory.getMethodDescriptor(constructor)
-        val methodVisitor = this.classWriter.visitMethod(access, "<init>", descriptor, null, null)
+        val methodVisitor = this.visitMethod(access, "<init>", descriptor, scope)
 
         methodVisitor.visitCode()
 
@@ -54,13 +59,31 @@ class MethodGenerator(private val classWriter: ClassWriter) {
         methodVisitor.visitEnd()
     }
 
-    private fun appendReturnIfNotExists(function: Function, functionBody: BlockStatement, statementGenerator: StatementGenerator) {
-        var hasReturnStatement = false
+    private fun visitMethod(access: Int, name: String, descriptor: String, scope: Scope): MethodVisitor {
+        val methodVisitor = this.classVisitor.visitMethod(access, name, descriptor, null, null)
 
-        if (!functionBody.statements.isEmpty()) {
-            val lastStatement = functionBody.statements.last()
+        return when (this.frameComputation) {
+            FrameComputation.GENERATOR -> FrameComputingMethodVisitor(methodVisitor, scope.getClassInternalName(), access, name, descriptor)
+            FrameComputation.ASM -> methodVisitor
+        }
+    }
+
+    private fun getScope(functionBody: Statement): Scope {
+        return when (functionBody) {
+            is FlatStatement -> functionBody.classScope
+            else -> (functionBody as BlockStatement).scope
+        }
+    }
+
+    private fun appendReturnIfNotExists(function: Function, functionBody: Statement, statementGenerator: StatementGenerator) {
+        val hasReturnStatement = when (functionBody) {
+            is FlatStatement -> {
+                val ast = functionBody.ast
+                val statementCount = ast.getChildCount(functionBody.root)
 
-            hasReturnStatement = lastStatement is ReturnStatement
+                statementCount > 0 && ast.getKind(ast.getChild(functionBody.root, statementCount - 1)) == NodeKind.RETURN
+            }
+            else -> (functionBody as BlockStatement).statements.lastOrNull() is ReturnStatement
         }
 
         if (!hasReturnStatement) {
@@ -10,6 +10,8 @@ import jdk.internal.org.objectweb.asm.MethodVisitor
 import jdk.internal.org.objectweb.asm.Opcodes
 
 class ArithmeticExpressionGenerator(private val expressionGenerator: ExpressionGenerator, private val methodVisitor: MethodVisitor) {
+    private val numericConversionGenerator = NumericConversionGenerator(this.methodVisitor)
+
     fun generate(addition: Addition) {
         val type = addition.getType()
 
@@ -40,8 +42,12 @@ class ArithmeticExpressionGenerator(private val expressionGenerator: ExpressionG
     }
 
     private fun evaluateArithmeticComponents(arithmeticExpression: ArithmeticExpression) {
+        val type = arithmeticExpression.getType()
+
         arithmeticExpression.leftExpression.accept(this.expressionGenerator)
+        this.numericConversionGenerator.generate(arithmeticExpression.leftExpression.getType(), type)
         arithmeticExpression.rightExpression.accept(this.expressionGenerator)
+        this.numericConversionGenerator.generate(arithmeticExpression.rightExpression.getType(), type)
     }
 
     private fun generateStringAppend(addition: Addition) {
@@ -8,64 +8,65 @@ import hachi.lang.domain.node.expression.FunctionCall
 import hachi.lang.domain.node.expression.FunctionParameter
 import hachi.lang.domain.scope.FunctionSignature
 import hachi.lang.domain.type.BuiltInType
-import hachi.lang.domain.type.ClassType
+import hachi.lang.domain.type.TypePool
 import jdk.internal.org.objectweb.asm.Label
 import jdk.internal.org.objectweb.asm.MethodVisitor
-import jdk.internal.org.objectweb.asm.Opcodes
 
-class ConditionalExpressionGenerator(private val expressionGenerator: ExpressionGenerator, private val methodVisitor: MethodVisitor) {
+class ConditionalExpressionGenerator(private val expressionGenerator: ExpressionGenerator, methodVisitor: MethodVisitor) {
+    companion object {
+        private val objectParameters = listOf(FunctionParameter("o", TypePool.getClassType("java.lang.Object"), null))
+
+        val equalsFunctionSignature = FunctionSignature("equals", objectParameters, BuiltInType.BOOLEAN)
+
+        val compareToFunctionSignature = FunctionSignature("compareTo", objectParameters, BuiltInType.INT)
+    }
+
+    private val conditionalJumpGenerator = ConditionalJumpGenerator(methodVisitor)
+
+    private val numericConversionGenerator = NumericConversionGenerator(methodVisitor)
+
     fun generate(conditionalExpression: ConditionalExpression) {
+        this.conditionalJumpGenerator.generateBoolean { this.generateJump(conditionalExpression, false, it) }
+    }
+
+    fun generateJump(conditionalExpression: ConditionalExpression, jumpIfTrue: Boolean, target: Label) {
         val leftExpression = conditionalExpression.leftExpression
         val rightExpression = conditionalExpression.rightExpression
-
         val compareSign = conditionalExpression.compareSign
 
         if (conditionalExpression.isPrimitiveComparison) {
-            this.generatePrimitiveComparison(leftExpression, rightExpression)
-        } else {
-            this.generateObjectComparison(leftExpression, rightExpression, compareSign)
-        }
+            val operandType = conditionalExpression.operandType
 
-        val trueLabel = Label()
-        val falseLabel = Label()
+            leftExpression.accept(this.expressionGenerator)
+            this.numericConversionGenerator.generate(leftExpression.getType(), operandType)
+            rightExpression.accept(this.expressionGenerator)
+            this.numericConversionGenerator.generate(rightExpression.getType(), operandType)
 
-        this.methodVisitor.visitJumpInsn(compareSign.opcode, trueLabel)
-        this.methodVisitor.visitInsn(Opcodes.ICONST_0)
-        this.methodVisitor.visitJumpInsn(Opcodes.GOTO, falseLabel)
-        this.methodVisitor.visitLabel(trueLabel)
-        this.methodVisitor.visitInsn(Opcodes.ICONST_1)
-        this.methodVisitor.visitLabel(falseLabel)
+            this.conditionalJumpGenerator.generatePrimitiveJump(operandType, compareSign, jumpIfTrue, target)
+        } else {
+            this.generateObjectComparisonJump(leftExpression, rightExpression, compareSign, jumpIfTrue, target)
+        }
     }
 
-    private fun generateObjectComparison(leftExpression: Expression, rightExpression: Expression, compareSign: CompareSign) {
-        val functionParameter = FunctionParameter("o", ClassType("java.lang.Object"), null)
-        val functionParameters = listOf(functionParameter)
+    private fun generateObjectComparisonJump(leftExpression: Expression, rightExpression: Expression, compareSign: CompareSign, jumpIfTrue: Boolean, target: Label) {
         val functionArgument = FunctionArgument(rightExpression, null)
         val functionArguments = listOf(functionArgument)
 
         when (compareSign) {
             CompareSign.EQUAL, CompareSign.NOT_EQUAL -> {
-                val equalsFunctionSignature = FunctionSignature("equals", functionParameters, BuiltInType.BOOLEAN)
                 val equalsFunctionCall = FunctionCall(equalsFunctionSignature, functionArguments, leftExpression)
 
                 equalsFunctionCall.accept(this.expressionGenerator)
 
-                this.methodVisitor.visitInsn(Opcodes.ICONST_1)
-                this.methodVisitor.visitInsn(Opcodes.IXOR)
+                this.conditionalJumpGenerator.generateBooleanJump(jumpIfTrue == (compareSign == CompareSign.EQUAL), target)
             }
             CompareSign.LESS_THAN, CompareSign.LESS_THAN_OR_EQUAL, CompareSign.GREATER_THAN, CompareSign.GREATER_THAN_OR_EQUAL -> {
-                val compareToFunctionSignature = FunctionSignature("compareTo", functionParameters, BuiltInType.INT)
                 val compareToFunctionCall = FunctionCall(compareToFunctionSignature, functionArguments, leftExpression)
 
                 compareToFunctionCall.accept(this.expressionGenerator)
+
+                this.conditionalJumpGenerator.generateZeroComparisonJump(compareSign, jumpIfTrue, target)
             }
         }
     }
-
-    private fun generatePrimitiveComparison(leftExpression: Expression, rightExpression: Expression) {
-        leftExpression.accept(this.expressionGenerator)
-        rightExpression.accept(this.expressionGenerator)
-
-        this.methodVisitor.visitInsn(Opcodes.ISUB)
-    }
 }
\ No newline at end of file
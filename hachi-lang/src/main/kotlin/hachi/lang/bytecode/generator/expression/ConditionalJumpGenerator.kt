@@ -0,0 +1,83 @@
+package hachi.lang.bytecode.generator.expression
+
+import hachi.lang.domain.CompareSign
+import hachi.lang.domain.LogicalOperator
+import hachi.lang.domain.type.Type
+import hachi.lang.util.TypeChecker
+import jdk.internal.org.objectweb.asm.Label
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+
+/**
+ * Emits the jumps conditions are lowered to. A condition jumps to its target when it has the wanted value and falls
+ * through otherwise, so branching on it never pushes an intermediate boolean.
+ */
+class ConditionalJumpGenerator(private val methodVisitor: MethodVisitor) {
+    /**
+     * Compares the two operands of [type] on the stack. As in Java, every comparison with NaN is false except !=.
+     */
+    fun generatePrimitiveJump(type: Type, compareSign: CompareSign, jumpIfTrue: Boolean, target: Label) {
+        val jumpSign = if (jumpIfTrue) compareSign else compareSign.negate()
+        val isLessComparison = compareSign == CompareSign.LESS_THAN || compareSign == CompareSign.LESS_THAN_OR_EQUAL
+
+        when {
+            TypeChecker.isLong(type) -> this.methodVisitor.visitInsn(Opcodes.LCMP)
+            TypeChecker.isFloat(type) -> this.methodVisitor.visitInsn(if (isLessComparison) Opcodes.FCMPG else Opcodes.FCMPL)
+            TypeChecker.isDouble(type) -> this.methodVisitor.visitInsn(if (isLessComparison) Opcodes.DCMPG else Opcodes.DCMPL)
+            else -> {
+                this.methodVisitor.visitJumpInsn(jumpSign.intComparisonOpcode, target)
+
+                return
+            }
+        }
+
+        this.methodVisitor.visitJumpInsn(jumpSign.opcode, target)
+    }
+
+    /**
+     * Compares the int on the stack, such as the result of compareTo, with zero.
+     */
+    fun generateZeroComparisonJump(compareSign: CompareSign, jumpIfTrue: Boolean, target: Label) {
+        this.methodVisitor.visitJumpInsn((if (jumpIfTrue) compareSign else compareSign.negate()).opcode, target)
+    }
+
+    fun generateBooleanJump(jumpIfTrue: Boolean, target: Label) {
+        this.methodVisitor.visitJumpInsn(if (jumpIfTrue) Opcodes.IFNE else Opcodes.IFEQ, target)
+    }
+
+    /**
+     * Chains the jumps of the operands of `&&` or `||`, given functions that lower each operand to a jump. The right
+     * operand is skipped as soon as the left one decides the result.
+     */
+    fun generateLogicalJump(logicalOperator: LogicalOperator, jumpIfTrue: Boolean, target: Label, generateLeftJump: (Boolean, Label) -> Unit, generateRightJump: (Boolean, Label) -> Unit) {
+        val decidingValue = logicalOperator == LogicalOperator.OR
+
+        if (jumpIfTrue == decidingValue) {
+            generateLeftJump(jumpIfTrue, target)
+            generateRightJump(jumpIfTrue, target)
+        } else {
+            val skipLabel = Label()
+
+            generateLeftJump(decidingValue, skipLabel)
+            generateRightJump(jumpIfTrue, target)
+
+            this.methodVisitor.visitLabel(skipLabel)
+        }
+    }
+
+    /**
+     * Pushes the value of a condition, given a function that lowers it to a jump taken when it is false.
+     */
+    fun generateBoolean(generateJumpIfFalse: (Label) -> Unit) {
+        val falseLabel = Label()
+        val endLabel = Label()
+
+        generateJumpIfFalse(falseLabel)
+
+        this.methodVisitor.visitInsn(Opcodes.ICONST_1)
+        this.methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel)
+        this.methodVisitor.visitLabel(falseLabel)
+        this.methodVisitor.visitInsn(Opcodes.ICONST_0)
+        this.methodVisitor.visitLabel(endLabel)
+    }
+}
\ No newline at end of file
@@ -1,12 +1,16 @@
 package hachi.lang.bytecode.generator.expression
 
+import hachi.lang.domain.node.expression.BooleanValue
 import hachi.lang.domain.node.expression.ConditionalExpression
 import hachi.lang.domain.node.expression.ConstructorCall
 import hachi.lang.domain.node.expression.EmptyExpression
+import hachi.lang.domain.node.expression.Expression
 import hachi.lang.domain.node.expression.FieldReference
 import hachi.lang.domain.node.expression.FunctionCall
 import hachi.lang.domain.node.expression.FunctionParameter
 import hachi.lang.domain.node.expression.LocalVariableReference
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.NegationExpression
 import hachi.lang.domain.node.expression.SuperCall
 import hachi.lang.domain.node.expression.Value
 import hachi.lang.domain.node.expression.arithmetic.Addition
@@ -14,7 +18,9 @@ import hachi.lang.domain.node.expression.arithmetic.Division
 import hachi.lang.domain.node.expression.arithmetic.Multiplication
 import hachi.lang.domain.node.expression.arithmetic.Subtraction
 import hachi.lang.domain.scope.Scope
+import jdk.internal.org.objectweb.asm.Label
 import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
 
 class ExpressionGenerator(private val methodVisitor: MethodVisitor, private val scope: Scope) {
     private val referenceExpressionGenerator = ReferenceExpressionGenerator(this.methodVisitor, this.scope)
@@ -29,6 +35,8 @@ class ExpressionGenerator(private val methodVisitor: MethodVisitor, private val
 
     private val functionParameterExpressionGenerator = FunctionParameterExpressionGenerator(this.methodVisitor, this.scope)
 
+    private val conditionalJumpGenerator = ConditionalJumpGenerator(this.methodVisitor)
+
     fun generate(localVariableReference: LocalVariableReference) {
         this.referenceExpressionGenerator.generate(localVariableReference)
     }
@@ -77,6 +85,43 @@ class ExpressionGenerator(private val methodVisitor: MethodVisitor, private val
         this.conditionalExpressionGenerator.generate(conditionalExpression)
     }
 
+    fun generate(logicalExpression: LogicalExpression) {
+        this.conditionalJumpGenerator.generateBoolean { this.generateJump(logicalExpression, false, it) }
+    }
+
+    fun generate(negationExpression: NegationExpression) {
+        this.conditionalJumpGenerator.generateBoolean { this.generateJump(negationExpression, false, it) }
+    }
+
     fun generate(emptyExpression: EmptyExpression) {
     }
+
+    /**
+     * Jumps to [target] if [expression] evaluates to [jumpIfTrue] and falls through otherwise. Comparisons branch
+     * directly on their operands, logical operators become chains of those branches and constant conditions need no
+     * test at all.
+     */
+    fun generateJump(expression: Expression, jumpIfTrue: Boolean, target: Label) {
+        when (expression) {
+            is ConditionalExpression -> this.conditionalExpressionGenerator.generateJump(expression, jumpIfTrue, target)
+            is LogicalExpression -> this.conditionalJumpGenerator.generateLogicalJump(
+                    expression.logicalOperator,
+                    jumpIfTrue,
+                    target,
+                    { operandJumpIfTrue, operandTarget -> this.generateJump(expression.leftExpression, operandJumpIfTrue, operandTarget) },
+                    { operandJumpIfTrue, operandTarget -> this.generateJump(expression.rightExpression, operandJumpIfTrue, operandTarget) }
+            )
+            is NegationExpression -> this.generateJump(expression.expression, !jumpIfTrue, target)
+            is BooleanValue -> {
+                if (expression.value == jumpIfTrue) {
+                    this.methodVisitor.visitJumpInsn(Opcodes.GOTO, target)
+                }
+            }
+            else -> {
+                expression.accept(this)
+
+                this.conditionalJumpGenerator.generateBooleanJump(jumpIfTrue, target)
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package hachi.lang.bytecode.generator.expression
+
+import hachi.lang.domain.CompareSign
+import hachi.lang.domain.LogicalOperator
+import hachi.lang.domain.node.flat.FlatAst
+import hachi.lang.domain.node.flat.NodeKind
+import hachi.lang.domain.scope.FunctionSignature
+import hachi.lang.domain.scope.Scope
+import hachi.lang.domain.type.Type
+import hachi.lang.domain.type.TypePool
+import hachi.lang.util.TypeChecker
+import hachi.lang.util.TypeResolver
+import jdk.internal.org.objectweb.asm.Label
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+
+/**
+ * Generates the expressions of a [FlatAst]. It emits the same instructions as [ExpressionGenerator] does for the tree.
+ */
+class FlatExpressionGenerator(private val methodVisitor: MethodVisitor, private val scope: Scope, private val ast: FlatAst) {
+    companion object {
+        private val compareSigns = CompareSign.values()
+
+        private val logicalOperators = LogicalOperator.values()
+    }
+
+    private val valueExpressionGenerator = ValueExpressionGenerator(this.methodVisitor)
+
+    private val conditionalJumpGenerator = ConditionalJumpGenerator(this.methodVisitor)
+
+    private val numericConversionGenerator = NumericConversionGenerator(this.methodVisitor)
+
+    fun generate(node: Int) {
+        when (this.ast.getKind(node)) {
+            NodeKind.VALUE -> this.valueExpressionGenerator.generate(this.ast.getLiteral(node))
+            NodeKind.LOCAL_VARIABLE_REFERENCE -> this.methodVisitor.visitVarInsn(this.ast.getType(node).getLoadOpcode(), this.ast.getOperand(node))
+            NodeKind.FIELD_REFERENCE -> {
+                val field = this.ast.getField(node)
+
+                this.methodVisitor.visitVarInsn(Opcodes.ALOAD, 0)
+                this.methodVisitor.visitFieldInsn(Opcodes.GETFIELD, field.getOwnerInternalName(), field.getName(), field.getType().getDescriptor())
+            }
+            NodeKind.FUNCTION_CALL -> this.generateFunctionCall(node)
+            NodeKind.CONSTRUCTOR_CALL -> this.generateConstructorCall(node)
+            NodeKind.SUPER_CALL -> {
+                this.methodVisitor.visitVarInsn(Opcodes.ALOAD, 0)
+                this.generateChildren(node)
+                this.methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, this.scope.getSuperClassInternalName(), "<init>", "()V", false)
+            }
+            NodeKind.ADDITION -> {
+                val type = this.ast.getType(node)
+
+                if (TypeChecker.isString(type)) {
+                    this.generateStringAppend(node)
+                } else {
+                    this.generateOperands(node)
+                    this.methodVisitor.visitInsn(type.getAddOpcode())
+                }
+            }
+            NodeKind.SUBTRACTION -> {
+                this.generateOperands(node)
+                this.methodVisitor.visitInsn(this.ast.getType(node).getSubtractOpcode())
+            }
+            NodeKind.MULTIPLICATION -> {
+                this.generateOperands(node)
+                this.methodVisitor.visitInsn(this.ast.getType(node).getMultiplyOpcode())
+            }
+            NodeKind.DIVISION -> {
+                this.generateOperands(node)
+                this.methodVisitor.visitInsn(this.ast.getType(node).getDivideOpcode())
+            }
+            NodeKind.CONDITIONAL -> this.conditionalJumpGenerator.generateBoolean { this.generateConditionalJump(node, false, it) }
+            NodeKind.LOGICAL, NodeKind.NEGATION -> this.conditionalJumpGenerator.generateBoolean { this.generateJump(node, false, it) }
+            NodeKind.EMPTY -> {
+            }
+            else -> throw IllegalArgumentException("Not an expression: %s".format(this.ast.getKind(node)))
+        }
+    }
+
+    fun generateChildren(node: Int) {
+        this.ast.forEachChild(node) { this.generate(it) }
+    }
+
+    private fun generateOperands(node: Int, type: Type = this.ast.getType(node)) {
+        this.ast.forEachChild(node) {
+            this.generate(it)
+            this.numericConversionGenerator.generate(this.ast.getType(it), type)
+        }
+    }
+
+    private fun generateFunctionCall(node: Int) {
+        val functionSignature = this.ast.getFunctionSignature(node)
+        val ownerInternalName = this.ast.getType(this.ast.getChild(node, 0)).getInternalName()
+
+        this.generateChildren(node)
+        this.methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerInternalName, functionSignature.functionName, functionSignature.descriptor, false)
+    }
+
+    private fun generateConstructorCall(node: Int) {
+        val functionSignature = this.ast.getFunctionSignature(node)
+        val ownerInternalName = TypePool.getClassType(functionSignature.functionName).getInternalName()
+
+        this.methodVisitor.visitTypeInsn(Opcodes.NEW, ownerInternalName)
+        this.methodVisitor.visitInsn(Opcodes.DUP)
+        this.generateChildren(node)
+        this.methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, ownerInternalName, "<init>", functionSignature.descriptor, false)
+    }
+
+    /**
+     * Jumps to [target] if [node] evaluates to [jumpIfTrue], the way [ExpressionGenerator.generateJump] does.
+     */
+    fun generateJump(node: Int, jumpIfTrue: Boolean, target: Label) {
+        when (this.ast.getKind(node)) {
+            NodeKind.CONDITIONAL -> this.generateConditionalJump(node, jumpIfTrue, target)
+            NodeKind.LOGICAL -> this.conditionalJumpGenerator.generateLogicalJump(
+                    logicalOperators[this.ast.getOperand(node)],
+                    jumpIfTrue,
+                    target,
+                    { operandJumpIfTrue, operandTarget -> this.generateJump(this.ast.getChild(node, 0), operandJumpIfTrue, operandTarget) },
+                    { operandJumpIfTrue, operandTarget -> this.generateJump(this.ast.getChild(node, 1), operandJumpIfTrue, operandTarget) }
+            )
+            NodeKind.NEGATION -> this.generateJump(this.ast.getChild(node, 0), !jumpIfTrue, target)
+            NodeKind.VALUE -> {
+                val literal = this.ast.getLiteral(node)
+
+                if (literal !is Boolean) {
+                    this.generate(node)
+                    this.conditionalJumpGenerator.generateBooleanJump(jumpIfTrue, target)
+                } else if (literal == jumpIfTrue) {
+                    this.methodVisitor.visitJumpInsn(Opcodes.GOTO, target)
+                }
+            }
+            else -> {
+                this.generate(node)
+                this.conditionalJumpGenerator.generateBooleanJump(jumpIfTrue, target)
+            }
+        }
+    }
+
+    private fun generateConditionalJump(node: Int, jumpIfTrue: Boolean, target: Label) {
+        val leftExpression = this.ast.getChild(node, 0)
+        val leftType = this.ast.getType(leftExpression)
+        val rightType = this.ast.getType(this.ast.getChild(node, 1))
+        val compareSign = compareSigns[this.ast.getOperand(node)]
+
+        if (TypeChecker.isPrimitive(leftType) && TypeChecker.isPrimitive(rightType)) {
+            val operandType = TypeResolver.getPromotedType(leftType, rightType) ?: leftType
+
+            this.generateOperands(node, operandType)
+            this.conditionalJumpGenerator.generatePrimitiveJump(operandType, compareSign, jumpIfTrue, target)
+        } else {
+            this.generateChildren(node)
+
+            val ownerInternalName = leftType.getInternalName()
+
+            when (compareSign) {
+                CompareSign.EQUAL, CompareSign.NOT_EQUAL -> {
+                    this.generateObjectComparison(ownerInternalName, ConditionalExpressionGenerator.equalsFunctionSignature)
+                    this.conditionalJumpGenerator.generateBooleanJump(jumpIfTrue == (compareSign == CompareSign.EQUAL), target)
+                }
+                else -> {
+                    this.generateObjectComparison(ownerInternalName, ConditionalExpressionGenerator.compareToFunctionSignature)
+                    this.conditionalJumpGenerator.generateZeroComparisonJump(compareSign, jumpIfTrue, target)
+                }
+            }
+        }
+    }
+
+    private fun generateObjectComparison(ownerInternalName: String, functionSignature: FunctionSignature) {
+        this.methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerInternalName, functionSignature.functionName, functionSignature.descriptor, false)
+    }
+
+    private fun generateStringAppend(node: Int) {
+        this.methodVisitor.visitTypeInsn(Opcodes.NEW, "java/lang/StringBuilder")
+        this.methodVisitor.visitInsn(Opcodes.DUP)
+        this.methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "()V", false)
+
+        this.ast.forEachChild(node) {
+            val descriptor = "(%s)Ljava/lang/StringBuilder;".format(this.ast.getType(it).getDescriptor())
+
+            this.generate(it)
+            this.methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", descriptor, false)
+        }
+
+        this.methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package hachi.lang.bytecode.generator.expression
+
+import hachi.lang.domain.type.Type
+import hachi.lang.util.TypeChecker
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+
+/**
+ * Widens the number on the stack to the type it is promoted to, as Java does for the operands of binary operators.
+ */
+class NumericConversionGenerator(private val methodVisitor: MethodVisitor) {
+    fun generate(type: Type, promotedType: Type) {
+        val opcode = when {
+            TypeChecker.isLong(promotedType) -> if (TypeChecker.isIntLike(type)) Opcodes.I2L else null
+            TypeChecker.isFloat(promotedType) -> when {
+                TypeChecker.isIntLike(type) -> Opcodes.I2F
+                TypeChecker.isLong(type) -> Opcodes.L2F
+                else -> null
+            }
+            TypeChecker.isDouble(promotedType) -> when {
+                TypeChecker.isIntLike(type) -> Opcodes.I2D
+                TypeChecker.isLong(type) -> Opcodes.L2D
+                TypeChecker.isFloat(type) -> Opcodes.F2D
+                else -> null
+            }
+            else -> null
+        }
+
+        opcode?.let { this.methodVisitor.visitInsn(it) }
+    }
+}
\ No newline at end of file
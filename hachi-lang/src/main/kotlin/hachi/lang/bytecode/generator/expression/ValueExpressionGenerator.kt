@@ -1,15 +1,53 @@
 package hachi.lang.bytecode.generator.expression
 
 import hachi.lang.domain.node.expression.Value
-import hachi.lang.util.TypeResolver
 import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
 
 class ValueExpressionGenerator(private val methodVisitor: MethodVisitor) {
     fun generate(value: Value) {
-        val type = value.getType()
-        val stringValue = value.value
-        val transformedValue = TypeResolver.getValueFromString(stringValue, type)
+        this.generate(value.value)
+    }
+
+    fun generate(literal: Any) {
+        when (literal) {
+            is Int -> this.generateInt(literal)
+            is Boolean -> this.methodVisitor.visitInsn(if (literal) Opcodes.ICONST_1 else Opcodes.ICONST_0)
+            is Long -> this.generateLong(literal)
+            is Float -> this.generateFloat(literal)
+            is Double -> this.generateDouble(literal)
+            else -> this.methodVisitor.visitLdcInsn(literal)
+        }
+    }
+
+    private fun generateInt(value: Int) {
+        when (value) {
+            in -1..5 -> this.methodVisitor.visitInsn(Opcodes.ICONST_0 + value)
+            in Byte.MIN_VALUE..Byte.MAX_VALUE -> this.methodVisitor.visitIntInsn(Opcodes.BIPUSH, value)
+            in Short.MIN_VALUE..Short.MAX_VALUE -> this.methodVisitor.visitIntInsn(Opcodes.SIPUSH, value)
+            else -> this.methodVisitor.visitLdcInsn(value)
+        }
+    }
+
+    private fun generateLong(value: Long) {
+        when (value) {
+            0L, 1L -> this.methodVisitor.visitInsn(Opcodes.LCONST_0 + value.toInt())
+            else -> this.methodVisitor.visitLdcInsn(value)
+        }
+    }
+
+    private fun generateFloat(value: Float) {
+        // Bit comparison keeps -0.0f out of FCONST_0
+        when (value.toRawBits()) {
+            0f.toRawBits(), 1f.toRawBits(), 2f.toRawBits() -> this.methodVisitor.visitInsn(Opcodes.FCONST_0 + value.toInt())
+            else -> this.methodVisitor.visitLdcInsn(value)
+        }
+    }
 
-        this.methodVisitor.visitLdcInsn(transformedValue)
+    private fun generateDouble(value: Double) {
+        when (value.toRawBits()) {
+            0.0.toRawBits(), 1.0.toRawBits() -> this.methodVisitor.visitInsn(Opcodes.DCONST_0 + value.toInt())
+            else -> this.methodVisitor.visitLdcInsn(value)
+        }
     }
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ class AssignmentStatementGenerator(private val methodVisitor: MethodVisitor, pri
         if (this.scope.localVariableExists(variableName)) {
             val index = this.scope.getLocalVariableIndex(variableName)
 
+            expression.accept(this.expressionGenerator)
+
             this.methodVisitor.visitVarInsn(type.getStoreOpcode(), index)
         } else {
             val field = this.scope.getField(variableName)
@@ -0,0 +1,95 @@
+package hachi.lang.bytecode.generator.statement
+
+import hachi.lang.bytecode.generator.expression.FlatExpressionGenerator
+import hachi.lang.domain.node.flat.FlatAst
+import hachi.lang.domain.node.flat.NodeKind
+import hachi.lang.domain.scope.Scope
+import hachi.lang.domain.type.TypePool
+import jdk.internal.org.objectweb.asm.Label
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+
+/**
+ * Generates the statements of a [FlatAst]. It emits the same instructions as [StatementGenerator] does for the tree.
+ */
+class FlatStatementGenerator(private val methodVisitor: MethodVisitor, scope: Scope, private val ast: FlatAst) {
+    private val expressionGenerator = FlatExpressionGenerator(methodVisitor, scope, ast)
+
+    private val rangedForLoopGenerator = RangedForLoopGenerator(methodVisitor)
+
+    fun generate(node: Int) {
+        when (this.ast.getKind(node)) {
+            NodeKind.BLOCK -> this.ast.forEachChild(node) { this.generate(it) }
+            NodeKind.PRINT -> this.generatePrint(node)
+            NodeKind.VARIABLE_DECLARATION, NodeKind.LOCAL_ASSIGNMENT -> {
+                this.expressionGenerator.generateChildren(node)
+                this.methodVisitor.visitVarInsn(this.ast.getType(node).getStoreOpcode(), this.ast.getOperand(node))
+            }
+            NodeKind.FIELD_ASSIGNMENT -> {
+                val field = this.ast.getField(node)
+
+                this.methodVisitor.visitVarInsn(Opcodes.ALOAD, 0)
+                this.expressionGenerator.generateChildren(node)
+                this.methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, field.getOwnerInternalName(), field.getName(), field.getType().getDescriptor())
+            }
+            NodeKind.RETURN -> {
+                this.expressionGenerator.generateChildren(node)
+                this.methodVisitor.visitInsn(this.ast.getType(node).getReturnOpcode())
+            }
+            NodeKind.IF -> this.generateIf(node)
+            NodeKind.RANGED_FOR -> this.generateRangedFor(node)
+            else -> this.expressionGenerator.generate(node)
+        }
+    }
+
+    private fun generatePrint(node: Int) {
+        val expression = this.ast.getChild(node, 0)
+        val descriptor = "(" + this.ast.getType(expression).getDescriptor() + ")V"
+        val ownerInternalName = TypePool.getClassType("java.io.PrintStream").getInternalName()
+
+        this.methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;")
+        this.expressionGenerator.generate(expression)
+        this.methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerInternalName, "println", descriptor, false)
+    }
+
+    private fun generateIf(node: Int) {
+        val falseLabel = Label()
+
+        this.expressionGenerator.generateJump(this.ast.getChild(node, 0), false, falseLabel)
+        this.generate(this.ast.getChild(node, 1))
+
+        if (this.ast.getChildCount(node) > 2) {
+            val endLabel = Label()
+
+            this.methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel)
+            this.methodVisitor.visitLabel(falseLabel)
+            this.generate(this.ast.getChild(node, 2))
+            this.methodVisitor.visitLabel(endLabel)
+        } else {
+            this.methodVisitor.visitLabel(falseLabel)
+        }
+    }
+
+    private fun generateRangedFor(node: Int) {
+        val iterator = this.ast.getChild(node, 0)
+        val endExpression = this.ast.getChild(node, 1)
+        val stepExpression = this.ast.getChild(node, 2)
+        val body = this.ast.getChild(node, 3)
+
+        this.rangedForLoopGenerator.generate(
+                this.ast.getOperand(node) and 0xFFFF,
+                this.ast.getOperand(node) ushr 16,
+                this.getConstant(this.ast.getChild(iterator, 0)),
+                this.getConstant(endExpression),
+                this.getConstant(stepExpression),
+                { this.generate(iterator) },
+                { this.expressionGenerator.generate(endExpression) },
+                { this.expressionGenerator.generate(stepExpression) },
+                { this.generate(body) }
+        )
+    }
+
+    private fun getConstant(node: Int): Int? {
+        return if (this.ast.getKind(node) == NodeKind.VALUE) this.ast.getLiteral(node) as? Int else null
+    }
+}
\ No newline at end of file
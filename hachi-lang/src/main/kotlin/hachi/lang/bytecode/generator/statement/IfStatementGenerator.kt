@@ -8,22 +8,24 @@ import jdk.internal.org.objectweb.asm.Opcodes
 
 class IfStatementGenerator(private val statementGenerator: StatementGenerator, private val expressionGenerator: ExpressionGenerator, private val methodVisitor: MethodVisitor) {
     fun generate(ifStatement: IfStatement) {
-        ifStatement.condition.accept(this.expressionGenerator)
-
-        val trueLabel = Label()
         val falseLabel = Label()
+        val falseStatement = ifStatement.falseStatement
 
-        this.methodVisitor.visitJumpInsn(Opcodes.IFNE, trueLabel)
+        this.expressionGenerator.generateJump(ifStatement.condition, false, falseLabel)
 
-        ifStatement.falseStatement.let {
-            it?.accept(this.statementGenerator)
-        }
+        ifStatement.trueStatement.accept(this.statementGenerator)
 
-        this.methodVisitor.visitJumpInsn(Opcodes.GOTO, falseLabel)
-        this.methodVisitor.visitLabel(trueLabel)
+        if (falseStatement == null) {
+            this.methodVisitor.visitLabel(falseLabel)
+        } else {
+            val endLabel = Label()
 
-        ifStatement.trueStatement.accept(this.statementGenerator)
+            this.methodVisitor.visitJumpInsn(Opcodes.GOTO, endLabel)
+            this.methodVisitor.visitLabel(falseLabel)
+
+            falseStatement.accept(this.statementGenerator)
 
-        this.methodVisitor.visitLabel(falseLabel)
+            this.methodVisitor.visitLabel(endLabel)
+        }
     }
 }
\ No newline at end of file
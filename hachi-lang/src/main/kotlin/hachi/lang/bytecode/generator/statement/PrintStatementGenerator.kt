@@ -2,7 +2,7 @@ package hachi.lang.bytecode.generator.statement
 
 import hachi.lang.bytecode.generator.expression.ExpressionGenerator
 import hachi.lang.domain.node.statement.PrintStatement
-import hachi.lang.domain.type.ClassType
+import hachi.lang.domain.type.TypePool
 import jdk.internal.org.objectweb.asm.MethodVisitor
 import jdk.internal.org.objectweb.asm.Opcodes
 
@@ -15,9 +15,9 @@ class PrintStatementGenerator(private val expressionGenerator: ExpressionGenerat
 
         val type = expression.getType()
         val descriptor = "(" + type.getDescriptor() + ")V"
-        val owner = ClassType("java.io.PrintStream")
-        val fieldDescriptor = owner.getDescriptor()
+        val owner = TypePool.getClassType("java.io.PrintStream")
+        val ownerInternalName = owner.getInternalName()
 
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, fieldDescriptor, "println", descriptor, false)
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ownerInternalName, "println", descriptor, false)
     }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package hachi.lang.bytecode.generator.statement
+
+import hachi.lang.bytecode.generator.FrameComputingMethodVisitor
+import hachi.lang.bytecode.generator.expression.ValueExpressionGenerator
+import hachi.lang.domain.node.statement.RangedForStatement
+import jdk.internal.org.objectweb.asm.Label
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+
+/**
+ * Lowers a ranged for loop with a single copy of its body. The range includes both ends, so the body runs at least
+ * once, and the end and step are evaluated once before the first iteration.
+ *
+ * When the start, end and step are constants, the loop is a canonical counted loop: the iterator is advanced by a
+ * constant stride and compared with its last value. Otherwise the number of steps is computed up front with an
+ * unsigned division and counted down, which cannot overflow however close the end is to the limits of int. A step
+ * that is not a constant is checked before the first iteration and fails with an IllegalArgumentException when it is
+ * not positive.
+ */
+class RangedForLoopGenerator(private val methodVisitor: MethodVisitor) {
+    private val valueExpressionGenerator = ValueExpressionGenerator(methodVisitor)
+
+    /**
+     * [loopVariableSlot] is the first of the three hidden locals of the loop: the end, the stride and the remaining
+     * number of steps. Counted loops do not reserve them and only treat the locals from that slot on as dead. The
+     * constants are null when the corresponding expression is not a literal.
+     */
+    fun generate(iteratorSlot: Int, loopVariableSlot: Int, start: Int?, end: Int?, step: Int?, generateIterator: () -> Unit, generateEnd: () -> Unit, generateStep: () -> Unit, generateBody: () -> Unit) {
+        if (start != null && end != null && step != null && RangedForStatement.isCountedLoop(start, end, step)) {
+            val stride = if (start <= end) step else -step
+            val last = (start + (end.toLong() - start) / stride * stride).toInt()
+
+            this.generateCounted(iteratorSlot, loopVariableSlot, start, last, stride, generateIterator, generateBody)
+        } else {
+            this.generateCountedDown(iteratorSlot, loopVariableSlot, end, step, generateIterator, generateEnd, generateStep, generateBody)
+        }
+    }
+
+    private fun generateCounted(iteratorSlot: Int, loopVariableSlot: Int, start: Int, last: Int, stride: Int, generateIterator: () -> Unit, generateBody: () -> Unit) {
+        val loopHead = Label()
+
+        generateIterator()
+
+        if (start == last) {
+            generateBody()
+
+            return
+        }
+
+        FrameComputingMethodVisitor.visitLoopHead(this.methodVisitor, loopHead, loopVariableSlot)
+        generateBody()
+
+        if (stride in Short.MIN_VALUE..Short.MAX_VALUE) {
+            this.methodVisitor.visitIincInsn(iteratorSlot, stride)
+        } else {
+            this.methodVisitor.visitVarInsn(Opcodes.ILOAD, iteratorSlot)
+            this.valueExpressionGenerator.generate(stride)
+            this.methodVisitor.visitInsn(Opcodes.IADD)
+            this.methodVisitor.visitVarInsn(Opcodes.ISTORE, iteratorSlot)
+        }
+
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, iteratorSlot)
+        this.valueExpressionGenerator.generate(last)
+        this.methodVisitor.visitJumpInsn(if (stride > 0) Opcodes.IF_ICMPLE else Opcodes.IF_ICMPGE, loopHead)
+    }
+
+    private fun generateCountedDown(iteratorSlot: Int, loopVariableSlot: Int, end: Int?, step: Int?, generateIterator: () -> Unit, generateEnd: () -> Unit, generateStep: () -> Unit, generateBody: () -> Unit) {
+        val endSlot = loopVariableSlot
+        val strideSlot = loopVariableSlot + 1
+        val remainingSlot = loopVariableSlot + 2
+        val downwards = Label()
+        val loopHead = Label()
+        val endLoop = Label()
+
+        generateIterator()
+
+        if (end == null) {
+            generateEnd()
+            this.methodVisitor.visitVarInsn(Opcodes.ISTORE, endSlot)
+        }
+
+        if (step == null) {
+            generateStep()
+            this.methodVisitor.visitVarInsn(Opcodes.ISTORE, strideSlot)
+            this.generateStepCheck(strideSlot)
+        }
+
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, iteratorSlot)
+        this.loadEnd(endSlot, end)
+        this.methodVisitor.visitJumpInsn(Opcodes.IF_ICMPGT, downwards)
+
+        this.loadEnd(endSlot, end)
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, iteratorSlot)
+        this.generateStepCount(remainingSlot, strideSlot, step)
+
+        if (step != null) {
+            this.loadStep(strideSlot, step)
+            this.methodVisitor.visitVarInsn(Opcodes.ISTORE, strideSlot)
+        }
+
+        this.methodVisitor.visitJumpInsn(Opcodes.GOTO, loopHead)
+
+        this.methodVisitor.visitLabel(downwards)
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, iteratorSlot)
+        this.loadEnd(endSlot, end)
+        this.generateStepCount(remainingSlot, strideSlot, step)
+        this.loadStep(strideSlot, step)
+        this.methodVisitor.visitInsn(Opcodes.INEG)
+        this.methodVisitor.visitVarInsn(Opcodes.ISTORE, strideSlot)
+
+        FrameComputingMethodVisitor.visitLoopHead(this.methodVisitor, loopHead, loopVariableSlot + 3)
+        generateBody()
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, remainingSlot)
+        this.methodVisitor.visitJumpInsn(Opcodes.IFEQ, endLoop)
+        this.methodVisitor.visitIincInsn(remainingSlot, -1)
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, iteratorSlot)
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, strideSlot)
+        this.methodVisitor.visitInsn(Opcodes.IADD)
+        this.methodVisitor.visitVarInsn(Opcodes.ISTORE, iteratorSlot)
+        this.methodVisitor.visitJumpInsn(Opcodes.GOTO, loopHead)
+
+        this.methodVisitor.visitLabel(endLoop)
+    }
+
+    private fun generateStepCheck(strideSlot: Int) {
+        val positiveStep = Label()
+
+        this.methodVisitor.visitVarInsn(Opcodes.ILOAD, strideSlot)
+        this.methodVisitor.visitJumpInsn(Opcodes.IFGT, positiveStep)
+        this.methodVisitor.visitTypeInsn(Opcodes.NEW, "java/lang/IllegalArgumentException")
+        this.methodVisitor.visitInsn(Opcodes.DUP)
+        this.methodVisitor.visitLdcInsn("The step of a ranged loop must be positive")
+        this.methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false)
+        this.methodVisitor.visitInsn(Opcodes.ATHROW)
+        this.methodVisitor.visitLabel(positiveStep)
+    }
+
+    private fun loadEnd(endSlot: Int, end: Int?) {
+        if (end == null) {
+            this.methodVisitor.visitVarInsn(Opcodes.ILOAD, endSlot)
+        } else {
+            this.valueExpressionGenerator.generate(end)
+        }
+    }
+
+    /**
+     * Divides the distance on the stack by the step and stores the quotient as the remaining number of steps.
+     */
+    private fun generateStepCount(remainingSlot: Int, strideSlot: Int, step: Int?) {
+        this.methodVisitor.visitInsn(Opcodes.ISUB)
+
+        if (step != 1) {
+            this.loadStep(strideSlot, step)
+            this.methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Integer", "divideUnsigned", "(II)I", false)
+        }
+
+        this.methodVisitor.visitVarInsn(Opcodes.ISTORE, remainingSlot)
+    }
+
+    private fun loadStep(strideSlot: Int, step: Int?) {
+        if (step == null) {
+            this.methodVisitor.visitVarInsn(Opcodes.ILOAD, strideSlot)
+        } else {
+            this.valueExpressionGenerator.generate(step)
+        }
+    }
+}
\ No newline at end of file
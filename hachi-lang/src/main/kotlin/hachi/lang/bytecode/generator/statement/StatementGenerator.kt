@@ -8,12 +8,15 @@ import hachi.lang.domain.node.expression.FieldReference
 import hachi.lang.domain.node.expression.FunctionCall
 import hachi.lang.domain.node.expression.FunctionParameter
 import hachi.lang.domain.node.expression.LocalVariableReference
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.NegationExpression
 import hachi.lang.domain.node.expression.SuperCall
 import hachi.lang.domain.node.expression.Value
 import hachi.lang.domain.node.expression.arithmetic.Addition
 import hachi.lang.domain.node.expression.arithmetic.Division
 import hachi.lang.domain.node.expression.arithmetic.Multiplication
 import hachi.lang.domain.node.expression.arithmetic.Subtraction
+import hachi.lang.domain.node.flat.FlatStatement
 import hachi.lang.domain.node.statement.AssignmentStatement
 import hachi.lang.domain.node.statement.BlockStatement
 import hachi.lang.domain.node.statement.IfStatement
@@ -29,7 +32,7 @@ class StatementGenerator(private val methodVisitor: MethodVisitor, private val s
 
     private val printStatementGenerator = PrintStatementGenerator(this.expressionGenerator, this.methodVisitor)
 
-    private val variableDeclarationStatementGenerator = VariableDeclarationStatementGenerator(this, this.expressionGenerator)
+    private val variableDeclarationStatementGenerator = VariableDeclarationStatementGenerator(this)
 
     private val forStatementGenerator = ForStatementGenerator(this.methodVisitor)
 
@@ -69,6 +72,10 @@ class StatementGenerator(private val methodVisitor: MethodVisitor, private val s
         this.assignmentStatementGenerator.generate(assignmentStatement)
     }
 
+    fun generate(flatStatement: FlatStatement) {
+        FlatStatementGenerator(this.methodVisitor, this.scope, flatStatement.ast).generate(flatStatement.root)
+    }
+
     fun generate(functionCall: FunctionCall) {
         functionCall.accept(this.expressionGenerator)
     }
@@ -105,6 +112,14 @@ class StatementGenerator(private val methodVisitor: MethodVisitor, private val s
         this.expressionGenerator.generate(conditionalExpression)
     }
 
+    fun generate(logicalExpression: LogicalExpression) {
+        this.expressionGenerator.generate(logicalExpression)
+    }
+
+    fun generate(negationExpression: NegationExpression) {
+        this.expressionGenerator.generate(negationExpression)
+    }
+
     fun generate(value: Value) {
         this.expressionGenerator.generate(value)
     }
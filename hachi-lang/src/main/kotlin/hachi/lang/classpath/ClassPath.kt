@@ -0,0 +1,33 @@
+package hachi.lang.classpath
+
+import java.io.Closeable
+import java.io.File
+
+class ClassPath(val entries: List<ClassPathEntry>) : Closeable {
+    companion object {
+        fun fromSystem(): ClassPath {
+            val platformEntries = JrtClassPathEntry.open()
+                    ?.let { listOf(it) }
+                    ?: this.fromPathList(System.getProperty("sun.boot.class.path"))
+
+            return ClassPath(platformEntries + this.fromPathList(System.getProperty("java.class.path")))
+        }
+
+        private fun fromPathList(pathList: String?): List<ClassPathEntry> {
+            return (pathList ?: "").split(File.pathSeparator)
+                    .filter { it.isNotEmpty() }
+                    .map { File(it) }
+                    .mapNotNull {
+                        when {
+                            it.isDirectory -> DirectoryClassPathEntry(it)
+                            it.isFile -> JarClassPathEntry(it)
+                            else -> null
+                        }
+                    }
+        }
+    }
+
+    override fun close() {
+        this.entries.forEach { it.close() }
+    }
+}
\ No newline at end of file
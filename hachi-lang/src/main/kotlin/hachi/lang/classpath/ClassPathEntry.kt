@@ -0,0 +1,14 @@
+package hachi.lang.classpath
+
+import java.io.Closeable
+
+interface ClassPathEntry : Closeable {
+    fun readClassFile(internalName: String): ByteArray?
+
+    fun getFingerprint(): String?
+
+    fun getClassNames(): Sequence<String>
+
+    override fun close() {
+    }
+}
\ No newline at end of file
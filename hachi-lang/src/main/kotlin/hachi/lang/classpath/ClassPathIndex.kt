@@ -0,0 +1,213 @@
+package hachi.lang.classpath
+
+import java.io.ByteArrayOutputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.nio.BufferUnderflowException
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+
+class ClassPathIndex private constructor(private val buffer: ByteBuffer, private val indexedEntries: Set<Int>, val classCount: Int, private val tableOffset: Int, private val tableSize: Int) {
+    companion object {
+        const val VERSION = 1
+
+        private const val MAGIC = 0x48434958
+
+        private const val EMPTY_SLOT = -1
+
+        const val INDEX_FILE_PROPERTY = "hachi.classpath.index"
+
+        // The index is opt-in, so nothing is written outside the build unless a file is configured
+        fun getConfiguredFile(): File? {
+            val path = System.getProperty(INDEX_FILE_PROPERTY) ?: return null
+
+            return if (path.isEmpty()) null else File(path)
+        }
+
+        fun openConfigured(classPath: ClassPath): ClassPathIndex? {
+            val file = this.getConfiguredFile() ?: return null
+
+            return try {
+                this.open(file, classPath)
+            } catch (e: IOException) {
+                null
+            }
+        }
+
+        fun open(file: File, classPath: ClassPath): ClassPathIndex {
+            val fingerprints = classPath.entries
+                    .withIndex()
+                    .mapNotNull { entry -> entry.value.getFingerprint()?.let { IndexedValue(entry.index, it) } }
+
+            return (if (file.isFile) this.map(file, fingerprints) else null)
+                    ?: this.write(file, classPath, fingerprints).let { this.map(file, fingerprints)!! }
+        }
+
+        private fun map(file: File, fingerprints: List<IndexedValue<String>>): ClassPathIndex? {
+            val buffer = FileChannel.open(file.toPath(), StandardOpenOption.READ).use {
+                it.map(FileChannel.MapMode.READ_ONLY, 0, it.size())
+            }
+
+            return try {
+                val isCurrentFormat = buffer.int == MAGIC && buffer.int == VERSION
+                val isUpToDate = isCurrentFormat && buffer.int == fingerprints.size && fingerprints.all {
+                    buffer.int == it.index && this.readString(buffer) == it.value
+                }
+
+                if (isUpToDate) {
+                    val classCount = buffer.int
+                    val tableSize = buffer.int
+
+                    ClassPathIndex(buffer, fingerprints.map { it.index }.toSet(), classCount, buffer.position(), tableSize)
+                } else {
+                    null
+                }
+            } catch (e: BufferUnderflowException) {
+                null
+            }
+        }
+
+        private fun write(file: File, classPath: ClassPath, fingerprints: List<IndexedValue<String>>) {
+            val records = ByteArrayOutputStream()
+            val recordsOutput = DataOutputStream(records)
+            val recordOffsets = mutableMapOf<String, Int>()
+
+            fingerprints.forEach { fingerprint ->
+                val entry = classPath.entries[fingerprint.index]
+
+                entry.getClassNames()
+                        .filter { it !in recordOffsets }
+                        .forEach { internalName ->
+                            this.readClassSymbol(entry, internalName)?.let {
+                                recordOffsets[internalName] = records.size()
+
+                                this.writeRecord(recordsOutput, fingerprint.index, it)
+                            }
+                        }
+            }
+
+            val tableSize = Integer.highestOneBit(recordOffsets.size * 2 + 1) * 2
+            val header = ByteArrayOutputStream()
+            val headerOutput = DataOutputStream(header)
+
+            headerOutput.writeInt(MAGIC)
+            headerOutput.writeInt(VERSION)
+            headerOutput.writeInt(fingerprints.size)
+
+            fingerprints.forEach {
+                headerOutput.writeInt(it.index)
+                this.writeString(headerOutput, it.value)
+            }
+
+            headerOutput.writeInt(recordOffsets.size)
+            headerOutput.writeInt(tableSize)
+
+            val recordsOffset = header.size() + tableSize * 4
+            val table = IntArray(tableSize) { EMPTY_SLOT }
+
+            recordOffsets.forEach { (internalName, offset) ->
+                var slot = internalName.hashCode() and (tableSize - 1)
+
+                while (table[slot] != EMPTY_SLOT) {
+                    slot = (slot + 1) and (tableSize - 1)
+                }
+
+                table[slot] = recordsOffset + offset
+            }
+
+            table.forEach { headerOutput.writeInt(it) }
+
+            file.absoluteFile.parentFile.mkdirs()
+
+            val temporaryFile = File.createTempFile(file.name, ".tmp", file.absoluteFile.parentFile)
+
+            temporaryFile.outputStream().use {
+                header.writeTo(it)
+                records.writeTo(it)
+            }
+
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        }
+
+        private fun readClassSymbol(entry: ClassPathEntry, internalName: String): ClassSymbol? {
+            return try {
+                entry.readClassFile(internalName)?.let { ClassSymbolReader().read(it) }
+            } catch (e: RuntimeException) {
+                null
+            }
+        }
+
+        private fun writeRecord(output: DataOutputStream, entryIndex: Int, classSymbol: ClassSymbol) {
+            val methods = classSymbol.methods.filter { it.isAccessible() }
+
+            this.writeString(output, classSymbol.internalName)
+            output.writeInt(entryIndex)
+            output.writeInt(classSymbol.access)
+            this.writeString(output, classSymbol.superName ?: "")
+            output.writeShort(classSymbol.interfaces.size)
+            classSymbol.interfaces.forEach { this.writeString(output, it) }
+            output.writeInt(methods.size)
+
+            methods.forEach {
+                this.writeString(output, it.name)
+                this.writeString(output, it.descriptor)
+                output.writeInt(it.access)
+            }
+        }
+
+        private fun writeString(output: DataOutputStream, value: String) {
+            val bytes = value.toByteArray(Charsets.UTF_8)
+
+            output.writeShort(bytes.size)
+            output.write(bytes)
+        }
+
+        private fun readString(buffer: ByteBuffer): String {
+            val bytes = ByteArray(buffer.short.toInt() and 0xFFFF)
+
+            buffer.get(bytes)
+
+            return String(bytes, Charsets.UTF_8)
+        }
+    }
+
+    fun isIndexed(entryIndex: Int): Boolean {
+        return entryIndex in this.indexedEntries
+    }
+
+    fun find(internalName: String): IndexedValue<ClassSymbol>? {
+        var slot = internalName.hashCode() and (this.tableSize - 1)
+
+        while (true) {
+            val offset = this.buffer.getInt(this.tableOffset + slot * 4)
+
+            if (offset == EMPTY_SLOT) {
+                return null
+            }
+
+            val record = this.buffer.duplicate()
+
+            record.position(offset)
+
+            if (readString(record) == internalName) {
+                return this.readRecord(record, internalName)
+            }
+
+            slot = (slot + 1) and (this.tableSize - 1)
+        }
+    }
+
+    private fun readRecord(record: ByteBuffer, internalName: String): IndexedValue<ClassSymbol> {
+        val entryIndex = record.int
+        val access = record.int
+        val superName = readString(record).takeIf { it.isNotEmpty() }
+        val interfaces = (0 until record.short).map { readString(record) }
+        val methods = (0 until record.int).map { MethodSymbol(internalName, readString(record), readString(record), record.int) }
+
+        return IndexedValue(entryIndex, ClassSymbol(internalName, access, superName, interfaces, methods))
+    }
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+package hachi.lang.classpath
+
+import hachi.lang.exception.AmbiguousMethodCallException
+import jdk.internal.org.objectweb.asm.Type
+import java.io.Closeable
+import java.util.ArrayDeque
+import java.util.Optional
+import java.util.concurrent.ConcurrentHashMap
+
+class ClassPathSymbols(private val classPath: ClassPath, private val classPathIndex: ClassPathIndex? = null) : Closeable {
+    companion object {
+        val shared by lazy {
+            val classPath = ClassPath.fromSystem()
+
+            ClassPathSymbols(classPath, ClassPathIndex.openConfigured(classPath))
+        }
+
+        private const val constructorName = "<init>"
+
+        private const val objectInternalName = "java/lang/Object"
+
+        private val arraySuperDescriptors = setOf("Ljava/lang/Cloneable;", "Ljava/io/Serializable;")
+
+        private val primitiveWidenings = mapOf(
+                "B" to listOf("S", "I", "J", "F", "D"),
+                "S" to listOf("I", "J", "F", "D"),
+                "C" to listOf("I", "J", "F", "D"),
+                "I" to listOf("J", "F", "D"),
+                "J" to listOf("F", "D"),
+                "F" to listOf("D")
+        )
+
+        private val wrapperInternalNames = mapOf(
+                "Z" to "java/lang/Boolean",
+                "B" to "java/lang/Byte",
+                "C" to "java/lang/Character",
+                "S" to "java/lang/Short",
+                "I" to "java/lang/Integer",
+                "J" to "java/lang/Long",
+                "F" to "java/lang/Float",
+                "D" to "java/lang/Double"
+        )
+
+        private val primitiveDescriptors = this.wrapperInternalNames.entries
+                .associate { "L" + it.value + ";" to it.key }
+    }
+
+    private val classSymbols = ConcurrentHashMap<String, Optional<ClassSymbol>>()
+
+    private val methodSymbols = ConcurrentHashMap<String, Optional<MethodSymbol>>()
+
+    fun getClassSymbol(internalName: String): ClassSymbol? {
+        return this.classSymbols.computeIfAbsent(internalName) {
+            Optional.ofNullable(this.readClassSymbol(it))
+        }.orElse(null)
+    }
+
+    fun findMethod(ownerInternalName: String, name: String, argumentDescriptors: List<String>): MethodSymbol? {
+        val key = ownerInternalName + "." + name + argumentDescriptors.joinToString("", "(", ")")
+
+        return this.methodSymbols.computeIfAbsent(key) {
+            Optional.ofNullable(this.resolveMethod(ownerInternalName, name, argumentDescriptors))
+        }.orElse(null)
+    }
+
+    fun findConstructor(ownerInternalName: String, argumentDescriptors: List<String>): MethodSymbol? {
+        return this.findMethod(ownerInternalName, constructorName, argumentDescriptors)
+    }
+
+    override fun close() {
+        this.classPath.close()
+    }
+
+    private fun readClassSymbol(internalName: String): ClassSymbol? {
+        val indexedClassSymbol = this.classPathIndex?.find(internalName)
+        // Classes that could not be read while indexing are missing from the index, so a miss reads every entry
+        val precedingEntries = this.classPath.entries.withIndex()
+                .take(indexedClassSymbol?.index ?: this.classPath.entries.size)
+                .filter { indexedClassSymbol == null || this.classPathIndex?.isIndexed(it.index) != true }
+
+        return precedingEntries.asSequence()
+                .mapNotNull { it.value.readClassFile(internalName) }
+                .firstOrNull()
+                ?.let { this.readClassFile(it) }
+                ?: indexedClassSymbol?.value
+    }
+
+    private fun readClassFile(bytecode: ByteArray): ClassSymbol? {
+        return try {
+            ClassSymbolReader().read(bytecode)
+        } catch (e: RuntimeException) {
+            null
+        }
+    }
+
+    /**
+     * Resolves an overload the way the Java language specification does for fixed arity methods. Overloads that are
+     * applicable by subtyping and primitive widening are preferred over those that also need boxing or unboxing, and
+     * among them the most specific one is chosen. When no overload is more specific than all others, the call is
+     * ambiguous. Variable arity methods are only applicable with an explicit array argument.
+     */
+    private fun resolveMethod(ownerInternalName: String, name: String, argumentDescriptors: List<String>): MethodSymbol? {
+        val owners = if (name == constructorName) {
+            listOfNotNull(this.getClassSymbol(ownerInternalName))
+        } else {
+            this.getHierarchy(ownerInternalName).mapNotNull { this.getClassSymbol(it) }
+        }
+
+        val methods = owners.asSequence()
+                .flatMap { it.methods.asSequence() }
+                .filter { it.name == name && it.isAccessible() }
+                .distinctBy { it.descriptor.substringBefore(')') }
+                .filter { Type.getArgumentTypes(it.descriptor).size == argumentDescriptors.size }
+                .toList()
+        val candidates = listOf(false, true).asSequence()
+                .map { allowBoxing -> methods.filter { this.isApplicable(it, argumentDescriptors, allowBoxing) } }
+                .firstOrNull { it.isNotEmpty() }
+                ?: return null
+
+        return candidates.firstOrNull { candidate -> candidates.all { it === candidate || this.isMoreSpecific(candidate, it) } }
+                ?: throw AmbiguousMethodCallException(ownerInternalName, name, argumentDescriptors, candidates.map { it.descriptor })
+    }
+
+    private fun isApplicable(method: MethodSymbol, argumentDescriptors: List<String>, allowBoxing: Boolean): Boolean {
+        return argumentDescriptors.zip(this.getParameterDescriptors(method))
+                .all { this.isSubtype(it.first, it.second) || allowBoxing && this.isConvertibleByBoxing(it.first, it.second) }
+    }
+
+    private fun isMoreSpecific(method: MethodSymbol, other: MethodSymbol): Boolean {
+        return this.getParameterDescriptors(method).zip(this.getParameterDescriptors(other))
+                .all { this.isSubtype(it.first, it.second) }
+    }
+
+    private fun getParameterDescriptors(method: MethodSymbol): List<String> {
+        return Type.getArgumentTypes(method.descriptor).map { it.descriptor }
+    }
+
+    private fun isConvertibleByBoxing(argumentDescriptor: String, parameterDescriptor: String): Boolean {
+        return if (argumentDescriptor.length == 1) {
+            val wrapperDescriptor = "L" + wrapperInternalNames.getValue(argumentDescriptor) + ";"
+
+            this.isSubtype(wrapperDescriptor, parameterDescriptor)
+        } else {
+            val unboxedDescriptor = primitiveDescriptors[argumentDescriptor] ?: return false
+
+            this.isSubtype(unboxedDescriptor, parameterDescriptor)
+        }
+    }
+
+    // Primitive types are subtypes of the types they widen to, as in the specification
+    private fun isSubtype(descriptor: String, superDescriptor: String): Boolean {
+        if (descriptor == superDescriptor) {
+            return true
+        }
+
+        val isPrimitive = descriptor.length == 1
+        val isSuperPrimitive = superDescriptor.length == 1
+
+        return when {
+            isPrimitive && isSuperPrimitive -> primitiveWidenings[descriptor]?.contains(superDescriptor) == true
+            isPrimitive || isSuperPrimitive -> false
+            superDescriptor == "L$objectInternalName;" -> true
+            descriptor.startsWith("[") -> this.isArraySubtype(descriptor, superDescriptor)
+            superDescriptor.startsWith("[") -> false
+            else -> this.getHierarchy(this.getInternalName(descriptor)).contains(this.getInternalName(superDescriptor))
+        }
+    }
+
+    private fun isArraySubtype(descriptor: String, superDescriptor: String): Boolean {
+        val componentDescriptor = descriptor.substring(1)
+
+        return when {
+            superDescriptor.startsWith("[") -> {
+                val superComponentDescriptor = superDescriptor.substring(1)
+
+                componentDescriptor.length > 1 && superComponentDescriptor.length > 1 && this.isSubtype(componentDescriptor, superComponentDescriptor)
+            }
+            else -> superDescriptor in arraySuperDescriptors
+        }
+    }
+
+    private fun getInternalName(descriptor: String): String {
+        return descriptor.removePrefix("L").removeSuffix(";")
+    }
+
+    private fun getHierarchy(internalName: String): List<String> {
+        val hierarchy = mutableListOf<String>()
+        val pending = ArrayDeque<String>()
+
+        pending.add(internalName)
+
+        while (pending.isNotEmpty()) {
+            val current = pending.removeFirst()
+
+            if (current in hierarchy) {
+                continue
+            }
+
+            hierarchy.add(current)
+
+            this.getClassSymbol(current)?.let { classSymbol ->
+                classSymbol.superName?.let { pending.add(it) }
+                pending.addAll(classSymbol.interfaces)
+            }
+        }
+
+        return hierarchy
+    }
+}
\ No newline at end of file
@@ -0,0 +1,3 @@
+package hachi.lang.classpath
+
+class ClassSymbol(val internalName: String, val access: Int, val superName: String?, val interfaces: List<String>, val methods: List<MethodSymbol>)
\ No newline at end of file
@@ -0,0 +1,56 @@
+package hachi.lang.classpath
+
+import jdk.internal.org.objectweb.asm.ClassReader
+import jdk.internal.org.objectweb.asm.ClassVisitor
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+
+class ClassSymbolReader : ClassVisitor(latestApi) {
+    companion object {
+        // Platform class files on newer JDKs carry attributes that older ASM API levels reject
+        private val latestApi = Opcodes::class.java.fields
+                .filter { it.name.matches(Regex("ASM\\d+")) }
+                .map { it.getInt(null) }
+                .maxOrNull() ?: Opcodes.ASM5
+
+        private val latestClassFileVersion = Opcodes::class.java.fields
+                .filter { it.name.matches(Regex("V\\d+(_\\d+)?")) }
+                .map { it.getInt(null) and 0xFFFF }
+                .maxOrNull() ?: Opcodes.V1_8
+
+        fun isSupported(bytecode: ByteArray): Boolean {
+            val majorVersion = ((bytecode[6].toInt() and 0xFF) shl 8) or (bytecode[7].toInt() and 0xFF)
+
+            return majorVersion <= latestClassFileVersion
+        }
+    }
+
+    private val methods = mutableListOf<MethodSymbol>()
+
+    private lateinit var internalName: String
+
+    private var access = 0
+
+    private var superName: String? = null
+
+    private var interfaces = emptyList<String>()
+
+    fun read(bytecode: ByteArray): ClassSymbol {
+        ClassReader(bytecode).accept(this, ClassReader.SKIP_CODE + ClassReader.SKIP_DEBUG + ClassReader.SKIP_FRAMES)
+
+        return ClassSymbol(this.internalName, this.access, this.superName, this.interfaces, this.methods)
+    }
+
+    override fun visit(version: Int, access: Int, name: String, signature: String?, superName: String?, interfaces: Array<String>?) {
+        this.internalName = name
+        this.access = access
+        this.superName = superName
+        this.interfaces = interfaces?.toList() ?: emptyList()
+    }
+
+    override fun visitMethod(access: Int, name: String, descriptor: String, signature: String?, exceptions: Array<String>?): MethodVisitor? {
+        this.methods.add(MethodSymbol(this.internalName, name, descriptor, access))
+
+        return null
+    }
+}
\ No newline at end of file
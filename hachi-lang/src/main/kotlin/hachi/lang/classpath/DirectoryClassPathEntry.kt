@@ -0,0 +1,19 @@
+package hachi.lang.classpath
+
+import java.io.File
+
+class DirectoryClassPathEntry(val directory: File) : ClassPathEntry {
+    override fun readClassFile(internalName: String): ByteArray? {
+        val classFile = File(this.directory, "$internalName.class")
+
+        return if (classFile.isFile) classFile.readBytes() else null
+    }
+
+    override fun getFingerprint(): String? {
+        return null
+    }
+
+    override fun getClassNames(): Sequence<String> {
+        return emptySequence()
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package hachi.lang.classpath
+
+import java.io.File
+import java.util.jar.JarFile
+
+class JarClassPathEntry(val file: File) : ClassPathEntry {
+    private val lazyJarFile = lazy { JarFile(this.file) }
+
+    private val jarFile by this.lazyJarFile
+
+    override fun readClassFile(internalName: String): ByteArray? {
+        val entry = this.jarFile.getJarEntry("$internalName.class") ?: return null
+
+        return this.jarFile.getInputStream(entry).use { it.readBytes() }
+    }
+
+    override fun getFingerprint(): String {
+        return "jar:%s:%d:%d".format(this.file.absolutePath, this.file.length(), this.file.lastModified())
+    }
+
+    override fun getClassNames(): Sequence<String> {
+        return this.jarFile.entries().asSequence()
+                .map { it.name }
+                .filter { it.endsWith(".class") && !it.startsWith("META-INF/") && !it.endsWith("module-info.class") }
+                .map { it.removeSuffix(".class") }
+    }
+
+    override fun close() {
+        if (this.lazyJarFile.isInitialized()) {
+            this.jarFile.close()
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package hachi.lang.classpath
+
+import java.io.File
+import java.nio.file.FileSystem
+import java.nio.file.FileSystems
+import java.nio.file.Files
+import java.net.URI
+
+class JrtClassPathEntry(private val fileSystem: FileSystem) : ClassPathEntry {
+    companion object {
+        // The platform image is only used when the ASM of the running JDK can read its class files
+        fun open(): JrtClassPathEntry? {
+            val entry = try {
+                JrtClassPathEntry(FileSystems.getFileSystem(URI.create("jrt:/")))
+            } catch (e: Exception) {
+                return null
+            }
+            val objectClassFile = entry.readClassFile("java/lang/Object") ?: return null
+
+            return if (ClassSymbolReader.isSupported(objectClassFile)) entry else null
+        }
+    }
+
+    override fun readClassFile(internalName: String): ByteArray? {
+        val packageName = internalName.substringBeforeLast('/', "").replace('/', '.')
+        val packageDirectory = this.fileSystem.getPath("/packages", packageName)
+
+        if (!Files.isDirectory(packageDirectory)) {
+            return null
+        }
+
+        return Files.newDirectoryStream(packageDirectory).use { modules ->
+            modules.asSequence()
+                    .map { this.fileSystem.getPath("/modules", it.fileName.toString(), "$internalName.class") }
+                    .firstOrNull { Files.isRegularFile(it) }
+                    ?.let { Files.readAllBytes(it) }
+        }
+    }
+
+    override fun getFingerprint(): String {
+        val javaHome = System.getProperty("java.home")
+        val modules = File(javaHome, "lib/modules")
+
+        return "jrt:%s:%s:%d".format(javaHome, System.getProperty("java.runtime.version"), modules.lastModified())
+    }
+
+    override fun getClassNames(): Sequence<String> {
+        val classNames = mutableListOf<String>()
+
+        Files.newDirectoryStream(this.fileSystem.getPath("/modules")).use { modules ->
+            modules.forEach { module ->
+                Files.walk(module).use { paths ->
+                    paths.map { module.relativize(it).toString() }
+                            .filter { it.endsWith(".class") && it != "module-info.class" }
+                            .forEach { classNames.add(it.removeSuffix(".class")) }
+                }
+            }
+        }
+
+        return classNames.asSequence()
+    }
+}
\ No newline at end of file
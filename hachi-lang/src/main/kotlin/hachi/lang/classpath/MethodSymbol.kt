@@ -0,0 +1,12 @@
+package hachi.lang.classpath
+
+import jdk.internal.org.objectweb.asm.Opcodes
+
+class MethodSymbol(val owner: String, val name: String, val descriptor: String, val access: Int) {
+    fun isAccessible(): Boolean {
+        val isPublic = this.access and Opcodes.ACC_PUBLIC != 0
+        val isSynthetic = this.access and (Opcodes.ACC_SYNTHETIC or Opcodes.ACC_BRIDGE) != 0
+
+        return isPublic && !isSynthetic
+    }
+}
\ No newline at end of file
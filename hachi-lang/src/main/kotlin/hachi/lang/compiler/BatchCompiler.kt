@@ -0,0 +1,74 @@
+package hachi.lang.compiler
+
+import hachi.lang.bytecode.generator.MethodGeneration
+import hachi.lang.domain.CompilationUnit
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.optimization.PassReport
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import java.io.File
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+
+class BatchCompiler(private val threads: Int = Runtime.getRuntime().availableProcessors(), private val frontend: Frontend = Frontend.ANTLR, private val astFormat: AstFormat = AstFormat.TREE, private val bodyAnalysis: BodyAnalysis = BodyAnalysis.EAGER, optimizationLevel: OptimizationLevel = OptimizationLevel.O0, methodGeneration: MethodGeneration = MethodGeneration.SERIAL) {
+    private val compiler = Compiler(this.frontend, this.astFormat, this.bodyAnalysis, optimizationLevel, methodGeneration)
+
+    companion object {
+        fun findSourceFiles(directory: File): List<File> {
+            return directory.walkTopDown()
+                    .filter { it.isFile && it.extension == "hc" }
+                    .sorted()
+                    .toList()
+        }
+    }
+
+    fun getPassReport(): PassReport {
+        return this.compiler.passManager.report
+    }
+
+    fun compileDirectory(directory: File): List<CompilationFailure> {
+        return this.compile(findSourceFiles(directory))
+    }
+
+    fun compile(files: List<File>): List<CompilationFailure> {
+        val workers = Executors.newFixedThreadPool(this.threads)
+        val writer = Executors.newSingleThreadExecutor()
+        val filesInFlight = Semaphore(this.threads * 2)
+        val failures = ConcurrentLinkedQueue<CompilationFailure>()
+
+        try {
+            val futures = files.map { file ->
+                filesInFlight.acquire()
+
+                CompletableFuture.supplyAsync({ this.parse(file) }, workers)
+                        .thenApplyAsync({ this.compiler.compile(it) }, workers)
+                        .thenAcceptAsync({ this.compiler.saveBytecodeToClassFile(it, file.absoluteFile.parent) }, writer)
+                        .whenComplete { _, throwable ->
+                            if (throwable != null) {
+                                val cause = if (throwable is CompletionException) throwable.cause ?: throwable else throwable
+
+                                failures.add(CompilationFailure(file, cause))
+                            }
+
+                            filesInFlight.release()
+                        }
+            }
+
+            futures.forEach { it.handle { _, _ -> null }.join() }
+        } finally {
+            workers.shutdown()
+            writer.shutdown()
+        }
+
+        return failures.sortedBy { it.file.path }
+    }
+
+    private fun parse(file: File): CompilationUnit {
+        return Parser(this.frontend, this.astFormat, this.bodyAnalysis, this.compiler.passManager).getCompilationUnit(file.absolutePath)
+    }
+}
\ No newline at end of file
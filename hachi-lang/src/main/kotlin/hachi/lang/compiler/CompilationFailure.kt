@@ -0,0 +1,12 @@
+package hachi.lang.compiler
+
+import java.io.File
+
+class CompilationFailure(val file: File, val cause: Throwable) {
+    /**
+     * The message of [cause], or its class name for exceptions without one such as a NullPointerException.
+     */
+    fun getMessage(): String {
+        return this.cause.message ?: this.cause.javaClass.name
+    }
+}
\ No newline at end of file
@@ -0,0 +1,3 @@
+package hachi.lang.compiler
+
+class CompiledClass(val name: String, val bytecode: ByteArray)
\ No newline at end of file
@@ -1,26 +1,45 @@
 package hachi.lang.compiler
 
 import hachi.lang.bytecode.generator.BytecodeGenerator
+import hachi.lang.bytecode.generator.MethodGeneration
 import hachi.lang.domain.CompilationUnit
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.optimization.PassManager
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.parsing.Frontend
 import hachi.lang.parsing.Parser
 import java.io.File
 import java.io.FileOutputStream
 
-class Compiler {
+class Compiler(private val frontend: Frontend = Frontend.ANTLR, private val astFormat: AstFormat = AstFormat.TREE, private val bodyAnalysis: BodyAnalysis = BodyAnalysis.EAGER, optimizationLevel: OptimizationLevel = OptimizationLevel.O0, private val methodGeneration: MethodGeneration = MethodGeneration.SERIAL) {
+    // Shared by every file this compiler parses, so its report covers all of them
+    val passManager = PassManager(optimizationLevel)
+
     fun compile(file: File) {
-        val compilationUnit = Parser().getCompilationUnit(file.absolutePath)
+        val compilationUnit = Parser(this.frontend, this.astFormat, this.bodyAnalysis, this.passManager).getCompilationUnit(file.absolutePath)
+
+        this.saveBytecodeToClassFile(this.compile(compilationUnit), file.parent)
+    }
+
+    fun compile(source: String): CompiledClass {
+        val compilationUnit = Parser(this.frontend, this.astFormat, this.bodyAnalysis, this.passManager).getCompilationUnitFromSource(source)
 
-        this.saveBytecodeToClassFile(compilationUnit, file.parent)
+        return this.compile(compilationUnit)
     }
 
-    private fun saveBytecodeToClassFile(compilationUnit: CompilationUnit, path: String) {
-        val bytecodeGenerator = BytecodeGenerator()
+    fun compile(compilationUnit: CompilationUnit): CompiledClass {
+        val bytecodeGenerator = BytecodeGenerator(this.methodGeneration)
         val byteCode = bytecodeGenerator.generate(compilationUnit)
-        val className = compilationUnit.getClassName()
-        val fileName = "%s/%s.class".format(path, className)
+
+        return CompiledClass(compilationUnit.getClassName(), byteCode)
+    }
+
+    fun saveBytecodeToClassFile(compiledClass: CompiledClass, path: String) {
+        val fileName = "%s/%s.class".format(path, compiledClass.name)
         val outputStream = FileOutputStream(fileName)
 
-        outputStream.write(byteCode)
+        outputStream.write(compiledClass.bytecode)
         outputStream.close()
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package hachi.lang.compiler
+
+class HachiClassLoader(parent: ClassLoader) : ClassLoader(parent) {
+    fun defineClass(compiledClass: CompiledClass): Class<*> {
+        val bytecode = compiledClass.bytecode
+
+        return this.defineClass(compiledClass.name, bytecode, 0, bytecode.size)
+    }
+}
\ No newline at end of file
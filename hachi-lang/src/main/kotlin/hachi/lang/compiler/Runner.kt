@@ -0,0 +1,24 @@
+package hachi.lang.compiler
+
+import java.lang.reflect.InvocationTargetException
+
+class Runner(private val parentClassLoader: ClassLoader) {
+    constructor() : this(Runner::class.java.classLoader)
+
+    fun run(source: String, args: Array<String>) {
+        val compiledClass = Compiler().compile(source)
+
+        this.run(compiledClass, args)
+    }
+
+    fun run(compiledClass: CompiledClass, args: Array<String>) {
+        val mainClass = HachiClassLoader(this.parentClassLoader).defineClass(compiledClass)
+        val mainMethod = mainClass.getMethod("main", Array<String>::class.java)
+
+        try {
+            mainMethod.invoke(null, args)
+        } catch (e: InvocationTargetException) {
+            throw e.targetException
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package hachi.lang.compiler.incremental
+
+import java.io.File
+
+class CompilationState(private val sourceFileStates: MutableMap<String, SourceFileState>) {
+    constructor() : this(mutableMapOf())
+
+    companion object {
+        private const val header = "hachi-incremental-state 1"
+
+        private const val separator = "\t"
+
+        fun load(stateFile: File): CompilationState {
+            if (!stateFile.isFile) {
+                return CompilationState()
+            }
+
+            val lines = stateFile.readLines()
+
+            if (lines.firstOrNull() != header) {
+                return CompilationState()
+            }
+
+            val sourceFileStates = lines.drop(1)
+                    .filter { it.isNotEmpty() }
+                    .map { fromLine(it) }
+                    .associateBy { it.path }
+
+            return CompilationState(sourceFileStates.toMutableMap())
+        }
+
+        private fun fromLine(line: String): SourceFileState {
+            val columns = line.split(separator)
+            val dependencies = columns[4].split(",")
+                    .filter { it.isNotEmpty() }
+                    .toSet()
+
+            return SourceFileState(columns[0], columns[1], columns[2], columns[3], dependencies)
+        }
+    }
+
+    fun get(path: String): SourceFileState? {
+        return this.sourceFileStates[path]
+    }
+
+    fun put(sourceFileState: SourceFileState) {
+        this.sourceFileStates[sourceFileState.path] = sourceFileState
+    }
+
+    fun remove(path: String) {
+        this.sourceFileStates.remove(path)
+    }
+
+    fun retainAll(paths: Set<String>): List<SourceFileState> {
+        val removedSourceFileStates = this.sourceFileStates.values.filter { it.path !in paths }
+
+        removedSourceFileStates.forEach { this.sourceFileStates.remove(it.path) }
+
+        return removedSourceFileStates
+    }
+
+    fun getDependents(className: String): List<String> {
+        return this.sourceFileStates.values
+                .filter { className in it.dependencies }
+                .map { it.path }
+    }
+
+    fun save(stateFile: File) {
+        val lines = this.sourceFileStates.values
+                .sortedBy { it.path }
+                .map { listOf(it.path, it.contentHash, it.abiHash, it.className, it.dependencies.sorted().joinToString(",")).joinToString(separator) }
+
+        stateFile.writeText((listOf(header) + lines).joinToString("\n"))
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package hachi.lang.compiler.incremental
+
+import jdk.internal.org.objectweb.asm.ClassReader
+import jdk.internal.org.objectweb.asm.ClassVisitor
+import jdk.internal.org.objectweb.asm.FieldVisitor
+import jdk.internal.org.objectweb.asm.MethodVisitor
+import jdk.internal.org.objectweb.asm.Opcodes
+import jdk.internal.org.objectweb.asm.Type
+
+class DependencyCollector : ClassVisitor(Opcodes.ASM5) {
+    private val internalNames = mutableSetOf<String>()
+
+    private lateinit var className: String
+
+    fun collect(bytecode: ByteArray): Set<String> {
+        ClassReader(bytecode).accept(this, ClassReader.SKIP_DEBUG + ClassReader.SKIP_FRAMES)
+
+        return this.internalNames.filter { it != this.className && !it.startsWith("java/") }
+                .map { Type.getObjectType(it).className }
+                .toSet()
+    }
+
+    override fun visit(version: Int, access: Int, name: String, signature: String?, superName: String?, interfaces: Array<String>?) {
+        this.className = name
+
+        superName?.let { this.internalNames.add(it) }
+    }
+
+    override fun visitField(access: Int, name: String, descriptor: String, signature: String?, value: Any?): FieldVisitor? {
+        this.addType(Type.getType(descriptor))
+
+        return null
+    }
+
+    override fun visitMethod(access: Int, name: String, descriptor: String, signature: String?, exceptions: Array<String>?): MethodVisitor {
+        this.addMethodDescriptor(descriptor)
+
+        return object : MethodVisitor(Opcodes.ASM5) {
+            override fun visitTypeInsn(opcode: Int, type: String) {
+                this@DependencyCollector.addType(Type.getObjectType(type))
+            }
+
+            override fun visitFieldInsn(opcode: Int, owner: String, name: String, descriptor: String) {
+                this@DependencyCollector.addType(Type.getObjectType(owner))
+                this@DependencyCollector.addType(Type.getType(descriptor))
+            }
+
+            override fun visitMethodInsn(opcode: Int, owner: String, name: String, descriptor: String, isInterface: Boolean) {
+                this@DependencyCollector.addType(Type.getObjectType(owner))
+                this@DependencyCollector.addMethodDescriptor(descriptor)
+            }
+        }
+    }
+
+    private fun addMethodDescriptor(descriptor: String) {
+        Type.getArgumentTypes(descriptor).forEach { this.addType(it) }
+
+        this.addType(Type.getReturnType(descriptor))
+    }
+
+    private fun addType(type: Type) {
+        val elementType = if (type.sort == Type.ARRAY) type.elementType else type
+
+        if (elementType.sort == Type.OBJECT) {
+            this.internalNames.add(elementType.internalName)
+        }
+    }
+}
\ No newline at end of file
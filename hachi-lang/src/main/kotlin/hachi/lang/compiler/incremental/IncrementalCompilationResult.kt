@@ -0,0 +1,6 @@
+package hachi.lang.compiler.incremental
+
+import hachi.lang.compiler.CompilationFailure
+import java.io.File
+
+class IncrementalCompilationResult(val compiledFiles: List<File>, val failures: List<CompilationFailure>)
\ No newline at end of file
@@ -0,0 +1,141 @@
+package hachi.lang.compiler.incremental
+
+import hachi.lang.bytecode.generator.MethodGeneration
+import hachi.lang.compiler.CompilationFailure
+import hachi.lang.compiler.Compiler
+import hachi.lang.domain.ClassDeclaration
+import hachi.lang.domain.node.expression.ConditionalExpression
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.NegationExpression
+import hachi.lang.domain.node.expression.Value
+import hachi.lang.domain.node.expression.arithmetic.ArithmeticExpression
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.optimization.PassReport
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import hachi.lang.util.DescriptorFactory
+import java.io.File
+import java.security.MessageDigest
+
+class IncrementalCompiler(private val stateFile: File, private val frontend: Frontend = Frontend.ANTLR, private val astFormat: AstFormat = AstFormat.TREE, private val bodyAnalysis: BodyAnalysis = BodyAnalysis.EAGER, private val optimizationLevel: OptimizationLevel = OptimizationLevel.O0, methodGeneration: MethodGeneration = MethodGeneration.SERIAL) {
+    private val compiler = Compiler(this.frontend, this.astFormat, this.bodyAnalysis, this.optimizationLevel, methodGeneration)
+
+    fun getPassReport(): PassReport {
+        return this.compiler.passManager.report
+    }
+
+    fun compile(files: List<File>): IncrementalCompilationResult {
+        val state = CompilationState.load(this.stateFile)
+        val filesByPath = files.associateBy { it.absolutePath }
+        // The options are part of the content hash, so compiling with other options recompiles every file. The method
+        // generation mode is left out since it does not change the bytes
+        val options = "%s %s %s %s\n".format(this.frontend, this.astFormat, this.bodyAnalysis, this.optimizationLevel).toByteArray()
+        val contentHashes = filesByPath.mapValues { this.getHash(options + it.value.readBytes()) }
+        val compiledFiles = linkedSetOf<File>()
+        val failures = mutableListOf<CompilationFailure>()
+        val removedClassNames = state.retainAll(filesByPath.keys).map { it.className }
+        val outdatedPaths = filesByPath.keys.filter { this.isOutdated(state.get(it), contentHashes.getValue(it), filesByPath.getValue(it)) }
+
+        var pendingPaths = (outdatedPaths + removedClassNames.flatMap { state.getDependents(it) }).toSortedSet()
+
+        while (pendingPaths.isNotEmpty()) {
+            val changedClassNames = mutableListOf<String>()
+
+            pendingPaths.forEach {
+                val file = filesByPath.getValue(it)
+                val previousState = state.get(it)
+
+                try {
+                    val sourceFileState = this.compile(file, contentHashes.getValue(it))
+
+                    state.put(sourceFileState)
+                    compiledFiles.add(file)
+
+                    if (previousState == null || previousState.abiHash != sourceFileState.abiHash) {
+                        changedClassNames.add(sourceFileState.className)
+                    }
+                } catch (e: Exception) {
+                    state.remove(it)
+                    failures.add(CompilationFailure(file, e))
+                }
+            }
+
+            pendingPaths = changedClassNames.flatMap { state.getDependents(it) }
+                    .toSortedSet()
+        }
+
+        state.save(this.stateFile)
+
+        return IncrementalCompilationResult(compiledFiles.toList(), failures)
+    }
+
+    private fun isOutdated(sourceFileState: SourceFileState?, contentHash: String, file: File): Boolean {
+        if (sourceFileState == null || sourceFileState.contentHash != contentHash) {
+            return true
+        }
+
+        return !File(file.absoluteFile.parentFile, sourceFileState.className + ".class").exists()
+    }
+
+    private fun compile(file: File, contentHash: String): SourceFileState {
+        val compilationUnit = Parser(this.frontend, this.astFormat, this.bodyAnalysis, this.compiler.passManager).getCompilationUnit(file.absolutePath)
+        val compiledClass = this.compiler.compile(compilationUnit)
+        val abiHash = this.getAbiHash(compilationUnit.classDeclaration, contentHash)
+        val dependencies = DependencyCollector().collect(compiledClass.bytecode)
+
+        this.compiler.saveBytecodeToClassFile(compiledClass, file.absoluteFile.parent)
+
+        return SourceFileState(file.absolutePath, contentHash, abiHash, compiledClass.name, dependencies)
+    }
+
+    /**
+     * Hashes what other classes compile against: fields, method descriptors, parameter names and default values. Callers
+     * inline the default values they leave out, so a default that cannot be rendered makes the hash follow the content
+     * of the whole file instead.
+     */
+    private fun getAbiHash(classDeclaration: ClassDeclaration, contentHash: String): String {
+        val fields = classDeclaration.fields.map { "field %s %s".format(it.getName(), it.getType().getDescriptor()) }
+        val methods = classDeclaration.methods.map { function ->
+            val parameters = function.getParameters().joinToString(",") {
+                val defaultValue = it.defaultValue
+                val defaultValueSignature = when (defaultValue) {
+                    null -> ""
+                    else -> "=" + (this.render(defaultValue) ?: "?" + contentHash)
+                }
+
+                it.name + defaultValueSignature
+            }
+
+            "method %s %s %s".format(function.getName(), DescriptorFactory.getMethodDescriptor(function), parameters)
+        }
+
+        return this.getHash((fields + methods).sorted().joinToString("\n").toByteArray())
+    }
+
+    private fun render(expression: Expression): String? {
+        return when (expression) {
+            is Value -> "%s%d:%s".format(expression.getType().getDescriptor(), expression.value.toString().length, expression.value)
+            is ArithmeticExpression -> this.render(expression.javaClass.simpleName, expression.leftExpression, expression.rightExpression)
+            is ConditionalExpression -> this.render(expression.compareSign.name, expression.leftExpression, expression.rightExpression)
+            is LogicalExpression -> this.render(expression.logicalOperator.name, expression.leftExpression, expression.rightExpression)
+            is NegationExpression -> this.render(expression.expression)?.let { "NOT($it)" }
+            else -> null
+        }
+    }
+
+    private fun render(operator: String, leftExpression: Expression, rightExpression: Expression): String? {
+        val left = this.render(leftExpression) ?: return null
+        val right = this.render(rightExpression) ?: return null
+
+        return "%s(%s,%s)".format(operator, left, right)
+    }
+
+    private fun getHash(bytes: ByteArray): String {
+        return MessageDigest.getInstance("SHA-256")
+                .digest(bytes)
+                .joinToString("") { "%02x".format(it) }
+    }
+}
\ No newline at end of file
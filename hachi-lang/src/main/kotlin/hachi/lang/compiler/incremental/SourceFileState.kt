@@ -0,0 +1,3 @@
+package hachi.lang.compiler.incremental
+
+class SourceFileState(val path: String, val contentHash: String, val abiHash: String, val className: String, val dependencies: Set<String>)
\ No newline at end of file
@@ -2,17 +2,31 @@ package hachi.lang.domain
 
 import jdk.internal.org.objectweb.asm.Opcodes
 
-enum class CompareSign(private val sign: String, val opcode: Int) {
-    EQUAL("==", Opcodes.IFEQ),
-    NOT_EQUAL("!=", Opcodes.IFNE),
-    LESS_THAN("<", Opcodes.IFLT),
-    GREATER_THAN(">", Opcodes.IFGT),
-    LESS_THAN_OR_EQUAL("<=", Opcodes.IFLE),
-    GREATER_THAN_OR_EQUAL(">=", Opcodes.IFGE);
+/**
+ * A comparison operator. [opcode] compares an int with zero, [intComparisonOpcode] compares two ints.
+ */
+enum class CompareSign(private val sign: String, val opcode: Int, val intComparisonOpcode: Int) {
+    EQUAL("==", Opcodes.IFEQ, Opcodes.IF_ICMPEQ),
+    NOT_EQUAL("!=", Opcodes.IFNE, Opcodes.IF_ICMPNE),
+    LESS_THAN("<", Opcodes.IFLT, Opcodes.IF_ICMPLT),
+    GREATER_THAN(">", Opcodes.IFGT, Opcodes.IF_ICMPGT),
+    LESS_THAN_OR_EQUAL("<=", Opcodes.IFLE, Opcodes.IF_ICMPLE),
+    GREATER_THAN_OR_EQUAL(">=", Opcodes.IFGE, Opcodes.IF_ICMPGE);
 
     companion object {
         fun fromString(sign: String): CompareSign {
             return values().first { it.sign == sign }
         }
     }
+
+    fun negate(): CompareSign {
+        return when (this) {
+            EQUAL -> NOT_EQUAL
+            NOT_EQUAL -> EQUAL
+            LESS_THAN -> GREATER_THAN_OR_EQUAL
+            GREATER_THAN -> LESS_THAN_OR_EQUAL
+            LESS_THAN_OR_EQUAL -> GREATER_THAN
+            GREATER_THAN_OR_EQUAL -> LESS_THAN
+        }
+    }
 }
\ No newline at end of file
@@ -6,7 +6,9 @@ import hachi.lang.domain.scope.FunctionSignature
 import hachi.lang.domain.type.BuiltInType
 import hachi.lang.domain.type.Type
 
-class Constructor(functionSignature: FunctionSignature, constructorBody: Statement) : Function(functionSignature, constructorBody) {
+class Constructor(functionSignature: FunctionSignature, constructorBody: Lazy<Statement>) : Function(functionSignature, constructorBody) {
+    constructor(functionSignature: FunctionSignature, constructorBody: Statement) : this(functionSignature, lazyOf(constructorBody))
+
     override fun getReturnType(): Type {
         return BuiltInType.VOID
     }
@@ -6,7 +6,14 @@ import hachi.lang.domain.node.statement.Statement
 import hachi.lang.domain.scope.FunctionSignature
 import hachi.lang.domain.type.Type
 
-open class Function(private val functionSignature: FunctionSignature, val functionBody: Statement) {
+/**
+ * A function whose body may still be waiting for analysis, see [hachi.lang.parsing.BodyAnalysis].
+ */
+open class Function(val functionSignature: FunctionSignature, functionBody: Lazy<Statement>) {
+    val functionBody: Statement by functionBody
+
+    constructor(functionSignature: FunctionSignature, functionBody: Statement) : this(functionSignature, lazyOf(functionBody))
+
     fun getName(): String {
         return this.functionSignature.functionName
     }
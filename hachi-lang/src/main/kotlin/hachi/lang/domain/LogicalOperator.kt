@@ -0,0 +1,12 @@
+package hachi.lang.domain
+
+enum class LogicalOperator(private val operator: String) {
+    AND("&&"),
+    OR("||");
+
+    companion object {
+        fun fromString(operator: String): LogicalOperator {
+            return values().first { it.operator == operator }
+        }
+    }
+}
\ No newline at end of file
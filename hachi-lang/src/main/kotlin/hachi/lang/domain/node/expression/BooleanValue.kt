@@ -0,0 +1,5 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.domain.type.BuiltInType
+
+class BooleanValue(override val value: Boolean) : Value(BuiltInType.BOOLEAN)
\ No newline at end of file
@@ -4,4 +4,6 @@ interface Call : Expression {
     fun getArguments(): List<FunctionArgument>
 
     fun getIdentifier(): String
+
+    fun getCallBinding(): CallBinding
 }
\ No newline at end of file
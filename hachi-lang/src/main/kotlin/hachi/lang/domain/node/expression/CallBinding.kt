@@ -0,0 +1,43 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.domain.scope.FunctionSignature
+import hachi.lang.exception.BadArgumentsToFunctionCallException
+import hachi.lang.exception.WrongArgumentNameException
+
+/**
+ * A call bound to its target: the values to pass in parameter order, with named arguments moved to their parameters
+ * and default values filled in for the parameters the call leaves out.
+ */
+class CallBinding(val functionSignature: FunctionSignature, val parameterValues: List<Expression>) {
+    companion object {
+        fun bind(call: Call, functionSignature: FunctionSignature): CallBinding {
+            val arguments = call.getArguments()
+            val parameters = functionSignature.parameters
+
+            if (arguments.size > parameters.size) {
+                throw BadArgumentsToFunctionCallException(call)
+            }
+
+            val parameterValues = arrayOfNulls<Expression>(parameters.size)
+
+            arguments.forEachIndexed { index, argument ->
+                val parameterIndex = when (val parameterName = argument.parameterName) {
+                    null -> index
+                    else -> functionSignature.findIndexOfParameter(parameterName) ?: throw WrongArgumentNameException(argument, parameters)
+                }
+
+                if (parameterValues[parameterIndex] != null) {
+                    throw BadArgumentsToFunctionCallException(call)
+                }
+
+                parameterValues[parameterIndex] = argument
+            }
+
+            parameters.forEachIndexed { index, parameter ->
+                parameterValues[index] = parameterValues[index] ?: parameter.defaultValue ?: throw BadArgumentsToFunctionCallException(call)
+            }
+
+            return CallBinding(functionSignature, parameterValues.filterNotNull())
+        }
+    }
+}
\ No newline at end of file
@@ -6,15 +6,20 @@ import hachi.lang.domain.CompareSign
 import hachi.lang.domain.type.BuiltInType
 import hachi.lang.domain.type.Type
 import hachi.lang.exception.MixedComparisonNotAllowedException
+import hachi.lang.util.TypeChecker
+import hachi.lang.util.TypeResolver
 
 class ConditionalExpression(val leftExpression: Expression, val rightExpression: Expression, val compareSign: CompareSign) : Expression {
     val type = BuiltInType.BOOLEAN
 
     var isPrimitiveComparison = false
 
+    // Numeric operands are compared once both are widened to their common type
+    val operandType = TypeResolver.getPromotedType(this.leftExpression.getType(), this.rightExpression.getType()) ?: this.leftExpression.getType()
+
     init {
-        val isLeftExpressionPrimitive = this.leftExpression.getType().getTypeClass()!!.isPrimitive
-        val isRightExpressionPrimitive = this.rightExpression.getType().getTypeClass()!!.isPrimitive
+        val isLeftExpressionPrimitive = TypeChecker.isPrimitive(this.leftExpression.getType())
+        val isRightExpressionPrimitive = TypeChecker.isPrimitive(this.rightExpression.getType())
 
         this.isPrimitiveComparison = isLeftExpressionPrimitive && isRightExpressionPrimitive
 
@@ -2,20 +2,25 @@ package hachi.lang.domain.node.expression
 
 import hachi.lang.bytecode.generator.expression.ExpressionGenerator
 import hachi.lang.bytecode.generator.statement.StatementGenerator
-import hachi.lang.domain.type.ClassType
+import hachi.lang.domain.scope.FunctionSignature
 import hachi.lang.domain.type.Type
+import hachi.lang.domain.type.TypePool
 
-class ConstructorCall(className: String, private val arguments: List<FunctionArgument>) : Call {
-    private val type = ClassType(className)
+class ConstructorCall(functionSignature: FunctionSignature, className: String, private val arguments: List<FunctionArgument>) : Call {
+    private val type = TypePool.getClassType(className)
 
     private val constructorIdentifier = this.type.getName()
 
-    constructor(identifier: String) : this(identifier, emptyList())
+    private val callBinding = CallBinding.bind(this, functionSignature)
 
     override fun getArguments(): List<FunctionArgument> {
         return this.arguments
     }
 
+    override fun getCallBinding(): CallBinding {
+        return this.callBinding
+    }
+
     override fun getIdentifier(): String {
         return this.constructorIdentifier
     }
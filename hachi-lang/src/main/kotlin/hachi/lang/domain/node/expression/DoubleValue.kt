@@ -0,0 +1,5 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.domain.type.BuiltInType
+
+class DoubleValue(override val value: Double) : Value(BuiltInType.DOUBLE)
\ No newline at end of file
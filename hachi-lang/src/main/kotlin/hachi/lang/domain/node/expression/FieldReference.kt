@@ -5,7 +5,7 @@ import hachi.lang.bytecode.generator.statement.StatementGenerator
 import hachi.lang.domain.scope.Field
 import hachi.lang.domain.type.Type
 
-class FieldReference(private val field: Field) : Reference {
+class FieldReference(val field: Field) : Reference {
     override fun getName(): String {
         return this.field.getName()
     }
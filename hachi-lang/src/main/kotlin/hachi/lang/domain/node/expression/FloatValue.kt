@@ -0,0 +1,5 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.domain.type.BuiltInType
+
+class FloatValue(override val value: Float) : Value(BuiltInType.FLOAT)
\ No newline at end of file
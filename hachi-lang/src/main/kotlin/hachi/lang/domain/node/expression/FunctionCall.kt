@@ -8,6 +8,8 @@ import hachi.lang.domain.type.Type
 class FunctionCall(val functionSignature: FunctionSignature, private val arguments: List<FunctionArgument>, val owner: Expression) : Call {
     private val functionCallType = this.functionSignature.returnType
 
+    private val callBinding = CallBinding.bind(this, this.functionSignature)
+
     constructor(functionSignature: FunctionSignature, functionArguments: List<FunctionArgument>, ownerType: Type) : this(functionSignature, functionArguments, EmptyExpression(ownerType))
 
     override fun getIdentifier(): String {
@@ -26,6 +28,10 @@ class FunctionCall(val functionSignature: FunctionSignature, private val argumen
         return this.arguments
     }
 
+    override fun getCallBinding(): CallBinding {
+        return this.callBinding
+    }
+
     override fun accept(expressionGenerator: ExpressionGenerator) {
         expressionGenerator.generate(this)
     }
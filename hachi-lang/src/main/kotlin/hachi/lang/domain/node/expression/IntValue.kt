@@ -0,0 +1,5 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.domain.type.BuiltInType
+
+class IntValue(override val value: Int) : Value(BuiltInType.INT)
\ No newline at end of file
@@ -0,0 +1,33 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.bytecode.generator.expression.ExpressionGenerator
+import hachi.lang.bytecode.generator.statement.StatementGenerator
+import hachi.lang.domain.LogicalOperator
+import hachi.lang.domain.type.BuiltInType
+import hachi.lang.domain.type.Type
+import hachi.lang.exception.NonBooleanLogicalOperandException
+
+/**
+ * A short-circuit `&&` or `||`. [rightExpression] is only evaluated when [leftExpression] does not decide the result.
+ */
+class LogicalExpression(val leftExpression: Expression, val rightExpression: Expression, val logicalOperator: LogicalOperator) : Expression {
+    val type = BuiltInType.BOOLEAN
+
+    init {
+        listOf(this.leftExpression, this.rightExpression)
+                .filter { it.getType() != BuiltInType.BOOLEAN }
+                .forEach { throw NonBooleanLogicalOperandException(it) }
+    }
+
+    override fun getType(): Type {
+        return this.type
+    }
+
+    override fun accept(expressionGenerator: ExpressionGenerator) {
+        expressionGenerator.generate(this)
+    }
+
+    override fun accept(statementGenerator: StatementGenerator) {
+        statementGenerator.generate(this)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.domain.type.BuiltInType
+
+class LongValue(override val value: Long) : Value(BuiltInType.LONG)
\ No newline at end of file
@@ -0,0 +1,29 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.bytecode.generator.expression.ExpressionGenerator
+import hachi.lang.bytecode.generator.statement.StatementGenerator
+import hachi.lang.domain.type.BuiltInType
+import hachi.lang.domain.type.Type
+import hachi.lang.exception.NonBooleanLogicalOperandException
+
+class NegationExpression(val expression: Expression) : Expression {
+    val type = BuiltInType.BOOLEAN
+
+    init {
+        if (this.expression.getType() != BuiltInType.BOOLEAN) {
+            throw NonBooleanLogicalOperandException(this.expression)
+        }
+    }
+
+    override fun getType(): Type {
+        return this.type
+    }
+
+    override fun accept(expressionGenerator: ExpressionGenerator) {
+        expressionGenerator.generate(this)
+    }
+
+    override fun accept(statementGenerator: StatementGenerator) {
+        statementGenerator.generate(this)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package hachi.lang.domain.node.expression
+
+import hachi.lang.domain.type.BuiltInType
+
+class StringValue(override val value: String) : Value(BuiltInType.STRING)
\ No newline at end of file
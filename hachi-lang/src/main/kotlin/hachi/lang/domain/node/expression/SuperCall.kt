@@ -2,16 +2,23 @@ package hachi.lang.domain.node.expression
 
 import hachi.lang.bytecode.generator.expression.ExpressionGenerator
 import hachi.lang.bytecode.generator.statement.StatementGenerator
+import hachi.lang.domain.scope.FunctionSignature
 import hachi.lang.domain.type.BuiltInType
 import hachi.lang.domain.type.Type
 
 class SuperCall(private val arguments: List<FunctionArgument>) : Call {
+    private val callBinding = CallBinding.bind(this, FunctionSignature("super", emptyList(), BuiltInType.VOID))
+
     constructor() : this(emptyList())
 
     override fun getArguments(): List<FunctionArgument> {
         return this.arguments
     }
 
+    override fun getCallBinding(): CallBinding {
+        return this.callBinding
+    }
+
     override fun getIdentifier(): String {
         return "super"
     }
@@ -4,7 +4,9 @@ import hachi.lang.bytecode.generator.expression.ExpressionGenerator
 import hachi.lang.bytecode.generator.statement.StatementGenerator
 import hachi.lang.domain.type.Type
 
-class Value(val value: String, private val type: Type) : Expression {
+abstract class Value(private val type: Type) : Expression {
+    abstract val value: Any
+
     override fun getType(): Type {
         return this.type
     }
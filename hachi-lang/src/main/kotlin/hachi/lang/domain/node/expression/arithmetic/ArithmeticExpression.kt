@@ -4,17 +4,21 @@ import hachi.lang.domain.node.expression.Expression
 import hachi.lang.domain.type.BuiltInType
 import hachi.lang.domain.type.Type
 import hachi.lang.util.TypeChecker
+import hachi.lang.util.TypeResolver
 
 abstract class ArithmeticExpression(val leftExpression: Expression, val rightExpression: Expression) : Expression {
     private val arithmeticExpressionType = getCommonType(leftExpression, rightExpression)
 
     companion object {
         private fun getCommonType(leftExpression: Expression, rightExpression: Expression): Type {
-            if (TypeChecker.isString(rightExpression.getType())) {
+            val leftType = leftExpression.getType()
+            val rightType = rightExpression.getType()
+
+            if (TypeChecker.isString(rightType)) {
                 return BuiltInType.STRING
             }
 
-            return leftExpression.getType()
+            return TypeResolver.getPromotedType(leftType, rightType) ?: leftType
         }
     }
 
@@ -0,0 +1,200 @@
+package hachi.lang.domain.node.flat
+
+import hachi.lang.domain.scope.Field
+import hachi.lang.domain.scope.FunctionSignature
+import hachi.lang.domain.type.Type
+import java.util.IdentityHashMap
+
+/**
+ * Function bodies stored as parallel primitive arrays instead of one object per node. A node is an index into the
+ * arrays, the children of a node are stored next to each other in one shared array, and literals, symbols and types
+ * live in pools that nodes refer to by index. Nodes are added in post-order, so children always precede their parent.
+ */
+class FlatAst {
+    companion object {
+        private val nodeKinds = NodeKind.values()
+
+        private const val initialCapacity = 64
+    }
+
+    private var kinds = ByteArray(initialCapacity)
+
+    private var typeIds = IntArray(initialCapacity)
+
+    private var operands = IntArray(initialCapacity)
+
+    private var firstChildren = IntArray(initialCapacity)
+
+    private var childCounts = IntArray(initialCapacity)
+
+    private var children = IntArray(initialCapacity)
+
+    private var childrenSize = 0
+
+    private var pendingChildren = IntArray(initialCapacity)
+
+    private var pendingChildrenSize = 0
+
+    private val literals = ArrayList<Any>()
+
+    private var literalIndexes: MutableMap<Any, Int> = HashMap()
+
+    private val symbols = ArrayList<Any>()
+
+    private var symbolIndexes: MutableMap<Any, Int> = IdentityHashMap()
+
+    private val types = ArrayList<Type>()
+
+    private var typeIndexes: MutableMap<Type, Int> = IdentityHashMap()
+
+    var size = 0
+        private set
+
+    /**
+     * Marks a node as the next child of the node added next.
+     */
+    fun push(node: Int) {
+        if (this.pendingChildrenSize == this.pendingChildren.size) {
+            this.pendingChildren = this.pendingChildren.copyOf(this.pendingChildrenSize * 2)
+        }
+
+        this.pendingChildren[this.pendingChildrenSize++] = node
+    }
+
+    /**
+     * Adds a node whose children are the last [childCount] pushed nodes and returns it.
+     */
+    fun add(kind: NodeKind, type: Type, operand: Int, childCount: Int): Int {
+        if (this.size == this.kinds.size) {
+            this.grow()
+        }
+
+        while (this.childrenSize + childCount > this.children.size) {
+            this.children = this.children.copyOf(this.children.size * 2)
+        }
+
+        val node = this.size++
+        val firstPendingChild = this.pendingChildrenSize - childCount
+
+        System.arraycopy(this.pendingChildren, firstPendingChild, this.children, this.childrenSize, childCount)
+
+        this.pendingChildrenSize = firstPendingChild
+        this.kinds[node] = kind.ordinal.toByte()
+        this.typeIds[node] = this.intern(type, this.types, this.typeIndexes)
+        this.operands[node] = operand
+        this.firstChildren[node] = this.childrenSize
+        this.childCounts[node] = childCount
+        this.childrenSize += childCount
+
+        return node
+    }
+
+    fun addLiteral(literal: Any): Int {
+        return this.intern(literal, this.literals, this.literalIndexes)
+    }
+
+    fun addSymbol(symbol: Any): Int {
+        return this.intern(symbol, this.symbols, this.symbolIndexes)
+    }
+
+    /**
+     * Shrinks the arrays and pools to the nodes added so far and drops the indexes that deduplicate pool entries, which
+     * are only needed while nodes are added.
+     */
+    fun trim() {
+        this.kinds = this.kinds.copyOf(this.size)
+        this.typeIds = this.typeIds.copyOf(this.size)
+        this.operands = this.operands.copyOf(this.size)
+        this.firstChildren = this.firstChildren.copyOf(this.size)
+        this.childCounts = this.childCounts.copyOf(this.size)
+        this.children = this.children.copyOf(this.childrenSize)
+        this.pendingChildren = IntArray(0)
+        this.literals.trimToSize()
+        this.symbols.trimToSize()
+        this.types.trimToSize()
+        this.literalIndexes = HashMap()
+        this.symbolIndexes = IdentityHashMap(0)
+        this.typeIndexes = IdentityHashMap(0)
+    }
+
+    fun getKind(node: Int): NodeKind {
+        return nodeKinds[this.kinds[node].toInt()]
+    }
+
+    fun getType(node: Int): Type {
+        return this.types[this.typeIds[node]]
+    }
+
+    fun getOperand(node: Int): Int {
+        return this.operands[node]
+    }
+
+    fun getChildCount(node: Int): Int {
+        return this.childCounts[node]
+    }
+
+    fun getChild(node: Int, index: Int): Int {
+        return this.children[this.firstChildren[node] + index]
+    }
+
+    fun getLiteral(node: Int): Any {
+        return this.literals[this.operands[node]]
+    }
+
+    fun getFunctionSignature(node: Int): FunctionSignature {
+        return this.symbols[this.operands[node]] as FunctionSignature
+    }
+
+    fun getField(node: Int): Field {
+        return this.symbols[this.operands[node]] as Field
+    }
+
+    inline fun forEachChild(node: Int, action: (Int) -> Unit) {
+        for (index in 0 until this.getChildCount(node)) {
+            action(this.getChild(node, index))
+        }
+    }
+
+    /**
+     * Visits the nodes under [root] in pre-order without recursion.
+     */
+    fun walk(root: Int, action: (Int) -> Unit) {
+        var stack = IntArray(initialCapacity)
+        var stackSize = 0
+
+        stack[stackSize++] = root
+
+        while (stackSize > 0) {
+            val node = stack[--stackSize]
+            val childCount = this.childCounts[node]
+
+            action(node)
+
+            if (stackSize + childCount > stack.size) {
+                stack = stack.copyOf(maxOf(stack.size * 2, stackSize + childCount))
+            }
+
+            for (index in childCount - 1 downTo 0) {
+                stack[stackSize++] = this.children[this.firstChildren[node] + index]
+            }
+        }
+    }
+
+    private fun grow() {
+        val capacity = this.kinds.size * 2
+
+        this.kinds = this.kinds.copyOf(capacity)
+        this.typeIds = this.typeIds.copyOf(capacity)
+        this.operands = this.operands.copyOf(capacity)
+        this.firstChildren = this.firstChildren.copyOf(capacity)
+        this.childCounts = this.childCounts.copyOf(capacity)
+    }
+
+    private fun <T : Any> intern(value: T, values: MutableList<T>, indexes: MutableMap<T, Int>): Int {
+        return indexes.getOrPut(value) {
+            values.add(value)
+
+            values.size - 1
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package hachi.lang.domain.node.flat
+
+import hachi.lang.domain.node.expression.ConditionalExpression
+import hachi.lang.domain.node.expression.ConstructorCall
+import hachi.lang.domain.node.expression.EmptyExpression
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.FieldReference
+import hachi.lang.domain.node.expression.FunctionArgument
+import hachi.lang.domain.node.expression.FunctionCall
+import hachi.lang.domain.node.expression.FunctionParameter
+import hachi.lang.domain.node.expression.LocalVariableReference
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.NegationExpression
+import hachi.lang.domain.node.expression.SuperCall
+import hachi.lang.domain.node.expression.Value
+import hachi.lang.domain.node.expression.arithmetic.Addition
+import hachi.lang.domain.node.expression.arithmetic.ArithmeticExpression
+import hachi.lang.domain.node.expression.arithmetic.Division
+import hachi.lang.domain.node.expression.arithmetic.Multiplication
+import hachi.lang.domain.node.expression.arithmetic.Subtraction
+import hachi.lang.domain.node.statement.AssignmentStatement
+import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.domain.node.statement.IfStatement
+import hachi.lang.domain.node.statement.PrintStatement
+import hachi.lang.domain.node.statement.RangedForStatement
+import hachi.lang.domain.node.statement.ReturnStatement
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.domain.node.statement.VariableDeclarationStatement
+import hachi.lang.domain.scope.Scope
+import hachi.lang.domain.type.BuiltInType
+import hachi.lang.domain.type.Type
+
+/**
+ * Encodes one function body into its own [FlatAst]. Local variable names are resolved to slots against the scopes of
+ * the tree, so the encoded body no longer needs them and the tree can be collected right afterwards.
+ */
+class FlatAstEncoder {
+    private val ast = FlatAst()
+
+    fun encode(functionBody: Statement, scope: Scope): FlatStatement {
+        val root = this.encodeStatement(functionBody, scope)
+
+        this.ast.trim()
+
+        return FlatStatement(this.ast, root, scope.getClassScope())
+    }
+
+    private fun encodeStatement(statement: Statement, scope: Scope): Int {
+        return when (statement) {
+            is BlockStatement -> this.encodeChildren(NodeKind.BLOCK, BuiltInType.VOID, 0, statement.statements) { this.encodeStatement(it, statement.scope) }
+            is PrintStatement -> this.encodeChildren(NodeKind.PRINT, BuiltInType.VOID, 0, listOf(statement.expression)) { this.encodeExpression(it, scope) }
+            is VariableDeclarationStatement -> {
+                val expression = statement.expression
+                val slot = scope.getLocalVariableIndex(statement.name)
+
+                this.encodeChildren(NodeKind.VARIABLE_DECLARATION, expression.getType(), slot, listOf(expression)) { this.encodeExpression(it, scope) }
+            }
+            is AssignmentStatement -> this.encodeAssignment(statement, scope)
+            is ReturnStatement -> {
+                val expression = statement.expression
+
+                this.encodeChildren(NodeKind.RETURN, expression.getType(), 0, listOf(expression)) { this.encodeExpression(it, scope) }
+            }
+            is IfStatement -> {
+                this.ast.push(this.encodeExpression(statement.condition, scope))
+                this.ast.push(this.encodeStatement(statement.trueStatement, scope))
+
+                val falseStatement = statement.falseStatement
+
+                if (falseStatement != null) {
+                    this.ast.push(this.encodeStatement(falseStatement, scope))
+                }
+
+                this.ast.add(NodeKind.IF, BuiltInType.VOID, 0, if (falseStatement == null) 2 else 3)
+            }
+            is RangedForStatement -> {
+                val newScope = statement.scope
+                val iteratorSlot = newScope.getLocalVariableIndex(statement.iteratorVariableName)
+
+                this.ast.push(this.encodeStatement(statement.iteratorVariable, newScope))
+                this.ast.push(this.encodeExpression(statement.endExpression, newScope))
+                this.ast.push(this.encodeExpression(statement.stepExpression, newScope))
+                this.ast.push(this.encodeStatement(statement.statement, newScope))
+                this.ast.add(NodeKind.RANGED_FOR, statement.getType(), this.packSlots(iteratorSlot, statement.loopVariableSlot), 4)
+            }
+            is Expression -> this.encodeExpression(statement, scope)
+            else -> throw IllegalArgumentException("Unsupported statement: %s".format(statement.javaClass.simpleName))
+        }
+    }
+
+    // Local variable indexes are unsigned 16 bit values in class files, so two of them fit one operand
+    private fun packSlots(lowSlot: Int, highSlot: Int): Int {
+        if (lowSlot !in 0..0xFFFF || highSlot !in 0..0xFFFF) {
+            throw IllegalArgumentException("Local variable slots %d and %d do not fit into one operand".format(lowSlot, highSlot))
+        }
+
+        return lowSlot or (highSlot shl 16)
+    }
+
+    private fun encodeAssignment(assignmentStatement: AssignmentStatement, scope: Scope): Int {
+        val variableName = assignmentStatement.variableName
+        val expression = assignmentStatement.expression
+
+        return if (scope.localVariableExists(variableName)) {
+            val slot = scope.getLocalVariableIndex(variableName)
+
+            this.encodeChildren(NodeKind.LOCAL_ASSIGNMENT, expression.getType(), slot, listOf(expression)) { this.encodeExpression(it, scope) }
+        } else {
+            val field = this.ast.addSymbol(scope.getField(variableName))
+
+            this.encodeChildren(NodeKind.FIELD_ASSIGNMENT, expression.getType(), field, listOf(expression)) { this.encodeExpression(it, scope) }
+        }
+    }
+
+    private fun encodeExpression(expression: Expression, scope: Scope): Int {
+        return when (expression) {
+            is FunctionArgument -> this.encodeExpression(expression.expression, scope)
+            is Value -> this.ast.add(NodeKind.VALUE, expression.getType(), this.ast.addLiteral(expression.value), 0)
+            is LocalVariableReference -> this.ast.add(NodeKind.LOCAL_VARIABLE_REFERENCE, expression.getType(), scope.getLocalVariableIndex(expression.getName()), 0)
+            is FunctionParameter -> this.ast.add(NodeKind.LOCAL_VARIABLE_REFERENCE, expression.getType(), scope.getLocalVariableIndex(expression.name), 0)
+            is FieldReference -> this.ast.add(NodeKind.FIELD_REFERENCE, expression.getType(), this.ast.addSymbol(expression.field), 0)
+            is FunctionCall -> {
+                val functionSignature = this.ast.addSymbol(expression.functionSignature)
+                val operands = listOf(expression.owner) + expression.getCallBinding().parameterValues
+
+                this.encodeChildren(NodeKind.FUNCTION_CALL, expression.getType(), functionSignature, operands) { this.encodeExpression(it, scope) }
+            }
+            is ConstructorCall -> {
+                val callBinding = expression.getCallBinding()
+                val functionSignature = this.ast.addSymbol(callBinding.functionSignature)
+
+                this.encodeChildren(NodeKind.CONSTRUCTOR_CALL, expression.getType(), functionSignature, callBinding.parameterValues) { this.encodeExpression(it, scope) }
+            }
+            is SuperCall -> this.encodeChildren(NodeKind.SUPER_CALL, expression.getType(), 0, expression.getCallBinding().parameterValues) { this.encodeExpression(it, scope) }
+            is Addition -> this.encodeArithmetic(NodeKind.ADDITION, expression, scope)
+            is Subtraction -> this.encodeArithmetic(NodeKind.SUBTRACTION, expression, scope)
+            is Multiplication -> this.encodeArithmetic(NodeKind.MULTIPLICATION, expression, scope)
+            is Division -> this.encodeArithmetic(NodeKind.DIVISION, expression, scope)
+            is ConditionalExpression -> {
+                val operands = listOf(expression.leftExpression, expression.rightExpression)
+
+                this.encodeChildren(NodeKind.CONDITIONAL, expression.getType(), expression.compareSign.ordinal, operands) { this.encodeExpression(it, scope) }
+            }
+            is LogicalExpression -> {
+                val operands = listOf(expression.leftExpression, expression.rightExpression)
+
+                this.encodeChildren(NodeKind.LOGICAL, expression.getType(), expression.logicalOperator.ordinal, operands) { this.encodeExpression(it, scope) }
+            }
+            is NegationExpression -> this.encodeChildren(NodeKind.NEGATION, expression.getType(), 0, listOf(expression.expression)) { this.encodeExpression(it, scope) }
+            is EmptyExpression -> this.ast.add(NodeKind.EMPTY, expression.getType(), 0, 0)
+            else -> throw IllegalArgumentException("Unsupported expression: %s".format(expression.javaClass.simpleName))
+        }
+    }
+
+    private fun encodeArithmetic(kind: NodeKind, arithmeticExpression: ArithmeticExpression, scope: Scope): Int {
+        val operands = listOf(arithmeticExpression.leftExpression, arithmeticExpression.rightExpression)
+
+        return this.encodeChildren(kind, arithmeticExpression.getType(), 0, operands) { this.encodeExpression(it, scope) }
+    }
+
+    private inline fun <T> encodeChildren(kind: NodeKind, type: Type, operand: Int, children: List<T>, encode: (T) -> Int): Int {
+        children.forEach { this.ast.push(encode(it)) }
+
+        return this.ast.add(kind, type, operand, children.size)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package hachi.lang.domain.node.flat
+
+import hachi.lang.bytecode.generator.statement.StatementGenerator
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.domain.scope.Scope
+
+/**
+ * A function body encoded in a [FlatAst]. Local variables are already resolved to slots, so it only keeps the class
+ * scope for class level lookups.
+ */
+class FlatStatement(val ast: FlatAst, val root: Int, val classScope: Scope) : Statement {
+    override fun accept(statementGenerator: StatementGenerator) {
+        statementGenerator.generate(this)
+    }
+}
\ No newline at end of file
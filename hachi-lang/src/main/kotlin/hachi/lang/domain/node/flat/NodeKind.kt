@@ -0,0 +1,47 @@
+package hachi.lang.domain.node.flat
+
+/**
+ * The kind of a node in a [FlatAst]. The comment of every kind describes its operand and its children.
+ */
+enum class NodeKind {
+    // Operand: literal pool index
+    VALUE,
+    // Operand: local variable slot
+    LOCAL_VARIABLE_REFERENCE,
+    // Operand: symbol pool index of the field
+    FIELD_REFERENCE,
+    // Operand: symbol pool index of the function signature. Children: owner, then the bound parameter values
+    FUNCTION_CALL,
+    // Operand: symbol pool index of the function signature. Children: the bound parameter values
+    CONSTRUCTOR_CALL,
+    // Children: the bound parameter values
+    SUPER_CALL,
+    // Children: left, right
+    ADDITION,
+    SUBTRACTION,
+    MULTIPLICATION,
+    DIVISION,
+    // Operand: compare sign ordinal. Children: left, right
+    CONDITIONAL,
+    // Operand: logical operator ordinal. Children: left, right
+    LOGICAL,
+    // Children: expression
+    NEGATION,
+    EMPTY,
+    // Children: statements
+    BLOCK,
+    // Children: expression
+    PRINT,
+    // Operand: local variable slot. Children: expression
+    VARIABLE_DECLARATION,
+    LOCAL_ASSIGNMENT,
+    // Operand: symbol pool index of the field. Children: expression
+    FIELD_ASSIGNMENT,
+    // Children: expression
+    RETURN,
+    // Children: condition, true statement and an optional false statement
+    IF,
+    // Operand: iterator slot in the low 16 bits, first hidden loop variable slot in the high 16 bits. Children: iterator
+    // statement, end expression, step expression, body
+    RANGED_FOR
+}
\ No newline at end of file
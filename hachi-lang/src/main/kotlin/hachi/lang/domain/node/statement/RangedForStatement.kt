@@ -2,16 +2,65 @@ package hachi.lang.domain.node.statement
 
 import hachi.lang.bytecode.generator.statement.StatementGenerator
 import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.IntValue
+import hachi.lang.domain.scope.LocalVariable
 import hachi.lang.domain.scope.Scope
+import hachi.lang.domain.type.BuiltInType
 import hachi.lang.domain.type.Type
+import hachi.lang.exception.InvalidRangedLoopStepException
 import hachi.lang.exception.UnsupportedRangedLoopTypes
 import hachi.lang.util.TypeChecker
 
-class RangedForStatement(val iteratorVariable: Statement, val startExpression: Expression, val endExpression: Expression, val statement: Statement, val iteratorVariableName: String, val scope: Scope) : Statement {
+/**
+ * Runs [statement] for every value from [startExpression] to [endExpression], both included, in steps of
+ * [stepExpression]. The loop counts downwards when the start is greater than the end. [loopVariableSlot] is the first
+ * slot after the iterator, where the hidden locals of the loop start when it has any.
+ */
+class RangedForStatement(val iteratorVariable: Statement, val startExpression: Expression, val endExpression: Expression, val stepExpression: Expression, val statement: Statement, val iteratorVariableName: String, val scope: Scope, val loopVariableSlot: Int) : Statement {
+    companion object {
+        // Hidden locals holding the end, the stride and the remaining number of steps. They are not valid identifiers
+        private val loopVariableNames = listOf("\$end", "\$stride", "\$remaining")
+
+        /**
+         * Reserves the hidden locals of a loop in its scope unless it is a counted loop, which only needs its
+         * iterator. It has to be called before the loop body is parsed, so the locals of the body do not share their
+         * slots, and returns the slot of the first hidden local.
+         */
+        fun addLoopVariables(scope: Scope, startExpression: Expression, endExpression: Expression, stepExpression: Expression): Int {
+            val loopVariableSlot = scope.getLocalVariableCount()
+            val isCounted = startExpression is IntValue && endExpression is IntValue && stepExpression is IntValue &&
+                    this.isCountedLoop(startExpression.value, endExpression.value, stepExpression.value)
+
+            if (!isCounted) {
+                loopVariableNames.forEach { scope.addLocalVariable(LocalVariable(it, BuiltInType.INT)) }
+            }
+
+            return loopVariableSlot
+        }
+
+        /**
+         * Whether a loop over constants can step its iterator up to the last value without overflowing int.
+         */
+        fun isCountedLoop(start: Int, end: Int, step: Int): Boolean {
+            if (step <= 0) {
+                return false
+            }
+
+            val stride = if (start <= end) step.toLong() else -step.toLong()
+            val last = start + (end.toLong() - start) / stride * stride
+
+            return last + stride in Int.MIN_VALUE..Int.MAX_VALUE
+        }
+    }
+
     init {
-        if (!TypeChecker.isInt(this.startExpression.getType()) || !TypeChecker.isInt(this.endExpression.getType())) {
+        if (!TypeChecker.isInt(this.startExpression.getType()) || !TypeChecker.isInt(this.endExpression.getType()) || !TypeChecker.isInt(this.stepExpression.getType())) {
             throw UnsupportedRangedLoopTypes()
         }
+
+        if (this.stepExpression is IntValue && this.stepExpression.value <= 0) {
+            throw InvalidRangedLoopStepException(this.stepExpression.value)
+        }
     }
 
     override fun accept(statementGenerator: StatementGenerator) {
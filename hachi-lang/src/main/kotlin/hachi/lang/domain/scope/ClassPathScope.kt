@@ -1,34 +1,37 @@
 package hachi.lang.domain.scope
 
+import hachi.lang.classpath.ClassPathSymbols
+import hachi.lang.classpath.MethodSymbol
 import hachi.lang.domain.type.Type
 import hachi.lang.util.FunctionSignatureFactory
-import org.apache.commons.lang3.reflect.ConstructorUtils
-import org.apache.commons.lang3.reflect.MethodUtils
+import java.util.concurrent.ConcurrentHashMap
+
+class ClassPathScope(private val classPathSymbols: ClassPathSymbols) {
+    companion object {
+        val shared by lazy { ClassPathScope(ClassPathSymbols.shared) }
+    }
+
+    private val functionSignatures = ConcurrentHashMap<MethodSymbol, FunctionSignature>()
 
-class ClassPathScope {
     fun getFunctionSignature(owner: Type?, functionName: String, arguments: List<Type>): FunctionSignature? {
-        return try {
-            val methodOwnerClass = owner?.getTypeClass()
-            val parameters = arguments.map { it.getTypeClass() }
-                    .toTypedArray()
-            val method = MethodUtils.getMatchingAccessibleMethod(methodOwnerClass, functionName, *parameters)
-
-            FunctionSignatureFactory.fromMethod(method)
-        } catch (e: Exception) {
-            null
-        }
+        val ownerInternalName = owner?.let { this.getReferenceInternalName(it) } ?: return null
+        val method = this.classPathSymbols.findMethod(ownerInternalName, functionName, arguments.map { it.getDescriptor() })
+                ?: return null
+
+        return this.functionSignatures.computeIfAbsent(method) { FunctionSignatureFactory.fromMethod(it) }
     }
 
     fun getConstructorSignature(className: String, arguments: List<Type>): FunctionSignature? {
-        return try {
-            val methodOwnerClass = Class.forName(className)
-            val parameters = arguments.map { it.getTypeClass() }
-                    .toTypedArray()
-            val constructor = ConstructorUtils.getMatchingAccessibleConstructor(methodOwnerClass, *parameters)
-
-            return FunctionSignatureFactory.fromConstructor(constructor)
-        } catch (e: Exception) {
-            null
-        }
+        val ownerInternalName = className.replace(".", "/")
+        val constructor = this.classPathSymbols.findConstructor(ownerInternalName, arguments.map { it.getDescriptor() })
+                ?: return null
+
+        return this.functionSignatures.computeIfAbsent(constructor) { FunctionSignatureFactory.fromConstructor(it) }
+    }
+
+    private fun getReferenceInternalName(type: Type): String? {
+        val descriptor = type.getDescriptor()
+
+        return if (descriptor.startsWith("L")) descriptor.removePrefix("L").removeSuffix(";") else null
     }
 }
\ No newline at end of file
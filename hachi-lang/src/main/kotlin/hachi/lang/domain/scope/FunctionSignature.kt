@@ -4,16 +4,25 @@ import hachi.lang.domain.node.expression.FunctionArgument
 import hachi.lang.domain.node.expression.FunctionParameter
 import hachi.lang.domain.type.Type
 import hachi.lang.exception.ParameterForNameNotFoundException
+import hachi.lang.util.DescriptorFactory
 
 class FunctionSignature(val functionName: String, val parameters: List<FunctionParameter>, val returnType: Type) {
-    private fun getParameterForName(name: String): FunctionParameter {
-        return this.parameters.firstOrNull { it.name == name } ?: throw ParameterForNameNotFoundException()
+    val minimumArity = this.parameters.count { it.defaultValue == null }
+
+    val descriptor by lazy { DescriptorFactory.getMethodDescriptor(this.parameters, this.returnType) }
+
+    private val parameterIndexes = HashMap<String, Int>(this.parameters.size * 2)
+
+    init {
+        this.parameters.forEachIndexed { index, parameter -> this.parameterIndexes.putIfAbsent(parameter.name, index) }
     }
 
     fun getIndexOfParameter(parameterName: String): Int {
-        val functionParameter = this.getParameterForName(parameterName)
+        return this.findIndexOfParameter(parameterName) ?: throw ParameterForNameNotFoundException()
+    }
 
-        return this.parameters.indexOf(functionParameter)
+    fun findIndexOfParameter(parameterName: String): Int? {
+        return this.parameterIndexes[parameterName]
     }
 
     fun matches(otherSignatureName: String, functionArguments: List<FunctionArgument>): Boolean {
@@ -23,9 +32,7 @@ class FunctionSignature(val functionName: String, val parameters: List<FunctionP
             return false
         }
 
-        val nonDefaultParametersCount = this.parameters.count { it.defaultValue != null }
-
-        if (nonDefaultParametersCount > functionArguments.size) {
+        if (functionArguments.size < this.minimumArity || functionArguments.size > this.parameters.size) {
             return false
         }
 
@@ -39,14 +46,10 @@ class FunctionSignature(val functionName: String, val parameters: List<FunctionP
     }
 
     private fun areArgumentsAndParamsMatchedByName(functionArguments: List<FunctionArgument>): Boolean {
-        return functionArguments.all {
-            val parameterName = it.parameterName
-
-            this.parameters.map { it.name }.any { it == parameterName }
-        }
+        return functionArguments.all { this.parameterIndexes.containsKey(it.parameterName) }
     }
 
     private fun areArgumentsAndParametersMatchedByIndex(functionArguments: List<FunctionArgument>): Boolean {
-        return (0..(functionArguments.size - 1)).all { functionArguments[it].getType() == this.parameters[it].getType() }
+        return (0..(functionArguments.size - 1)).all { functionArguments[it].getType() === this.parameters[it].getType() }
     }
 }
\ No newline at end of file
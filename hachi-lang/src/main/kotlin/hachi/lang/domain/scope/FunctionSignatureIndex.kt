@@ -0,0 +1,25 @@
+package hachi.lang.domain.scope
+
+import hachi.lang.domain.node.expression.FunctionArgument
+
+/**
+ * The function signatures of a class, indexed by name and by every number of arguments each signature accepts, so that
+ * resolving a call only looks at the overloads that can take that many arguments.
+ */
+class FunctionSignatureIndex {
+    private val functionSignatures = HashMap<String, MutableMap<Int, MutableList<FunctionSignature>>>()
+
+    fun add(functionSignature: FunctionSignature) {
+        val overloads = this.functionSignatures.getOrPut(functionSignature.functionName) { HashMap() }
+
+        for (arity in functionSignature.minimumArity..functionSignature.parameters.size) {
+            overloads.getOrPut(arity) { ArrayList(1) }.add(functionSignature)
+        }
+    }
+
+    fun find(functionName: String, functionArguments: List<FunctionArgument>): FunctionSignature? {
+        val candidates = this.functionSignatures[functionName]?.get(functionArguments.size) ?: return null
+
+        return candidates.firstOrNull { it.matches(functionName, functionArguments) }
+    }
+}
\ No newline at end of file
@@ -3,34 +3,57 @@ package hachi.lang.domain.scope
 import hachi.lang.domain.MetaData
 import hachi.lang.domain.node.expression.FunctionArgument
 import hachi.lang.domain.type.BuiltInType
-import hachi.lang.domain.type.ClassType
 import hachi.lang.domain.type.Type
+import hachi.lang.domain.type.TypePool
 import hachi.lang.exception.FieldNotFoundException
 import hachi.lang.exception.FunctionSignatureNotFoundException
 import hachi.lang.exception.LocalVariableNotFoundException
 import hachi.lang.exception.MethodWithNameAlreadyDefinedException
-
+import hachi.lang.util.TypeChecker
+
+/**
+ * A class scope or one of its nested function and block scopes. Nested scopes link to their parent instead of copying
+ * it: fields and function signatures are shared with the class scope, and every scope only indexes the local
+ * variables declared in it. A local variable's index is its slot, so a nested scope starts numbering where its parent
+ * was when the nested scope was entered, and locals the parent declares later are not visible to it.
+ */
 class Scope {
     private val metaData: MetaData
 
-    private val functionSignatures: MutableList<FunctionSignature>
+    private val parent: Scope?
+
+    private val functionSignatures: FunctionSignatureIndex
+
+    private val localVariables: MutableMap<String, IndexedValue<LocalVariable>>
+
+    private val fields: MutableMap<String, Field>
+
+    private val loopIteratorNames: MutableSet<String>
 
-    private val localVariables: MutableList<LocalVariable>
+    private val firstLocalVariableIndex: Int
 
-    private val fields: MutableList<Field>
+    private var localVariableCount: Int
 
     constructor(metaData: MetaData) {
         this.metaData = metaData
-        this.functionSignatures = mutableListOf()
-        this.localVariables = mutableListOf()
-        this.fields = mutableListOf()
+        this.parent = null
+        this.functionSignatures = FunctionSignatureIndex()
+        this.localVariables = HashMap()
+        this.fields = HashMap()
+        this.loopIteratorNames = HashSet()
+        this.firstLocalVariableIndex = 0
+        this.localVariableCount = 0
     }
 
     constructor(scope: Scope) {
         this.metaData = scope.metaData
-        this.functionSignatures = ArrayList(scope.functionSignatures)
-        this.localVariables = ArrayList(scope.localVariables)
-        this.fields = ArrayList(scope.fields)
+        this.parent = scope
+        this.functionSignatures = scope.functionSignatures
+        this.localVariables = HashMap()
+        this.fields = scope.fields
+        this.loopIteratorNames = HashSet()
+        this.firstLocalVariableIndex = scope.localVariableCount
+        this.localVariableCount = scope.localVariableCount
     }
 
     fun addFunctionSignature(functionSignature: FunctionSignature) {
@@ -50,7 +73,7 @@ class Scope {
             return true
         }
 
-        return this.functionSignatures.any { it.matches(identifier, functionArguments) }
+        return this.functionSignatures.find(identifier, functionArguments) != null
     }
 
     fun getConstructorCallSignature(className: String, functionArguments: List<FunctionArgument>): FunctionSignature {
@@ -59,7 +82,7 @@ class Scope {
         if (isDifferentThanCurrentClass) {
             val argumentTypes = functionArguments.map { it.getType() }
 
-            return ClassPathScope().getConstructorSignature(className, argumentTypes)
+            return ClassPathScope.shared.getConstructorSignature(className, argumentTypes)
                     ?: throw FunctionSignatureNotFoundException(className, functionArguments)
         }
 
@@ -80,7 +103,7 @@ class Scope {
         if (isDifferentThanCurrentClass) {
             val argumentTypes = functionArguments.map { it.getType() }
 
-            return ClassPathScope().getFunctionSignature(owner, functionName, argumentTypes)
+            return ClassPathScope.shared.getFunctionSignature(owner, functionName, argumentTypes)
                     ?: throw FunctionSignatureNotFoundException(functionName, functionArguments)
         }
 
@@ -92,39 +115,58 @@ class Scope {
             return FunctionSignature("super", emptyList(), BuiltInType.VOID)
         }
 
-        return this.functionSignatures.firstOrNull { it.matches(identifier, functionArguments) }
+        return this.functionSignatures.find(identifier, functionArguments)
                 ?: throw FunctionSignatureNotFoundException(identifier, functionArguments)
     }
 
     fun localVariableExists(variableName: String): Boolean {
-        return this.localVariables.any { it.getName() == variableName }
+        return this.findLocalVariable(variableName, Int.MAX_VALUE) != null
     }
 
     fun addLocalVariable(localVariable: LocalVariable) {
-        this.localVariables.add(localVariable)
+        this.localVariables.putIfAbsent(localVariable.getName(), IndexedValue(this.localVariableCount, localVariable))
+        this.localVariableCount += if (TypeChecker.isLong(localVariable.getType()) || TypeChecker.isDouble(localVariable.getType())) 2 else 1
     }
 
     fun getLocalVariable(variableName: String): LocalVariable {
-        return this.localVariables.firstOrNull { it.getName() == variableName }
-                ?: throw LocalVariableNotFoundException(this, variableName)
+        return this.getIndexedLocalVariable(variableName).value
+    }
+
+    fun getLocalVariableCount(): Int {
+        return this.localVariableCount
     }
 
     fun getLocalVariableIndex(variableName: String): Int {
-        val localVariable = this.getLocalVariable(variableName)
+        return this.getIndexedLocalVariable(variableName).index
+    }
+
+    fun addLoopIterator(variableName: String) {
+        this.loopIteratorNames.add(variableName)
+    }
 
-        return this.localVariables.indexOf(localVariable)
+    // A local declared in a nested scope shadows the iterator, so it can be assigned
+    fun isLoopIterator(variableName: String): Boolean {
+        return when {
+            this.loopIteratorNames.contains(variableName) -> true
+            this.localVariables.containsKey(variableName) -> false
+            else -> this.parent?.isLoopIterator(variableName) ?: false
+        }
     }
 
     fun fieldExists(fieldName: String): Boolean {
-        return this.fields.any { it.getName() == fieldName }
+        return this.fields.containsKey(fieldName)
     }
 
     fun addField(field: Field) {
-        this.fields.add(field)
+        this.fields.putIfAbsent(field.getName(), field)
     }
 
     fun getField(fieldName: String): Field {
-        return this.fields.firstOrNull { it.getName() == fieldName } ?: throw FieldNotFoundException(this, fieldName)
+        return this.fields[fieldName] ?: throw FieldNotFoundException(this, fieldName)
+    }
+
+    fun getClassScope(): Scope {
+        return this.parent?.getClassScope() ?: this
     }
 
     fun getClassName(): String {
@@ -136,7 +178,7 @@ class Scope {
     }
 
     fun getClassType(): Type {
-        return ClassType(this.getClassName())
+        return TypePool.getClassType(this.getClassName())
     }
 
     fun getClassInternalName(): String {
@@ -144,7 +186,21 @@ class Scope {
     }
 
     fun getSuperClassInternalName(): String {
-        return ClassType(this.getSuperClassName()).getInternalName()
+        return TypePool.getClassType(this.getSuperClassName()).getInternalName()
+    }
+
+    private fun getIndexedLocalVariable(variableName: String): IndexedValue<LocalVariable> {
+        return this.findLocalVariable(variableName, Int.MAX_VALUE) ?: throw LocalVariableNotFoundException(this, variableName)
+    }
+
+    private fun findLocalVariable(variableName: String, maximumIndex: Int): IndexedValue<LocalVariable>? {
+        val localVariable = this.localVariables[variableName]
+
+        if (localVariable != null && localVariable.index < maximumIndex) {
+            return localVariable
+        }
+
+        return this.parent?.findLocalVariable(variableName, minOf(maximumIndex, this.firstLocalVariableIndex))
     }
 
     override fun toString(): String {
@@ -35,7 +35,8 @@ enum class BuiltInType(private val typeName: String, private val typeClass: Clas
     }
 
     override fun getInternalName(): String {
-        return this.descriptor
+        // Class types drop the L and ; of their descriptor, array types keep it
+        return if (this.descriptor.startsWith("L")) this.descriptor.substring(1, this.descriptor.length - 1) else this.descriptor
     }
 
     override fun getLoadOpcode(): Int {
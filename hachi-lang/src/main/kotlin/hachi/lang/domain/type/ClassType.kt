@@ -2,30 +2,30 @@ package hachi.lang.domain.type
 
 import jdk.internal.org.objectweb.asm.Opcodes
 
-class ClassType(name: String) : Type {
-    private val nameShortcuts = mapOf("List" to "java.util.ArrayList")
+class ClassType internal constructor(private val name: String) : Type {
+    private val internalName = this.name.replace(".", "/")
 
-    private val name = this.nameShortcuts[name] ?: name
+    private val descriptor = "L" + this.internalName + ";"
 
     companion object {
         fun Integer(): ClassType {
-            return ClassType("java.lang.Integer")
+            return TypePool.getClassType("java.lang.Integer")
         }
 
         fun Double(): ClassType {
-            return ClassType("java.lang.Double")
+            return TypePool.getClassType("java.lang.Double")
         }
 
         fun Boolean(): ClassType {
-            return ClassType("java.lang.Boolean")
+            return TypePool.getClassType("java.lang.Boolean")
         }
 
         fun Float(): ClassType {
-            return ClassType("java.lang.Float")
+            return TypePool.getClassType("java.lang.Float")
         }
 
         fun String(): ClassType {
-            return ClassType("java.lang.String")
+            return TypePool.getClassType("java.lang.String")
         }
     }
 
@@ -38,11 +38,11 @@ class ClassType(name: String) : Type {
     }
 
     override fun getDescriptor(): String {
-        return "L" + this.getInternalName() + ";"
+        return this.descriptor
     }
 
     override fun getInternalName(): String {
-        return this.name.replace(".", "/")
+        return this.internalName
     }
 
     override fun getLoadOpcode(): Int {
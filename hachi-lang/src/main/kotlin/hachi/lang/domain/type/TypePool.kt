@@ -0,0 +1,25 @@
+package hachi.lang.domain.type
+
+import java.util.concurrent.ConcurrentHashMap
+
+object TypePool {
+    private val nameShortcuts = mapOf("List" to "java.util.ArrayList")
+
+    private val builtInTypes = BuiltInType.values()
+            .associateBy { it.getName() }
+
+    private val classTypes = ConcurrentHashMap<String, ClassType>()
+
+    fun getType(typeName: String): Type {
+        return when (typeName) {
+            "java.lang.String" -> BuiltInType.STRING
+            else -> this.builtInTypes[typeName] ?: this.getClassType(typeName)
+        }
+    }
+
+    fun getClassType(name: String): ClassType {
+        val className = this.nameShortcuts[name] ?: name
+
+        return this.classTypes[className] ?: this.classTypes.computeIfAbsent(className) { ClassType(it) }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package hachi.lang.exception
+
+class AmbiguousMethodCallException(private val ownerInternalName: String, private val methodName: String, private val argumentDescriptors: List<String>, private val candidateDescriptors: List<String>) : CompilationException() {
+    override val message: String?
+        get() = "Call to %s.%s with arguments %s is ambiguous between %s".format(this.ownerInternalName.replace('/', '.'), this.methodName, this.argumentDescriptors, this.candidateDescriptors)
+}
\ No newline at end of file
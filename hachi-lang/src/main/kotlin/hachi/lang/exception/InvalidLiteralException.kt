@@ -0,0 +1,6 @@
+package hachi.lang.exception
+
+class InvalidLiteralException(private val literal: String) : CompilationException() {
+    override val message: String?
+        get() = "Literal is out of range: %s".format(this.literal)
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package hachi.lang.exception
+
+class InvalidRangedLoopStepException(private val step: Int) : CompilationException() {
+    override val message: String?
+        get() = "The step of a ranged loop must be positive: %d".format(this.step)
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package hachi.lang.exception
+
+class LoopIteratorAssignmentException(private val variableName: String) : CompilationException() {
+    override val message: String?
+        get() = "The iterator %s of a ranged loop cannot be assigned in its body".format(this.variableName)
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package hachi.lang.exception
+
+import hachi.lang.domain.node.expression.Expression
+
+class NonBooleanLogicalOperandException(private val expression: Expression) : CompilationException() {
+    override val message: String?
+        get() = "Logical operators only accept boolean operands: %s is %s".format(this.expression, this.expression.getType())
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package hachi.lang.exception
+
+class SyntaxErrorException(private val line: Int, private val charPositionInLine: Int, private val details: String) : CompilationException() {
+    override val message: String?
+        get() = "Syntax error at line %d, char %d: %s".format(this.line, this.charPositionInLine, this.details)
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package hachi.lang.optimization
+
+import hachi.lang.domain.LogicalOperator
+import hachi.lang.domain.node.expression.BooleanValue
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.IntValue
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.LongValue
+import hachi.lang.domain.node.expression.NegationExpression
+import hachi.lang.domain.node.expression.arithmetic.Addition
+import hachi.lang.domain.node.expression.arithmetic.ArithmeticExpression
+import hachi.lang.domain.node.expression.arithmetic.Division
+import hachi.lang.domain.node.expression.arithmetic.Multiplication
+import hachi.lang.domain.node.expression.arithmetic.Subtraction
+import hachi.lang.util.TypeChecker
+
+/**
+ * Removes operations that give back one of their operands: x + 0, 0 + x, x - 0, x * 1, 1 * x and x / 1 on ints and
+ * longs, x && true, x || false and !!x. Floating point identities are left alone, since x + 0.0 is not x for -0.0.
+ */
+class AlgebraicSimplification : OptimizationPass("algebraic-simplification") {
+    override fun rewrite(expression: Expression): Expression {
+        val simplifiedExpression = when (expression) {
+            is ArithmeticExpression -> this.simplify(expression)
+            is LogicalExpression -> {
+                val right = expression.rightExpression as? BooleanValue
+
+                if (right != null && right.value == (expression.logicalOperator == LogicalOperator.AND)) expression.leftExpression else null
+            }
+            is NegationExpression -> (expression.expression as? NegationExpression)?.expression
+            else -> null
+        }
+
+        return simplifiedExpression ?: expression
+    }
+
+    private fun simplify(arithmeticExpression: ArithmeticExpression): Expression? {
+        val left = arithmeticExpression.leftExpression
+        val right = arithmeticExpression.rightExpression
+        val type = left.getType()
+
+        if (type != right.getType() || !(TypeChecker.isInt(type) || TypeChecker.isLong(type))) {
+            return null
+        }
+
+        return when (arithmeticExpression) {
+            is Addition -> when {
+                this.isLiteral(right, 0) -> left
+                this.isLiteral(left, 0) -> right
+                else -> null
+            }
+            is Subtraction -> if (this.isLiteral(right, 0)) left else null
+            is Multiplication -> when {
+                this.isLiteral(right, 1) -> left
+                this.isLiteral(left, 1) -> right
+                else -> null
+            }
+            is Division -> if (this.isLiteral(right, 1)) left else null
+            else -> null
+        }
+    }
+
+    private fun isLiteral(expression: Expression, value: Long): Boolean {
+        return when (expression) {
+            is IntValue -> expression.value.toLong() == value
+            is LongValue -> expression.value == value
+            else -> false
+        }
+    }
+}
\ No newline at end of file
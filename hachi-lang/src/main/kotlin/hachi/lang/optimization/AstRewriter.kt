@@ -0,0 +1,201 @@
+package hachi.lang.optimization
+
+import hachi.lang.domain.node.expression.ConditionalExpression
+import hachi.lang.domain.node.expression.ConstructorCall
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.FunctionArgument
+import hachi.lang.domain.node.expression.FunctionCall
+import hachi.lang.domain.node.expression.IntValue
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.NegationExpression
+import hachi.lang.domain.node.expression.SuperCall
+import hachi.lang.domain.node.expression.arithmetic.Addition
+import hachi.lang.domain.node.expression.arithmetic.ArithmeticExpression
+import hachi.lang.domain.node.expression.arithmetic.Division
+import hachi.lang.domain.node.expression.arithmetic.Multiplication
+import hachi.lang.domain.node.expression.arithmetic.Subtraction
+import hachi.lang.domain.node.statement.AssignmentStatement
+import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.domain.node.statement.IfStatement
+import hachi.lang.domain.node.statement.PrintStatement
+import hachi.lang.domain.node.statement.RangedForStatement
+import hachi.lang.domain.node.statement.ReturnStatement
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.domain.node.statement.VariableDeclarationStatement
+import hachi.lang.domain.scope.Scope
+
+/**
+ * Runs one [OptimizationPass] over a function body bottom-up. A node is only rebuilt when one of its children changed,
+ * and [changes] counts the nodes the pass replaced.
+ */
+class AstRewriter(private val pass: OptimizationPass) {
+    var changes = 0
+        private set
+
+    fun rewrite(statement: Statement, scope: Scope): Statement {
+        if (statement is Expression) {
+            return this.rewrite(statement)
+        }
+
+        val rebuiltStatement = when (statement) {
+            is BlockStatement -> {
+                val statements = statement.statements.map { this.rewrite(it, statement.scope) }
+
+                if (this.isSame(statements, statement.statements)) statement else BlockStatement(statement.scope, statements)
+            }
+            is PrintStatement -> {
+                val expression = this.rewrite(statement.expression)
+
+                if (expression === statement.expression) statement else PrintStatement(expression)
+            }
+            is VariableDeclarationStatement -> {
+                val expression = this.rewrite(statement.expression)
+
+                if (expression === statement.expression) statement else VariableDeclarationStatement(statement.name, expression)
+            }
+            is AssignmentStatement -> {
+                val expression = this.rewrite(statement.expression)
+
+                if (expression === statement.expression) statement else AssignmentStatement(statement.variableName, expression)
+            }
+            is ReturnStatement -> {
+                val expression = this.rewrite(statement.expression)
+
+                if (expression === statement.expression) statement else ReturnStatement(expression)
+            }
+            is IfStatement -> this.rewrite(statement, scope)
+            is RangedForStatement -> this.rewrite(statement)
+            else -> statement
+        }
+
+        return this.count(rebuiltStatement, this.pass.rewrite(rebuiltStatement, scope))
+    }
+
+    fun rewrite(expression: Expression): Expression {
+        val rebuiltExpression = when (expression) {
+            is ArithmeticExpression -> this.rewrite(expression)
+            is ConditionalExpression -> {
+                val leftExpression = this.rewrite(expression.leftExpression)
+                val rightExpression = this.rewrite(expression.rightExpression)
+
+                if (leftExpression === expression.leftExpression && rightExpression === expression.rightExpression) {
+                    expression
+                } else {
+                    ConditionalExpression(leftExpression, rightExpression, expression.compareSign)
+                }
+            }
+            is LogicalExpression -> {
+                val leftExpression = this.rewrite(expression.leftExpression)
+                val rightExpression = this.rewrite(expression.rightExpression)
+
+                if (leftExpression === expression.leftExpression && rightExpression === expression.rightExpression) {
+                    expression
+                } else {
+                    LogicalExpression(leftExpression, rightExpression, expression.logicalOperator)
+                }
+            }
+            is NegationExpression -> {
+                val operand = this.rewrite(expression.expression)
+
+                if (operand === expression.expression) expression else NegationExpression(operand)
+            }
+            is FunctionCall -> {
+                val owner = this.rewrite(expression.owner)
+                val arguments = this.rewrite(expression.getArguments())
+
+                if (owner === expression.owner && arguments === expression.getArguments()) {
+                    expression
+                } else {
+                    FunctionCall(expression.functionSignature, arguments, owner)
+                }
+            }
+            is ConstructorCall -> {
+                val arguments = this.rewrite(expression.getArguments())
+
+                if (arguments === expression.getArguments()) {
+                    expression
+                } else {
+                    ConstructorCall(expression.getCallBinding().functionSignature, expression.getType().getName(), arguments)
+                }
+            }
+            is SuperCall -> {
+                val arguments = this.rewrite(expression.getArguments())
+
+                if (arguments === expression.getArguments()) expression else SuperCall(arguments)
+            }
+            else -> expression
+        }
+
+        return this.count(rebuiltExpression, this.pass.rewrite(rebuiltExpression))
+    }
+
+    private fun rewrite(arithmeticExpression: ArithmeticExpression): Expression {
+        val leftExpression = this.rewrite(arithmeticExpression.leftExpression)
+        val rightExpression = this.rewrite(arithmeticExpression.rightExpression)
+
+        if (leftExpression === arithmeticExpression.leftExpression && rightExpression === arithmeticExpression.rightExpression) {
+            return arithmeticExpression
+        }
+
+        return when (arithmeticExpression) {
+            is Addition -> Addition(leftExpression, rightExpression)
+            is Subtraction -> Subtraction(leftExpression, rightExpression)
+            is Multiplication -> Multiplication(leftExpression, rightExpression)
+            is Division -> Division(leftExpression, rightExpression)
+            else -> throw IllegalArgumentException("Unsupported arithmetic expression: %s".format(arithmeticExpression.javaClass.simpleName))
+        }
+    }
+
+    private fun rewrite(ifStatement: IfStatement, scope: Scope): Statement {
+        val condition = this.rewrite(ifStatement.condition)
+        val trueStatement = this.rewrite(ifStatement.trueStatement, scope)
+        val falseStatement = ifStatement.falseStatement?.let { this.rewrite(it, scope) }
+
+        if (condition === ifStatement.condition && trueStatement === ifStatement.trueStatement && falseStatement === ifStatement.falseStatement) {
+            return ifStatement
+        }
+
+        return IfStatement(condition, trueStatement, falseStatement)
+    }
+
+    private fun rewrite(rangedForStatement: RangedForStatement): Statement {
+        val scope = rangedForStatement.scope
+        val iteratorVariable = this.rewrite(rangedForStatement.iteratorVariable, scope)
+        val startExpression = this.rewrite(rangedForStatement.startExpression)
+        val endExpression = this.rewrite(rangedForStatement.endExpression)
+        // A step that only turns out not to be positive after rewriting fails at run time, as it does unoptimized
+        val stepExpression = this.rewrite(rangedForStatement.stepExpression)
+                .takeUnless { it is IntValue && it.value <= 0 } ?: rangedForStatement.stepExpression
+        val statement = this.rewrite(rangedForStatement.statement, scope)
+
+        if (iteratorVariable === rangedForStatement.iteratorVariable && startExpression === rangedForStatement.startExpression &&
+                endExpression === rangedForStatement.endExpression && stepExpression === rangedForStatement.stepExpression &&
+                statement === rangedForStatement.statement) {
+            return rangedForStatement
+        }
+
+        return RangedForStatement(iteratorVariable, startExpression, endExpression, stepExpression, statement, rangedForStatement.iteratorVariableName, scope, rangedForStatement.loopVariableSlot)
+    }
+
+    private fun rewrite(arguments: List<FunctionArgument>): List<FunctionArgument> {
+        val rewrittenArguments = arguments.map {
+            val expression = this.rewrite(it.expression)
+
+            if (expression === it.expression) it else FunctionArgument(expression, it.parameterName)
+        }
+
+        return if (this.isSame(rewrittenArguments, arguments)) arguments else rewrittenArguments
+    }
+
+    private fun <T : Any> count(node: T, rewrittenNode: T): T {
+        if (rewrittenNode !== node) {
+            this.changes++
+        }
+
+        return rewrittenNode
+    }
+
+    private fun isSame(nodes: List<Any>, originalNodes: List<Any>): Boolean {
+        return nodes.size == originalNodes.size && nodes.indices.all { nodes[it] === originalNodes[it] }
+    }
+}
\ No newline at end of file
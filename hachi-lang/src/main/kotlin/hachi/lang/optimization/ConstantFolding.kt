@@ -0,0 +1,118 @@
+package hachi.lang.optimization
+
+import hachi.lang.domain.CompareSign
+import hachi.lang.domain.LogicalOperator
+import hachi.lang.domain.node.expression.BooleanValue
+import hachi.lang.domain.node.expression.ConditionalExpression
+import hachi.lang.domain.node.expression.DoubleValue
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.FloatValue
+import hachi.lang.domain.node.expression.IntValue
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.LongValue
+import hachi.lang.domain.node.expression.NegationExpression
+import hachi.lang.domain.node.expression.StringValue
+import hachi.lang.domain.node.expression.arithmetic.Addition
+import hachi.lang.domain.node.expression.arithmetic.ArithmeticExpression
+import hachi.lang.domain.node.expression.arithmetic.Division
+import hachi.lang.domain.node.expression.arithmetic.Multiplication
+import hachi.lang.domain.node.expression.arithmetic.Subtraction
+
+/**
+ * Evaluates operators whose operands are literals of the same type. Integer arithmetic wraps around as the JVM does,
+ * and integer divisions by zero are left to fail at run time.
+ */
+class ConstantFolding : OptimizationPass("constant-folding") {
+    override fun rewrite(expression: Expression): Expression {
+        val foldedExpression = when (expression) {
+            is ArithmeticExpression -> this.fold(expression)
+            is ConditionalExpression -> this.fold(expression)
+            is LogicalExpression -> this.fold(expression)
+            is NegationExpression -> (expression.expression as? BooleanValue)?.let { BooleanValue(!it.value) }
+            else -> null
+        }
+
+        return foldedExpression ?: expression
+    }
+
+    private fun fold(arithmeticExpression: ArithmeticExpression): Expression? {
+        val left = arithmeticExpression.leftExpression
+        val right = arithmeticExpression.rightExpression
+
+        return when {
+            left is IntValue && right is IntValue -> this.fold(arithmeticExpression, left.value.toLong(), right.value.toLong())?.let { IntValue(it.toInt()) }
+            left is LongValue && right is LongValue -> this.fold(arithmeticExpression, left.value, right.value)?.let { LongValue(it) }
+            left is FloatValue && right is FloatValue -> FloatValue(this.fold(arithmeticExpression, left.value.toDouble(), right.value.toDouble()).toFloat())
+            left is DoubleValue && right is DoubleValue -> DoubleValue(this.fold(arithmeticExpression, left.value, right.value))
+            left is StringValue && right is StringValue && arithmeticExpression is Addition -> StringValue(left.value + right.value)
+            else -> null
+        }
+    }
+
+    private fun fold(arithmeticExpression: ArithmeticExpression, left: Long, right: Long): Long? {
+        return when (arithmeticExpression) {
+            is Addition -> left + right
+            is Subtraction -> left - right
+            is Multiplication -> left * right
+            is Division -> if (right == 0L) null else left / right
+            else -> null
+        }
+    }
+
+    // Float operands are widened exactly and the result is rounded once, which gives the same value as float arithmetic
+    private fun fold(arithmeticExpression: ArithmeticExpression, left: Double, right: Double): Double {
+        return when (arithmeticExpression) {
+            is Addition -> left + right
+            is Subtraction -> left - right
+            is Multiplication -> left * right
+            else -> left / right
+        }
+    }
+
+    private fun fold(conditionalExpression: ConditionalExpression): Expression? {
+        val left = conditionalExpression.leftExpression
+        val right = conditionalExpression.rightExpression
+        val compareSign = conditionalExpression.compareSign
+
+        val isSatisfied = when {
+            left is IntValue && right is IntValue -> this.isSatisfied(compareSign, left.value.compareTo(right.value))
+            left is LongValue && right is LongValue -> this.isSatisfied(compareSign, left.value.compareTo(right.value))
+            left is FloatValue && right is FloatValue -> this.isSatisfied(compareSign, left.value.toDouble(), right.value.toDouble())
+            left is DoubleValue && right is DoubleValue -> this.isSatisfied(compareSign, left.value, right.value)
+            else -> return null
+        }
+
+        return BooleanValue(isSatisfied)
+    }
+
+    private fun isSatisfied(compareSign: CompareSign, comparison: Int): Boolean {
+        return when (compareSign) {
+            CompareSign.EQUAL -> comparison == 0
+            CompareSign.NOT_EQUAL -> comparison != 0
+            CompareSign.LESS_THAN -> comparison < 0
+            CompareSign.GREATER_THAN -> comparison > 0
+            CompareSign.LESS_THAN_OR_EQUAL -> comparison <= 0
+            CompareSign.GREATER_THAN_OR_EQUAL -> comparison >= 0
+        }
+    }
+
+    // Compares with IEEE semantics, so every comparison with NaN is false except !=
+    private fun isSatisfied(compareSign: CompareSign, left: Double, right: Double): Boolean {
+        return when (compareSign) {
+            CompareSign.EQUAL -> left == right
+            CompareSign.NOT_EQUAL -> left != right
+            CompareSign.LESS_THAN -> left < right
+            CompareSign.GREATER_THAN -> left > right
+            CompareSign.LESS_THAN_OR_EQUAL -> left <= right
+            CompareSign.GREATER_THAN_OR_EQUAL -> left >= right
+        }
+    }
+
+    // Only a literal left operand is folded: the right operand may have side effects that still have to happen
+    private fun fold(logicalExpression: LogicalExpression): Expression? {
+        val left = logicalExpression.leftExpression as? BooleanValue ?: return null
+        val decidingValue = logicalExpression.logicalOperator == LogicalOperator.OR
+
+        return if (left.value == decidingValue) left else logicalExpression.rightExpression
+    }
+}
\ No newline at end of file
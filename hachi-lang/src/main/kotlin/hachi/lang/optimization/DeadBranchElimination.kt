@@ -0,0 +1,29 @@
+package hachi.lang.optimization
+
+import hachi.lang.domain.node.expression.BooleanValue
+import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.domain.node.statement.IfStatement
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.domain.scope.Scope
+
+/**
+ * Replaces if statements whose condition is a literal with the branch that is taken, and drops the empty blocks that
+ * leaves behind.
+ */
+class DeadBranchElimination : OptimizationPass("dead-branch-elimination") {
+    override fun rewrite(statement: Statement, scope: Scope): Statement {
+        return when (statement) {
+            is IfStatement -> {
+                val condition = statement.condition as? BooleanValue ?: return statement
+
+                if (condition.value) statement.trueStatement else statement.falseStatement ?: BlockStatement(scope)
+            }
+            is BlockStatement -> {
+                val statements = statement.statements.filterNot { it is BlockStatement && it.statements.isEmpty() }
+
+                if (statements.size == statement.statements.size) statement else BlockStatement(statement.scope, statements)
+            }
+            else -> statement
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package hachi.lang.optimization
+
+/**
+ * Which passes a [PassManager] runs, in order. Every level produces the same program output as [O0]. Folding the
+ * bounds or step of a ranged loop may change how it is lowered, which is safe because its iterator cannot be assigned.
+ */
+enum class OptimizationLevel {
+    // No passes, the generators see the tree the visitors built
+    O0,
+    // Folds constant expressions and removes branches with constant conditions
+    O1,
+    // Also applies algebraic identities such as x + 0 and x * 1
+    O2;
+
+    companion object {
+        fun fromFlag(flag: String): OptimizationLevel? {
+            return values().firstOrNull { "-%s".format(it.name) == flag }
+        }
+    }
+
+    fun getPasses(): List<OptimizationPass> {
+        return when (this) {
+            O0 -> emptyList()
+            O1 -> listOf(ConstantFolding(), DeadBranchElimination())
+            O2 -> listOf(ConstantFolding(), AlgebraicSimplification(), DeadBranchElimination())
+        }
+    }
+}
\ No newline at end of file
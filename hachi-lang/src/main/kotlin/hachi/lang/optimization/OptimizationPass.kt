@@ -0,0 +1,23 @@
+package hachi.lang.optimization
+
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.domain.scope.Scope
+
+/**
+ * An AST-to-AST transformation of function bodies. [AstRewriter] walks the tree and offers every node to the pass
+ * after its children were rewritten, so a pass only decides how to rewrite a single node. Returning the node itself
+ * means it is left unchanged.
+ */
+abstract class OptimizationPass(val name: String) {
+    open fun rewrite(expression: Expression): Expression {
+        return expression
+    }
+
+    /**
+     * Rewrites a statement that is not an expression. [scope] is the scope the statement is declared in.
+     */
+    open fun rewrite(statement: Statement, scope: Scope): Statement {
+        return statement
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package hachi.lang.optimization
+
+import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.domain.node.statement.Statement
+
+/**
+ * Runs an ordered list of passes over every function body between parsing and bytecode generation. The parser
+ * optimizes each body right after analyzing it, so bodies may be optimized concurrently.
+ */
+class PassManager(private val passes: List<OptimizationPass>) {
+    constructor(optimizationLevel: OptimizationLevel) : this(optimizationLevel.getPasses())
+
+    val report = PassReport(this.passes.map { it.name })
+
+    fun optimize(functionBody: BlockStatement): Statement {
+        var optimizedBody: Statement = functionBody
+
+        this.passes.forEachIndexed { index, pass ->
+            val astRewriter = AstRewriter(pass)
+            val start = System.nanoTime()
+
+            optimizedBody = astRewriter.rewrite(optimizedBody, functionBody.scope)
+
+            this.report.add(index, System.nanoTime() - start, astRewriter.changes)
+        }
+
+        return optimizedBody
+    }
+}
\ No newline at end of file
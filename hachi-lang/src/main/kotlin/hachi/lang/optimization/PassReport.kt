@@ -0,0 +1,34 @@
+package hachi.lang.optimization
+
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * The time spent and the nodes rewritten by every pass of a [PassManager], summed over all function bodies it
+ * optimized. Bodies may be optimized on several threads at once.
+ */
+class PassReport(private val passNames: List<String>) {
+    private val nanoseconds = AtomicLongArray(this.passNames.size)
+
+    private val changes = AtomicLongArray(this.passNames.size)
+
+    fun add(passIndex: Int, nanoseconds: Long, changes: Int) {
+        this.nanoseconds.addAndGet(passIndex, nanoseconds)
+        this.changes.addAndGet(passIndex, changes.toLong())
+    }
+
+    fun getNanoseconds(passName: String): Long {
+        return this.passNames.indices.filter { this.passNames[it] == passName }.map { this.nanoseconds.get(it) }.sum()
+    }
+
+    fun getChanges(passName: String): Long {
+        return this.passNames.indices.filter { this.passNames[it] == passName }.map { this.changes.get(it) }.sum()
+    }
+
+    override fun toString(): String {
+        val lines = this.passNames.mapIndexed { index, passName ->
+            "%-28s %10.3f %8d".format(passName, this.nanoseconds.get(index) / 1e6, this.changes.get(index))
+        }
+
+        return (listOf("%-28s %10s %8s".format("pass", "time (ms)", "changes")) + lines).joinToString("\n")
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package hachi.lang.parsing
+
+/**
+ * How function bodies are kept between parsing and bytecode generation. [FLAT] encodes every body into parallel
+ * primitive arrays right after it is analyzed, so the tree of a body can be collected long before the class is
+ * generated.
+ */
+enum class AstFormat {
+    TREE,
+    FLAT
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package hachi.lang.parsing
+
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.util.ForkJoinMapper
+
+enum class BodyAnalysis {
+    EAGER,
+    PARALLEL,
+    LAZY;
+
+    // When several bodies are invalid, the error of the first one in declaration order is thrown
+    fun analyze(bodyAnalyzers: List<() -> Statement>): List<Lazy<Statement>> {
+        return when (this) {
+            EAGER -> bodyAnalyzers.map { lazyOf(it()) }
+            PARALLEL -> ForkJoinMapper.map(bodyAnalyzers) { it() }
+                    .map { lazyOf(it) }
+            LAZY -> bodyAnalyzers.map { lazy(it) }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package hachi.lang.parsing
+
+enum class Frontend {
+    ANTLR,
+    PRATT
+}
\ No newline at end of file
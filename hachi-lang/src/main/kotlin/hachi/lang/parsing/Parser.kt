@@ -3,18 +3,80 @@ package hachi.lang.parsing
 import hachi.antlr.HachiLexer
 import hachi.antlr.HachiParser
 import hachi.lang.domain.CompilationUnit
+import hachi.lang.domain.node.flat.FlatAstEncoder
+import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.optimization.PassManager
+import hachi.lang.parsing.pratt.PrattParser
 import hachi.lang.parsing.visitor.CompilationUnitVisitor
+import org.antlr.v4.runtime.BailErrorStrategy
+import org.antlr.v4.runtime.CharStream
 import org.antlr.v4.runtime.CharStreams
 import org.antlr.v4.runtime.CommonTokenStream
+import org.antlr.v4.runtime.ConsoleErrorListener
+import org.antlr.v4.runtime.DefaultErrorStrategy
+import org.antlr.v4.runtime.TokenStream
+import org.antlr.v4.runtime.atn.PredictionMode
+import org.antlr.v4.runtime.misc.ParseCancellationException
+import java.io.File
 
-class Parser {
+/**
+ * Every function body is optimized and, with [AstFormat.FLAT], encoded as soon as it is analyzed, so its tree can be
+ * collected long before bytecode generation, and lazily analyzed bodies stay lazy.
+ */
+class Parser(private val frontend: Frontend = Frontend.ANTLR, private val astFormat: AstFormat = AstFormat.TREE, private val bodyAnalysis: BodyAnalysis = BodyAnalysis.EAGER, private val passManager: PassManager = PassManager(OptimizationLevel.O0)) {
     fun getCompilationUnit(fileAbsolutePath: String): CompilationUnit {
-        val charStream = CharStreams.fromFileName(fileAbsolutePath)
+        return when (this.frontend) {
+            Frontend.ANTLR -> this.getCompilationUnit(CharStreams.fromFileName(fileAbsolutePath))
+            Frontend.PRATT -> PrattParser(File(fileAbsolutePath).readText(), this.bodyAnalysis, this::lowerBody).getCompilationUnit()
+        }
+    }
+
+    fun getCompilationUnitFromSource(source: String): CompilationUnit {
+        return when (this.frontend) {
+            Frontend.ANTLR -> this.getCompilationUnit(CharStreams.fromString(source))
+            Frontend.PRATT -> PrattParser(source, this.bodyAnalysis, this::lowerBody).getCompilationUnit()
+        }
+    }
+
+    /**
+     * Parses with SLL prediction first and bails out on the first error. Only inputs that SLL cannot handle, which
+     * are syntax errors in practice, are parsed again with full LL prediction and normal error reporting.
+     */
+    fun getCompilationUnitContext(tokenStream: TokenStream): HachiParser.CompilationUnitContext {
+        val hachiParser = HachiParser(tokenStream)
+        hachiParser.removeErrorListeners()
+        hachiParser.errorHandler = BailErrorStrategy()
+        hachiParser.interpreter.predictionMode = PredictionMode.SLL
+
+        return try {
+            hachiParser.compilationUnit()
+        } catch (e: ParseCancellationException) {
+            hachiParser.reset()
+            hachiParser.addErrorListener(ConsoleErrorListener.INSTANCE)
+            hachiParser.addErrorListener(HachiErrorListener())
+            hachiParser.errorHandler = DefaultErrorStrategy()
+            hachiParser.interpreter.predictionMode = PredictionMode.LL
+
+            hachiParser.compilationUnit()
+        }
+    }
+
+    private fun lowerBody(functionBody: Statement): Statement {
+        val scope = (functionBody as BlockStatement).scope
+        val optimizedBody = this.passManager.optimize(functionBody)
+
+        return when (this.astFormat) {
+            AstFormat.TREE -> optimizedBody
+            AstFormat.FLAT -> FlatAstEncoder().encode(optimizedBody, scope)
+        }
+    }
+
+    private fun getCompilationUnit(charStream: CharStream): CompilationUnit {
         val hachiLexer = HachiLexer(charStream)
         val commonTokenStream = CommonTokenStream(hachiLexer)
-        val hachiParser = HachiParser(commonTokenStream)
-        hachiParser.addErrorListener(HachiErrorListener())
 
-        return hachiParser.compilationUnit().accept(CompilationUnitVisitor())
+        return this.getCompilationUnitContext(commonTokenStream).accept(CompilationUnitVisitor(this.bodyAnalysis, this::lowerBody))
     }
 }
\ No newline at end of file
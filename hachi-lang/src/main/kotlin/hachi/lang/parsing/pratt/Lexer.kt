@@ -0,0 +1,130 @@
+package hachi.lang.parsing.pratt
+
+import hachi.lang.exception.SyntaxErrorException
+
+/**
+ * Tokenizes hachi source with the same rules as the lexer generated from Hachi.g4: the longest match wins, and on a
+ * tie literals win over number literals, which win over ID.
+ */
+class Lexer(private val source: String) {
+    private val keywords = setOf("class", "constructor", "boolean", "string", "char", "byte", "short", "int", "long", "float", "double", "void",
+            "for", "from", "to", "step", "if", "else", "return", "super", "new", "var", "print")
+
+    private val booleans = setOf("true", "false")
+
+    private val twoCharacterSymbols = setOf("->", "==", "!=", ">=", "<=", "&&", "||")
+
+    private val oneCharacterSymbols = "{}(),=[].*/+-><!"
+
+    private var position = 0
+
+    private var line = 1
+
+    private var lineStart = 0
+
+    fun tokenize(): List<Token> {
+        val tokens = ArrayList<Token>()
+
+        while (true) {
+            this.skipWhiteSpace()
+
+            if (this.position >= this.source.length) {
+                tokens.add(Token(TokenType.EOF, "<EOF>", this.line, this.position - this.lineStart))
+
+                return tokens
+            }
+
+            tokens.add(this.nextToken())
+        }
+    }
+
+    private fun nextToken(): Token {
+        val start = this.position
+        val character = this.source[start]
+        val identifierEnd = this.scan(start) { it in 'a'..'z' || it in 'A'..'Z' || it in '0'..'9' }
+        val number = this.scanNumber(if (character == '-') start + 1 else start)
+        val twoCharacters = this.source.substring(start, minOf(start + 2, this.source.length))
+
+        return when {
+            number != null && number.index >= identifierEnd -> this.createToken(number.value, number.index)
+            identifierEnd > start -> {
+                val text = this.source.substring(start, identifierEnd)
+                val type = when (text) {
+                    in this.keywords -> TokenType.KEYWORD
+                    in this.booleans -> TokenType.BOOLEAN
+                    else -> TokenType.IDENTIFIER
+                }
+
+                this.createToken(type, identifierEnd)
+            }
+            character == '"' -> this.createToken(TokenType.STRING, this.getStringEnd(start))
+            twoCharacters in this.twoCharacterSymbols -> this.createToken(TokenType.SYMBOL, start + 2)
+            character in this.oneCharacterSymbols -> this.createToken(TokenType.SYMBOL, start + 1)
+            else -> throw SyntaxErrorException(this.line, start - this.lineStart, "token recognition error at: '%s'".format(character))
+        }
+    }
+
+    private fun scanNumber(start: Int): IndexedValue<TokenType>? {
+        val integerEnd = this.scan(start) { it in '0'..'9' }
+        val hasFraction = this.characterAt(integerEnd) == '.'
+        val end = if (hasFraction) this.scan(integerEnd + 1) { it in '0'..'9' } else integerEnd
+        val hasDigits = integerEnd > start || end > integerEnd + 1
+
+        if (!hasDigits) {
+            return null
+        }
+
+        return when (this.characterAt(end)) {
+            'l', 'L' -> if (hasFraction) IndexedValue(end, TokenType.DOUBLE) else IndexedValue(end + 1, TokenType.LONG)
+            'f', 'F' -> IndexedValue(end + 1, TokenType.FLOAT)
+            'd', 'D' -> IndexedValue(end + 1, TokenType.DOUBLE)
+            else -> IndexedValue(end, if (hasFraction) TokenType.DOUBLE else TokenType.INTEGER)
+        }
+    }
+
+    private fun characterAt(index: Int): Char? {
+        return if (index < this.source.length) this.source[index] else null
+    }
+
+    private fun getStringEnd(start: Int): Int {
+        val end = this.scan(start + 1) { it != '"' && it != '\r' && it != '\n' }
+
+        if (end >= this.source.length || this.source[end] != '"') {
+            throw SyntaxErrorException(this.line, start - this.lineStart, "unterminated string")
+        }
+
+        return end + 1
+    }
+
+    private fun createToken(type: TokenType, end: Int): Token {
+        val token = Token(type, this.source.substring(this.position, end), this.line, this.position - this.lineStart)
+
+        this.position = end
+
+        return token
+    }
+
+    private fun skipWhiteSpace() {
+        while (this.position < this.source.length) {
+            when (this.source[this.position]) {
+                ' ', '\t', '\r' -> this.position++
+                '\n' -> {
+                    this.position++
+                    this.line++
+                    this.lineStart = this.position
+                }
+                else -> return
+            }
+        }
+    }
+
+    private inline fun scan(start: Int, predicate: (Char) -> Boolean): Int {
+        var end = start
+
+        while (end < this.source.length && predicate(this.source[end])) {
+            end++
+        }
+
+        return end
+    }
+}
\ No newline at end of file
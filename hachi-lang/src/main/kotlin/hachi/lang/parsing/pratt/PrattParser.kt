@@ -0,0 +1,669 @@
+package hachi.lang.parsing.pratt
+
+import hachi.lang.domain.ClassDeclaration
+import hachi.lang.domain.CompareSign
+import hachi.lang.domain.CompilationUnit
+import hachi.lang.domain.Constructor
+import hachi.lang.domain.Function
+import hachi.lang.domain.LogicalOperator
+import hachi.lang.domain.MetaData
+import hachi.lang.domain.node.expression.ConditionalExpression
+import hachi.lang.domain.node.expression.ConstructorCall
+import hachi.lang.domain.node.expression.EmptyExpression
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.FieldReference
+import hachi.lang.domain.node.expression.FunctionArgument
+import hachi.lang.domain.node.expression.FunctionCall
+import hachi.lang.domain.node.expression.FunctionParameter
+import hachi.lang.domain.node.expression.IntValue
+import hachi.lang.domain.node.expression.LocalVariableReference
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.NegationExpression
+import hachi.lang.domain.node.expression.SuperCall
+import hachi.lang.domain.node.expression.Value
+import hachi.lang.domain.node.expression.arithmetic.Addition
+import hachi.lang.domain.node.expression.arithmetic.Division
+import hachi.lang.domain.node.expression.arithmetic.Multiplication
+import hachi.lang.domain.node.expression.arithmetic.Subtraction
+import hachi.lang.domain.node.statement.AssignmentStatement
+import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.domain.node.statement.IfStatement
+import hachi.lang.domain.node.statement.PrintStatement
+import hachi.lang.domain.node.statement.RangedForStatement
+import hachi.lang.domain.node.statement.ReturnStatement
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.domain.node.statement.VariableDeclarationStatement
+import hachi.lang.domain.scope.Field
+import hachi.lang.domain.scope.FunctionSignature
+import hachi.lang.domain.scope.LocalVariable
+import hachi.lang.domain.scope.Scope
+import hachi.lang.domain.type.BuiltInType
+import hachi.lang.domain.type.Type
+import hachi.lang.domain.type.TypePool
+import hachi.lang.exception.FunctionNameEqualClassException
+import hachi.lang.exception.LoopIteratorAssignmentException
+import hachi.lang.exception.SyntaxErrorException
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.util.TypeResolver
+import hachi.lang.util.ValueFactory
+
+/**
+ * Hand-written recursive descent parser for Hachi.g4 that builds the domain model directly, without an ANTLR parse
+ * tree. Expressions are parsed by precedence climbing. Scopes are threaded exactly like the visitors in
+ * hachi.lang.parsing.visitor do, so both frontends produce the same bytecode.
+ *
+ * Function bodies are skipped on the first pass and parsed once all signatures of the class are known, because a
+ * body may call a function declared after it. Every body is parsed by its own parser over the shared tokens, so bodies
+ * can be parsed in any order, see [BodyAnalysis].
+ */
+class PrattParser private constructor(private val tokens: List<Token>, private val bodyAnalysis: BodyAnalysis, private val lowerBody: (Statement) -> Statement) {
+    constructor(source: String, bodyAnalysis: BodyAnalysis, lowerBody: (Statement) -> Statement = { it }) : this(Lexer(source).tokenize(), bodyAnalysis, lowerBody)
+
+    constructor(source: String) : this(source, BodyAnalysis.EAGER)
+
+    companion object {
+        private val primitiveTypes = setOf("boolean", "string", "char", "byte", "short", "int", "long", "float", "double", "void")
+
+        private val compareSigns = setOf(">", "<", "==", "!=", ">=", "<=")
+
+        // ! binds tighter than every binary operator except member calls, as in the grammar
+        private const val negationPrecedence = 5
+
+        private val literalParsers = mapOf<TokenType, (String) -> Value>(
+                TokenType.INTEGER to ValueFactory::fromInteger,
+                TokenType.LONG to ValueFactory::fromLong,
+                TokenType.FLOAT to ValueFactory::fromFloat,
+                TokenType.DOUBLE to ValueFactory::fromDouble,
+                TokenType.STRING to ValueFactory::fromString,
+                TokenType.BOOLEAN to ValueFactory::fromBoolean
+        )
+    }
+
+    private var position = 0
+
+    fun getCompilationUnit(): CompilationUnit {
+        val classDeclaration = this.parseClassDeclaration()
+
+        this.expect(TokenType.EOF)
+
+        return CompilationUnit(classDeclaration)
+    }
+
+    private fun parseClassDeclaration(): ClassDeclaration {
+        this.expectKeyword("class")
+
+        val className = this.parseQualifiedName()
+        val scope = Scope(MetaData(className, "java.lang.Object"))
+
+        this.expectSymbol("{")
+
+        val fields = ArrayList<Field>()
+
+        while (this.isFieldAhead()) {
+            val type = this.parseType()
+            val field = Field(this.expect(TokenType.IDENTIFIER).text, scope.getClassType(), type)
+
+            scope.addField(field)
+            fields.add(field)
+        }
+
+        val constructorDeclarations = ArrayList<Pair<FunctionSignature, Int>>()
+
+        while (this.peek().isKeyword("constructor")) {
+            this.advance()
+
+            val parameters = this.parseFunctionParameters(scope)
+
+            constructorDeclarations.add(Pair(FunctionSignature(className, parameters, BuiltInType.VOID), this.skipFunctionBody()))
+        }
+
+        val functionDeclarations = ArrayList<Pair<FunctionSignature, Int>>()
+
+        while (!this.peek().isSymbol("}")) {
+            functionDeclarations.add(Pair(this.parseFunctionSignature(scope), this.skipFunctionBody()))
+        }
+
+        this.expectSymbol("}")
+
+        constructorDeclarations.forEach { scope.addFunctionSignature(it.first) }
+        functionDeclarations.forEach { scope.addFunctionSignature(it.first) }
+
+        val defaultConstructorExists = scope.functionSignatureExists(className, emptyList())
+
+        if (!defaultConstructorExists) {
+            scope.addFunctionSignature(FunctionSignature(className, emptyList(), BuiltInType.VOID))
+        }
+
+        val bodyAnalyzers = (constructorDeclarations + functionDeclarations).map { { this.lowerBody(PrattParser(this.tokens, this.bodyAnalysis, this.lowerBody).parseFunctionBody(scope, it.first, it.second)) } }
+        val functionBodies = this.bodyAnalysis.analyze(bodyAnalyzers)
+
+        val constructors = constructorDeclarations.zip(functionBodies) { declaration, body -> Constructor(declaration.first, body) }
+                .toMutableList<Function>()
+
+        if (!defaultConstructorExists) {
+            constructors.add(Constructor(scope.getFunctionSignatureWithoutParameters(className), this.lowerBody(BlockStatement(scope))))
+        }
+
+        val methods = functionDeclarations.zip(functionBodies.drop(constructorDeclarations.size)) { declaration, body -> Function(declaration.first, body) }
+                .toMutableList()
+
+        methods.addAll(constructors)
+
+        return ClassDeclaration(className, fields, methods)
+    }
+
+    private fun isFieldAhead(): Boolean {
+        val start = this.position
+
+        try {
+            if (!this.isTypeAhead()) {
+                return false
+            }
+
+            this.parseType()
+
+            if (this.peek().type != TokenType.IDENTIFIER) {
+                return false
+            }
+
+            this.advance()
+
+            return !this.peek().isSymbol("(") && !this.peek().isSymbol("{")
+        } finally {
+            this.position = start
+        }
+    }
+
+    private fun isTypeAhead(): Boolean {
+        val token = this.peek()
+
+        return token.type == TokenType.IDENTIFIER || (token.type == TokenType.KEYWORD && token.text in primitiveTypes)
+    }
+
+    private fun parseType(): Type {
+        val typeName = StringBuilder()
+        val token = this.peek()
+
+        if (token.type == TokenType.KEYWORD && token.text in primitiveTypes) {
+            typeName.append(this.advance().text)
+        } else {
+            typeName.append(this.parseQualifiedName())
+        }
+
+        while (this.peek().isSymbol("[")) {
+            this.advance()
+            this.expectSymbol("]")
+
+            typeName.append("[]")
+        }
+
+        return TypeResolver.getFromTypeName(typeName.toString())
+    }
+
+    private fun parseQualifiedName(): String {
+        val qualifiedName = StringBuilder(this.expect(TokenType.IDENTIFIER).text)
+
+        while (this.peek().isSymbol(".") && this.peek(1).type == TokenType.IDENTIFIER) {
+            this.advance()
+
+            qualifiedName.append('.').append(this.advance().text)
+        }
+
+        return qualifiedName.toString()
+    }
+
+    private fun parseFunctionSignature(scope: Scope): FunctionSignature {
+        val hasReturnType = this.peek().type == TokenType.KEYWORD || this.isReturnTypeAhead()
+        val returnType = if (hasReturnType) this.parseType() else BuiltInType.VOID
+        val functionName = this.expect(TokenType.IDENTIFIER).text
+        val parameters = this.parseFunctionParameters(scope)
+
+        return FunctionSignature(functionName, parameters, returnType)
+    }
+
+    private fun isReturnTypeAhead(): Boolean {
+        val start = this.position
+
+        try {
+            this.parseType()
+
+            return this.peek().type == TokenType.IDENTIFIER
+        } finally {
+            this.position = start
+        }
+    }
+
+    private fun parseFunctionParameters(scope: Scope): List<FunctionParameter> {
+        val hasParentheses = this.peek().isSymbol("(")
+
+        if (hasParentheses) {
+            this.advance()
+        }
+
+        val parameters = ArrayList<FunctionParameter>()
+
+        if (this.isTypeAhead()) {
+            do {
+                if (parameters.isNotEmpty()) {
+                    this.advance()
+                }
+
+                parameters.add(this.parseFunctionParameter(scope))
+            } while (this.peek().isSymbol(","))
+        }
+
+        val defaultValueIndex = parameters.indexOfFirst { it.defaultValue != null }
+
+        if (defaultValueIndex > 1 || (defaultValueIndex >= 0 && parameters.drop(defaultValueIndex).any { it.defaultValue == null })) {
+            this.fail(this.peek(), "parameters without default values must come first and only one may precede default values")
+        }
+
+        if (this.peek().isSymbol(")")) {
+            this.advance()
+        }
+
+        return parameters
+    }
+
+    private fun parseFunctionParameter(scope: Scope): FunctionParameter {
+        val type = this.parseType()
+        val name = this.expect(TokenType.IDENTIFIER).text
+
+        if (!this.peek().isSymbol("=")) {
+            return FunctionParameter(name, type, null)
+        }
+
+        this.advance()
+
+        return FunctionParameter(name, type, this.parseExpression(scope))
+    }
+
+    private fun skipFunctionBody(): Int {
+        val start = this.position
+        var depth = 0
+
+        this.expectSymbol("{")
+
+        depth++
+
+        while (depth > 0) {
+            val token = this.advance()
+
+            when {
+                token.type == TokenType.EOF -> this.fail(token, "missing '}'")
+                token.isSymbol("{") -> depth++
+                token.isSymbol("}") -> depth--
+            }
+        }
+
+        return start
+    }
+
+    private fun parseFunctionBody(classScope: Scope, functionSignature: FunctionSignature, start: Int): Statement {
+        val scope = Scope(classScope)
+
+        scope.addLocalVariable(LocalVariable("this", scope.getClassType()))
+        functionSignature.parameters.forEach { scope.addLocalVariable(LocalVariable(it.name, it.getType())) }
+
+        this.position = start
+
+        return this.parseBlockStatement(scope)
+    }
+
+    private fun parseStatement(scope: Scope): Statement {
+        val token = this.peek()
+
+        return when {
+            token.isKeyword("var") -> this.parseVariableDeclaration(scope)
+            token.type == TokenType.IDENTIFIER && this.peek(1).isSymbol("=") -> this.parseAssignment(scope)
+            token.isKeyword("for") -> this.parseForStatement(scope)
+            token.isKeyword("if") -> this.parseIfStatement(scope)
+            token.isKeyword("return") -> this.parseReturnStatement(scope)
+            token.isKeyword("print") -> this.parsePrintStatement(scope)
+            token.isSymbol("{") -> this.parseBlockStatement(scope)
+            else -> this.parseExpression(scope)
+        }
+    }
+
+    private fun parseVariableDeclaration(scope: Scope): Statement {
+        this.expectKeyword("var")
+
+        val variableName = this.expect(TokenType.IDENTIFIER).text
+
+        this.expectSymbol("=")
+
+        val expression = this.parseExpression(scope)
+
+        scope.addLocalVariable(LocalVariable(variableName, expression.getType()))
+
+        return VariableDeclarationStatement(variableName, expression)
+    }
+
+    private fun parseAssignment(scope: Scope): Statement {
+        val variableName = this.expect(TokenType.IDENTIFIER).text
+
+        if (scope.isLoopIterator(variableName)) {
+            throw LoopIteratorAssignmentException(variableName)
+        }
+
+        this.expectSymbol("=")
+
+        return AssignmentStatement(variableName, this.parseExpression(scope))
+    }
+
+    private fun parseForStatement(scope: Scope): Statement {
+        this.expectKeyword("for")
+
+        if (this.peek().isSymbol("(")) {
+            this.advance()
+        }
+
+        val newScope = Scope(scope)
+        val variableName = this.expect(TokenType.IDENTIFIER).text
+
+        this.expectKeyword("from")
+
+        val startExpression = this.parseExpression(scope)
+
+        this.expectKeyword("to")
+
+        val endExpression = this.parseExpression(scope)
+        val stepExpression = if (this.peek().isKeyword("step")) {
+            this.advance()
+            this.parseExpression(scope)
+        } else {
+            IntValue(1)
+        }
+
+        if (this.peek().isSymbol(")")) {
+            this.advance()
+        }
+
+        if (newScope.isLoopIterator(variableName)) {
+            throw LoopIteratorAssignmentException(variableName)
+        }
+
+        val iteratorVariable = if (newScope.localVariableExists(variableName)) {
+            AssignmentStatement(variableName, startExpression)
+        } else {
+            newScope.addLocalVariable(LocalVariable(variableName, startExpression.getType()))
+
+            VariableDeclarationStatement(variableName, startExpression)
+        }
+
+        newScope.addLoopIterator(variableName)
+
+        val loopVariableSlot = RangedForStatement.addLoopVariables(newScope, startExpression, endExpression, stepExpression)
+        val statement = this.parseStatement(newScope)
+
+        return RangedForStatement(iteratorVariable, startExpression, endExpression, stepExpression, statement, variableName, newScope, loopVariableSlot)
+    }
+
+    private fun parseIfStatement(scope: Scope): Statement {
+        this.expectKeyword("if")
+
+        val condition = this.parseExpression(scope)
+        val trueStatement = this.parseStatement(scope)
+
+        if (!this.peek().isKeyword("else")) {
+            return IfStatement(condition, trueStatement)
+        }
+
+        this.advance()
+
+        return IfStatement(condition, trueStatement, this.parseStatement(scope))
+    }
+
+    private fun parseReturnStatement(scope: Scope): Statement {
+        this.expectKeyword("return")
+
+        return if (this.isExpressionAhead()) {
+            ReturnStatement(this.parseExpression(scope))
+        } else {
+            ReturnStatement(EmptyExpression(BuiltInType.VOID))
+        }
+    }
+
+    private fun parsePrintStatement(scope: Scope): Statement {
+        this.expectKeyword("print")
+        this.expectSymbol("(")
+
+        val expression = this.parseExpression(scope)
+
+        this.expectSymbol(")")
+
+        return PrintStatement(expression)
+    }
+
+    private fun parseBlockStatement(scope: Scope): BlockStatement {
+        this.expectSymbol("{")
+
+        val blockScope = Scope(scope)
+        val statements = ArrayList<Statement>()
+
+        while (!this.peek().isSymbol("}")) {
+            statements.add(this.parseStatement(blockScope))
+        }
+
+        this.advance()
+
+        return BlockStatement(blockScope, statements)
+    }
+
+    private fun isExpressionAhead(): Boolean {
+        val token = this.peek()
+
+        return when (token.type) {
+            TokenType.IDENTIFIER, TokenType.INTEGER, TokenType.LONG, TokenType.FLOAT, TokenType.DOUBLE, TokenType.STRING, TokenType.BOOLEAN -> true
+            TokenType.KEYWORD -> token.text == "super" || token.text == "new"
+            TokenType.SYMBOL -> token.text == "(" || token.text == "!"
+            TokenType.EOF -> false
+        }
+    }
+
+    private fun parseExpression(scope: Scope): Expression {
+        return this.parseExpression(scope, 0)
+    }
+
+    private fun parseExpression(scope: Scope, minimumPrecedence: Int): Expression {
+        var expression = this.parsePrimaryExpression(scope)
+
+        while (true) {
+            val operator = this.peek()
+            val precedence = this.getPrecedence(operator)
+
+            if (precedence <= minimumPrecedence) {
+                return expression
+            }
+
+            this.advance()
+
+            expression = if (operator.isSymbol(".")) {
+                this.parseFunctionCall(scope, expression)
+            } else {
+                this.createBinaryExpression(operator, expression, this.parseExpression(scope, precedence))
+            }
+        }
+    }
+
+    private fun getPrecedence(token: Token): Int {
+        if (token.type != TokenType.SYMBOL) {
+            return 0
+        }
+
+        return when (token.text) {
+            "." -> 6
+            "*", "/" -> 5
+            "+", "-" -> 4
+            in compareSigns -> 3
+            "&&" -> 2
+            "||" -> 1
+            else -> 0
+        }
+    }
+
+    private fun createBinaryExpression(operator: Token, leftExpression: Expression, rightExpression: Expression): Expression {
+        return when (operator.text) {
+            "*" -> Multiplication(leftExpression, rightExpression)
+            "/" -> Division(leftExpression, rightExpression)
+            "+" -> Addition(leftExpression, rightExpression)
+            "-" -> Subtraction(leftExpression, rightExpression)
+            "&&", "||" -> LogicalExpression(leftExpression, rightExpression, LogicalOperator.fromString(operator.text))
+            else -> ConditionalExpression(leftExpression, rightExpression, CompareSign.fromString(operator.text))
+        }
+    }
+
+    private fun parsePrimaryExpression(scope: Scope): Expression {
+        val token = this.peek()
+
+        return when {
+            token.type in literalParsers -> {
+                this.advance()
+
+                literalParsers.getValue(token.type)(token.text)
+            }
+            token.isSymbol("(") -> {
+                this.advance()
+
+                val expression = this.parseExpression(scope)
+
+                this.expectSymbol(")")
+
+                expression
+            }
+            token.isSymbol("!") -> {
+                this.advance()
+
+                NegationExpression(this.parseExpression(scope, negationPrecedence))
+            }
+            token.isKeyword("super") -> {
+                this.advance()
+
+                SuperCall(this.parseFunctionArguments(scope))
+            }
+            token.isKeyword("new") -> {
+                this.advance()
+
+                val className = this.parseQualifiedName()
+                val arguments = this.parseFunctionArguments(scope)
+
+                ConstructorCall(scope.getConstructorCallSignature(className, arguments), className, arguments)
+            }
+            token.type == TokenType.IDENTIFIER && this.peek(1).isSymbol("(") -> this.parseFunctionCall(scope, null)
+            token.type == TokenType.IDENTIFIER -> this.parseVariableReference(scope)
+            else -> this.fail(token, "no viable alternative at input '%s'".format(token.text))
+        }
+    }
+
+    private fun parseFunctionCall(scope: Scope, owner: Expression?): Expression {
+        val functionName = this.expect(TokenType.IDENTIFIER).text
+
+        if (functionName == scope.getClassName()) {
+            throw FunctionNameEqualClassException(functionName)
+        }
+
+        val arguments = this.parseFunctionArguments(scope)
+
+        if (owner != null) {
+            val functionSignature = scope.getFunctionCallSignature(owner.getType(), functionName, arguments)
+
+            return FunctionCall(functionSignature, arguments, owner)
+        }
+
+        val thisType = TypePool.getClassType(scope.getClassName())
+        val functionSignature = scope.getFunctionCallSignature(functionName, arguments)
+        val thisVariable = LocalVariable("this", thisType)
+
+        return FunctionCall(functionSignature, arguments, LocalVariableReference(thisVariable))
+    }
+
+    private fun parseFunctionArguments(scope: Scope): List<FunctionArgument> {
+        this.expectSymbol("(")
+
+        val arguments = ArrayList<FunctionArgument>()
+
+        while (!this.peek().isSymbol(")")) {
+            if (arguments.isNotEmpty()) {
+                this.expectSymbol(",")
+            }
+
+            val isNamedArgument = this.peek().type == TokenType.IDENTIFIER && this.peek(1).isSymbol("->")
+
+            if (arguments.isNotEmpty() && isNamedArgument != (arguments[0].parameterName != null)) {
+                this.fail(this.peek(), "named and unnamed arguments cannot be mixed")
+            }
+
+            arguments.add(if (isNamedArgument) this.parseNamedFunctionArgument(scope) else FunctionArgument(this.parseExpression(scope), null))
+        }
+
+        this.advance()
+
+        return arguments
+    }
+
+    private fun parseNamedFunctionArgument(scope: Scope): FunctionArgument {
+        val name = this.advance().text
+
+        this.expectSymbol("->")
+
+        return FunctionArgument(this.parseExpression(scope), name)
+    }
+
+    private fun parseVariableReference(scope: Scope): Expression {
+        val variableName = this.advance().text
+
+        return if (scope.fieldExists(variableName)) {
+            FieldReference(scope.getField(variableName))
+        } else {
+            LocalVariableReference(scope.getLocalVariable(variableName))
+        }
+    }
+
+    private fun peek(): Token {
+        return this.tokens[this.position]
+    }
+
+    private fun peek(offset: Int): Token {
+        return this.tokens[minOf(this.position + offset, this.tokens.size - 1)]
+    }
+
+    private fun advance(): Token {
+        val token = this.tokens[this.position]
+
+        if (token.type != TokenType.EOF) {
+            this.position++
+        }
+
+        return token
+    }
+
+    private fun expect(type: TokenType): Token {
+        val token = this.peek()
+
+        if (token.type != type) {
+            this.fail(token, "expecting %s at input '%s'".format(type, token.text))
+        }
+
+        return this.advance()
+    }
+
+    private fun expectKeyword(keyword: String) {
+        if (!this.peek().isKeyword(keyword)) {
+            this.fail(this.peek(), "expecting '%s' at input '%s'".format(keyword, this.peek().text))
+        }
+
+        this.advance()
+    }
+
+    private fun expectSymbol(symbol: String) {
+        if (!this.peek().isSymbol(symbol)) {
+            this.fail(this.peek(), "expecting '%s' at input '%s'".format(symbol, this.peek().text))
+        }
+
+        this.advance()
+    }
+
+    private fun fail(token: Token, details: String): Nothing {
+        throw SyntaxErrorException(token.line, token.charPositionInLine, details)
+    }
+}
\ No newline at end of file
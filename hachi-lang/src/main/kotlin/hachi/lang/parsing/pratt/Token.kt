@@ -0,0 +1,15 @@
+package hachi.lang.parsing.pratt
+
+class Token(val type: TokenType, val text: String, val line: Int, val charPositionInLine: Int) {
+    fun isKeyword(keyword: String): Boolean {
+        return this.type == TokenType.KEYWORD && this.text == keyword
+    }
+
+    fun isSymbol(symbol: String): Boolean {
+        return this.type == TokenType.SYMBOL && this.text == symbol
+    }
+
+    override fun toString(): String {
+        return this.text
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package hachi.lang.parsing.pratt
+
+enum class TokenType {
+    IDENTIFIER,
+    KEYWORD,
+    INTEGER,
+    LONG,
+    FLOAT,
+    DOUBLE,
+    STRING,
+    BOOLEAN,
+    SYMBOL,
+    EOF
+}
\ No newline at end of file
@@ -11,19 +11,13 @@ import hachi.lang.parsing.visitor.statement.StatementVisitor
 open class BaseFunctionVisitor<T>(scope: Scope) : HachiBaseVisitor<T>() {
     protected val scope = Scope(scope)
 
-    protected fun addFunctionParametersAsLocalVariables(functionSignature: FunctionSignature) {
-        functionSignature.parameters.forEach { this.scope.addLocalVariable(LocalVariable(it.name, it.getType())) }
-    }
-
-    protected fun getFunctionBody(functionContext: HachiParser.FunctionContext): Statement {
-        val statementVisitor = StatementVisitor(this.scope)
+    fun getFunctionBody(functionBodyContext: HachiParser.FunctionBodyContext, functionSignature: FunctionSignature): Statement {
+        this.scope.addLocalVariable(LocalVariable("this", this.scope.getClassType()))
 
-        return functionContext.functionBody().accept(statementVisitor)
-    }
+        functionSignature.parameters.forEach { this.scope.addLocalVariable(LocalVariable(it.name, it.getType())) }
 
-    protected fun getFunctionBody(constructorContext: HachiParser.ConstructorContext): Statement {
         val statementVisitor = StatementVisitor(this.scope)
 
-        return constructorContext.functionBody().accept(statementVisitor)
+        return functionBodyContext.accept(statementVisitor)
     }
 }
\ No newline at end of file
@@ -4,15 +4,20 @@ import hachi.antlr.HachiBaseVisitor
 import hachi.antlr.HachiParser
 import hachi.lang.domain.ClassDeclaration
 import hachi.lang.domain.Constructor
+import hachi.lang.domain.Function
 import hachi.lang.domain.MetaData
 import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.domain.node.statement.Statement
 import hachi.lang.domain.scope.FunctionSignature
 import hachi.lang.domain.scope.Scope
 import hachi.lang.domain.type.BuiltInType
+import hachi.lang.parsing.BodyAnalysis
 
-class ClassVisitor : HachiBaseVisitor<ClassDeclaration>() {
+class ClassVisitor(private val bodyAnalysis: BodyAnalysis, private val lowerBody: (Statement) -> Statement = { it }) : HachiBaseVisitor<ClassDeclaration>() {
     lateinit var scope: Scope
 
+    constructor() : this(BodyAnalysis.EAGER)
+
     override fun visitClassDeclaration(classDeclarationContext: HachiParser.ClassDeclarationContext): ClassDeclaration {
         val metaData = MetaData(classDeclarationContext.className().text, "java.lang.Object")
 
@@ -34,23 +39,30 @@ class ClassVisitor : HachiBaseVisitor<ClassDeclaration>() {
         val constructorContexts = classDeclarationContext.classBody().constructor()
         val functionContexts = classDeclarationContext.classBody().function()
 
-        constructorContexts.map { it.constructorDeclaration().accept(functionSignatureVisitor) }
-                .forEach { this.scope.addFunctionSignature(it) }
+        val constructorSignatures = constructorContexts.map { it.constructorDeclaration().accept(functionSignatureVisitor) }
+        val functionSignatures = functionContexts.map { it.functionDeclaration().accept(functionSignatureVisitor) }
 
-        functionContexts.map { it.functionDeclaration().accept(functionSignatureVisitor) }
-                .forEach { this.scope.addFunctionSignature(it) }
+        constructorSignatures.forEach { this.scope.addFunctionSignature(it) }
+        functionSignatures.forEach { this.scope.addFunctionSignature(it) }
 
-        val constructors = constructorContexts.map { it.accept(ConstructorVisitor(this.scope)) }
-                .toMutableList()
         val defaultConstructorExists = this.scope.functionSignatureExists(className, emptyList())
 
         if (!defaultConstructorExists) {
             this.addDefaultConstructorSignatureToScope(className)
+        }
 
+        val bodyAnalyzers = constructorContexts.zip(constructorSignatures) { context, signature -> { this.analyzeBody(ConstructorVisitor(this.scope), context.functionBody(), signature) } } +
+                functionContexts.zip(functionSignatures) { context, signature -> { this.analyzeBody(FunctionVisitor(this.scope), context.functionBody(), signature) } }
+        val functionBodies = this.bodyAnalysis.analyze(bodyAnalyzers)
+
+        val constructors = constructorSignatures.zip(functionBodies) { signature, body -> Constructor(signature, body) }
+                .toMutableList<Function>()
+
+        if (!defaultConstructorExists) {
             constructors.add(this.getDefaultConstructor())
         }
 
-        val methods = functionContexts.map { it.accept(FunctionVisitor(this.scope)) }
+        val methods = functionSignatures.zip(functionBodies.drop(constructorSignatures.size)) { signature, body -> Function(signature, body) }
                 .toMutableList()
 
         methods.addAll(constructors)
@@ -58,10 +70,21 @@ class ClassVisitor : HachiBaseVisitor<ClassDeclaration>() {
         return ClassDeclaration(className, fields, methods)
     }
 
+    private fun analyzeBody(functionVisitor: BaseFunctionVisitor<*>, functionBodyContext: HachiParser.FunctionBodyContext, functionSignature: FunctionSignature): Statement {
+        val functionBody = functionVisitor.getFunctionBody(functionBodyContext, functionSignature)
+
+        if (this.bodyAnalysis == BodyAnalysis.LAZY) {
+            // Nothing visits the body again, so its parse subtree can be collected before the other bodies are analyzed
+            functionBodyContext.children = null
+        }
+
+        return this.lowerBody(functionBody)
+    }
+
     private fun getDefaultConstructor(): Constructor {
         val functionSignature = this.scope.getFunctionSignatureWithoutParameters(this.scope.getClassName())
 
-        return Constructor(functionSignature, BlockStatement(scope))
+        return Constructor(functionSignature, this.lowerBody(BlockStatement(this.scope)))
     }
 
     private fun addDefaultConstructorSignatureToScope(name: String) {
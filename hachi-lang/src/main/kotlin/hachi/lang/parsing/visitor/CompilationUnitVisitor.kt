@@ -3,10 +3,14 @@ package hachi.lang.parsing.visitor
 import hachi.antlr.HachiBaseVisitor
 import hachi.antlr.HachiParser
 import hachi.lang.domain.CompilationUnit
+import hachi.lang.domain.node.statement.Statement
+import hachi.lang.parsing.BodyAnalysis
+
+class CompilationUnitVisitor(private val bodyAnalysis: BodyAnalysis, private val lowerBody: (Statement) -> Statement = { it }) : HachiBaseVisitor<CompilationUnit>() {
+    constructor() : this(BodyAnalysis.EAGER)
 
-class CompilationUnitVisitor : HachiBaseVisitor<CompilationUnit>() {
     override fun visitCompilationUnit(compilationUnitContext: HachiParser.CompilationUnitContext): CompilationUnit {
-        val classVisitor = ClassVisitor()
+        val classVisitor = ClassVisitor(this.bodyAnalysis, this.lowerBody)
         val classDeclarationContext = compilationUnitContext.classDeclaration()
         val classDeclaration = classDeclarationContext.accept(classVisitor)
 
@@ -9,39 +9,27 @@ import hachi.lang.domain.node.expression.arithmetic.Multiplication
 import hachi.lang.domain.node.expression.arithmetic.Subtraction
 
 class ArithmeticExpressionVisitor(private val expressionVisitor: ExpressionVisitor) : HachiBaseVisitor<ArithmeticExpression>() {
-    override fun visitAdd(addContext: HachiParser.AddContext): ArithmeticExpression {
-        val leftExpressionContext = addContext.expression(0)
-        val rightExpressionContext = addContext.expression(1)
+    override fun visitMultiplicativeExpression(multiplicativeExpressionContext: HachiParser.MultiplicativeExpressionContext): ArithmeticExpression {
+        val leftExpressionContext = multiplicativeExpressionContext.expression(0)
+        val rightExpressionContext = multiplicativeExpressionContext.expression(1)
         val leftExpression = leftExpressionContext.accept(this.expressionVisitor)
         val rightExpression = rightExpressionContext.accept(this.expressionVisitor)
 
-        return Addition(leftExpression, rightExpression)
+        return when (multiplicativeExpressionContext.operator.text) {
+            "*" -> Multiplication(leftExpression, rightExpression)
+            else -> Division(leftExpression, rightExpression)
+        }
     }
 
-    override fun visitMultiply(multiplyContext: HachiParser.MultiplyContext): ArithmeticExpression {
-        val leftExpressionContext = multiplyContext.expression(0)
-        val rightExpressionContext = multiplyContext.expression(1)
+    override fun visitAdditiveExpression(additiveExpressionContext: HachiParser.AdditiveExpressionContext): ArithmeticExpression {
+        val leftExpressionContext = additiveExpressionContext.expression(0)
+        val rightExpressionContext = additiveExpressionContext.expression(1)
         val leftExpression = leftExpressionContext.accept(this.expressionVisitor)
         val rightExpression = rightExpressionContext.accept(this.expressionVisitor)
 
-        return Multiplication(leftExpression, rightExpression)
-    }
-
-    override fun visitSubtract(subtractContext: HachiParser.SubtractContext): ArithmeticExpression {
-        val leftExpressionContext = subtractContext.expression(0)
-        val rightExpressionContext = subtractContext.expression(1)
-        val leftExpression = leftExpressionContext.accept(this.expressionVisitor)
-        val rightExpression = rightExpressionContext.accept(this.expressionVisitor)
-
-        return Subtraction(leftExpression, rightExpression)
-    }
-
-    override fun visitDivide(divideContext: HachiParser.DivideContext): ArithmeticExpression {
-        val leftExpressionContext = divideContext.expression(0)
-        val rightExpressionContext = divideContext.expression(1)
-        val leftExpression = leftExpressionContext.accept(this.expressionVisitor)
-        val rightExpression = rightExpressionContext.accept(this.expressionVisitor)
-
-        return Division(leftExpression, rightExpression)
+        return when (additiveExpressionContext.operator.text) {
+            "+" -> Addition(leftExpression, rightExpression)
+            else -> Subtraction(leftExpression, rightExpression)
+        }
     }
 }
\ No newline at end of file
@@ -4,8 +4,7 @@ import hachi.antlr.HachiBaseVisitor
 import hachi.antlr.HachiParser
 import hachi.lang.domain.CompareSign
 import hachi.lang.domain.node.expression.ConditionalExpression
-import hachi.lang.domain.node.expression.Value
-import hachi.lang.domain.type.BuiltInType
+import hachi.lang.domain.node.expression.IntValue
 
 class ConditionalExpressionVisitor(private val expressionVisitor: ExpressionVisitor) : HachiBaseVisitor<ConditionalExpression>() {
     override fun visitConditionalExpression(conditionalExpressionContext: HachiParser.ConditionalExpressionContext): ConditionalExpression {
@@ -13,7 +12,7 @@ class ConditionalExpressionVisitor(private val expressionVisitor: ExpressionVisi
         val rightExpressionContext = conditionalExpressionContext.expression(1)
         val leftExpression = leftExpressionContext.accept(this.expressionVisitor)
         val rightExpression = when (rightExpressionContext) {
-            null -> Value("0", BuiltInType.INT)
+            null -> IntValue(0)
             else -> rightExpressionContext.accept(this.expressionVisitor)
         }
         val compareSign = when (conditionalExpressionContext.cmp) {
@@ -17,6 +17,8 @@ class ExpressionVisitor(private val scope: Scope) : HachiBaseVisitor<Expression>
 
     private val conditionalExpressionVisitor = ConditionalExpressionVisitor(this)
 
+    private val logicalExpressionVisitor = LogicalExpressionVisitor(this)
+
     override fun visitVariableReference(variableReferenceContext: HachiParser.VariableReferenceContext): Expression {
         return this.variableReferenceExpressionVisitor.visitVariableReference(variableReferenceContext)
     }
@@ -37,23 +39,27 @@ class ExpressionVisitor(private val scope: Scope) : HachiBaseVisitor<Expression>
         return this.callExpressionVisitor.visitSupercall(supercallContext)
     }
 
-    override fun visitAdd(addContext: HachiParser.AddContext): Expression {
-        return this.arithmeticExpressionVisitor.visitAdd(addContext)
-    }
-
-    override fun visitMultiply(multiplyContext: HachiParser.MultiplyContext): Expression {
-        return this.arithmeticExpressionVisitor.visitMultiply(multiplyContext)
+    override fun visitParenthesizedExpression(parenthesizedExpressionContext: HachiParser.ParenthesizedExpressionContext): Expression {
+        return parenthesizedExpressionContext.expression().accept(this)
     }
 
-    override fun visitSubtract(subtractContext: HachiParser.SubtractContext): Expression {
-        return this.arithmeticExpressionVisitor.visitSubtract(subtractContext)
+    override fun visitMultiplicativeExpression(multiplicativeExpressionContext: HachiParser.MultiplicativeExpressionContext): Expression {
+        return this.arithmeticExpressionVisitor.visitMultiplicativeExpression(multiplicativeExpressionContext)
     }
 
-    override fun visitDivide(divideContext: HachiParser.DivideContext): Expression {
-        return this.arithmeticExpressionVisitor.visitDivide(divideContext)
+    override fun visitAdditiveExpression(additiveExpressionContext: HachiParser.AdditiveExpressionContext): Expression {
+        return this.arithmeticExpressionVisitor.visitAdditiveExpression(additiveExpressionContext)
     }
 
     override fun visitConditionalExpression(conditionalExpressionContext: HachiParser.ConditionalExpressionContext): Expression {
         return this.conditionalExpressionVisitor.visitConditionalExpression(conditionalExpressionContext)
     }
+
+    override fun visitLogicalExpression(logicalExpressionContext: HachiParser.LogicalExpressionContext): Expression {
+        return this.logicalExpressionVisitor.visitLogicalExpression(logicalExpressionContext)
+    }
+
+    override fun visitNegationExpression(negationExpressionContext: HachiParser.NegationExpressionContext): Expression {
+        return this.logicalExpressionVisitor.visitNegationExpression(negationExpressionContext)
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package hachi.lang.parsing.visitor.expression
+
+import hachi.antlr.HachiBaseVisitor
+import hachi.antlr.HachiParser
+import hachi.lang.domain.LogicalOperator
+import hachi.lang.domain.node.expression.Expression
+import hachi.lang.domain.node.expression.LogicalExpression
+import hachi.lang.domain.node.expression.NegationExpression
+
+class LogicalExpressionVisitor(private val expressionVisitor: ExpressionVisitor) : HachiBaseVisitor<Expression>() {
+    override fun visitLogicalExpression(logicalExpressionContext: HachiParser.LogicalExpressionContext): Expression {
+        val leftExpression = logicalExpressionContext.expression(0).accept(this.expressionVisitor)
+        val rightExpression = logicalExpressionContext.expression(1).accept(this.expressionVisitor)
+
+        return LogicalExpression(leftExpression, rightExpression, LogicalOperator.fromString(logicalExpressionContext.operator.text))
+    }
+
+    override fun visitNegationExpression(negationExpressionContext: HachiParser.NegationExpressionContext): Expression {
+        return NegationExpression(negationExpressionContext.expression().accept(this.expressionVisitor))
+    }
+}
\ No newline at end of file
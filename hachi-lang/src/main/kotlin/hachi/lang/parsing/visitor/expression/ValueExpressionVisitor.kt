@@ -3,13 +3,19 @@ package hachi.lang.parsing.visitor.expression
 import hachi.antlr.HachiBaseVisitor
 import hachi.antlr.HachiParser
 import hachi.lang.domain.node.expression.Value
-import hachi.lang.util.TypeResolver
+import hachi.lang.util.ValueFactory
 
 class ValueExpressionVisitor : HachiBaseVisitor<Value>() {
     override fun visitValue(valueContext: HachiParser.ValueContext): Value {
         val value = valueContext.text
-        val type = TypeResolver.getFromValue(value)
 
-        return Value(value, type)
+        return when (valueContext.start.type) {
+            HachiParser.INTEGER -> ValueFactory.fromInteger(value)
+            HachiParser.LONG -> ValueFactory.fromLong(value)
+            HachiParser.FLOAT -> ValueFactory.fromFloat(value)
+            HachiParser.DOUBLE -> ValueFactory.fromDouble(value)
+            HachiParser.BOOLEAN -> ValueFactory.fromBoolean(value)
+            else -> ValueFactory.fromString(value)
+        }
     }
 }
\ No newline at end of file
@@ -10,7 +10,7 @@ import hachi.lang.domain.node.expression.LocalVariableReference
 import hachi.lang.domain.node.expression.SuperCall
 import hachi.lang.domain.scope.LocalVariable
 import hachi.lang.domain.scope.Scope
-import hachi.lang.domain.type.ClassType
+import hachi.lang.domain.type.TypePool
 import hachi.lang.exception.FunctionNameEqualClassException
 import hachi.lang.parsing.visitor.expression.ExpressionVisitor
 
@@ -31,7 +31,7 @@ class CallExpressionVisitor(private val expressionVisitor: ExpressionVisitor, pr
             return FunctionCall(functionSignature, arguments, owner)
         }
 
-        val thisType = ClassType(this.scope.getClassName())
+        val thisType = TypePool.getClassType(this.scope.getClassName())
         val functionSignature = this.scope.getFunctionCallSignature(functionName, arguments)
         val thisVariable = LocalVariable("this", thisType)
 
@@ -41,8 +41,9 @@ class CallExpressionVisitor(private val expressionVisitor: ExpressionVisitor, pr
     override fun visitConstructorCall(constructorCallContext: HachiParser.ConstructorCallContext): Call {
         val className = constructorCallContext.className().text
         val arguments = this.getArgumentsForCall(constructorCallContext.functionArgumentList())
+        val functionSignature = this.scope.getConstructorCallSignature(className, arguments)
 
-        return ConstructorCall(className, arguments)
+        return ConstructorCall(functionSignature, className, arguments)
     }
 
     override fun visitSupercall(supercallContext: HachiParser.SupercallContext): Call {
@@ -3,14 +3,20 @@ package hachi.lang.parsing.visitor.statement
 import hachi.antlr.HachiBaseVisitor
 import hachi.antlr.HachiParser
 import hachi.lang.domain.node.statement.AssignmentStatement
+import hachi.lang.domain.scope.Scope
+import hachi.lang.exception.LoopIteratorAssignmentException
 import hachi.lang.parsing.visitor.expression.ExpressionVisitor
 
-class AssignmentStatementVisitor(private val expressionVisitor: ExpressionVisitor) : HachiBaseVisitor<AssignmentStatement>() {
+class AssignmentStatementVisitor(private val expressionVisitor: ExpressionVisitor, private val scope: Scope) : HachiBaseVisitor<AssignmentStatement>() {
     override fun visitAssignmentStatement(assignmentStatementContext: HachiParser.AssignmentStatementContext): AssignmentStatement {
         val expressionContext = assignmentStatementContext.expression()
         val expression = expressionContext.accept(this.expressionVisitor)
         val variableName = assignmentStatementContext.name().text
 
+        if (this.scope.isLoopIterator(variableName)) {
+            throw LoopIteratorAssignmentException(variableName)
+        }
+
         return AssignmentStatement(variableName, expression)
     }
 }
\ No newline at end of file
@@ -2,11 +2,13 @@ package hachi.lang.parsing.visitor.statement
 
 import hachi.antlr.HachiBaseVisitor
 import hachi.antlr.HachiParser
+import hachi.lang.domain.node.expression.IntValue
 import hachi.lang.domain.node.statement.AssignmentStatement
 import hachi.lang.domain.node.statement.RangedForStatement
 import hachi.lang.domain.node.statement.VariableDeclarationStatement
 import hachi.lang.domain.scope.LocalVariable
 import hachi.lang.domain.scope.Scope
+import hachi.lang.exception.LoopIteratorAssignmentException
 import hachi.lang.parsing.visitor.expression.ExpressionVisitor
 
 class ForStatementVisitor(private val scope: Scope) : HachiBaseVisitor<RangedForStatement>() {
@@ -17,22 +19,28 @@ class ForStatementVisitor(private val scope: Scope) : HachiBaseVisitor<RangedFor
         val forConditionContext = forStatementContext.forCondition()
         val startExpression = forConditionContext.startExpression.accept(this.expressionVisitor)
         val endExpression = forConditionContext.endExpression.accept(this.expressionVisitor)
+        val stepExpression = forConditionContext.stepExpression?.accept(this.expressionVisitor) ?: IntValue(1)
         val statementVisitor = StatementVisitor(newScope)
         val iterator = forConditionContext.iterator
         val variableName = iterator.text
 
-        return if (newScope.localVariableExists(variableName)) {
-            val iteratorVariable = AssignmentStatement(variableName, startExpression)
-            val statement = forStatementContext.statement().accept(statementVisitor)
+        if (newScope.isLoopIterator(variableName)) {
+            throw LoopIteratorAssignmentException(variableName)
+        }
 
-            RangedForStatement(iteratorVariable, startExpression, endExpression, statement, variableName, newScope)
+        val iteratorVariable = if (newScope.localVariableExists(variableName)) {
+            AssignmentStatement(variableName, startExpression)
         } else {
             newScope.addLocalVariable(LocalVariable(variableName, startExpression.getType()))
 
-            val iteratorVariable = VariableDeclarationStatement(variableName, startExpression)
-            val statement = forStatementContext.statement().accept(statementVisitor)
-
-            RangedForStatement(iteratorVariable, startExpression, endExpression, statement, variableName, newScope)
+            VariableDeclarationStatement(variableName, startExpression)
         }
+
+        newScope.addLoopIterator(variableName)
+
+        val loopVariableSlot = RangedForStatement.addLoopVariables(newScope, startExpression, endExpression, stepExpression)
+        val statement = forStatementContext.statement().accept(statementVisitor)
+
+        return RangedForStatement(iteratorVariable, startExpression, endExpression, stepExpression, statement, variableName, newScope, loopVariableSlot)
     }
 }
\ No newline at end of file
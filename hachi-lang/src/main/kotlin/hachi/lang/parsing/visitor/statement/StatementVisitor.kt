@@ -13,7 +13,7 @@ class StatementVisitor(private val scope: Scope) : HachiBaseVisitor<Statement>()
 
     private val variableDeclarationStatementVisitor = VariableDeclarationStatementVisitor(this.expressionVisitor, this.scope)
 
-    private val assignmentStatementVisitor = AssignmentStatementVisitor(this.expressionVisitor)
+    private val assignmentStatementVisitor = AssignmentStatementVisitor(this.expressionVisitor, this.scope)
 
     private val returnStatementVisitor = ReturnStatementVisitor(this.expressionVisitor)
 
@@ -71,26 +71,30 @@ class StatementVisitor(private val scope: Scope) : HachiBaseVisitor<Statement>()
         return this.expressionVisitor.visitSupercall(supercallContext)
     }
 
-    override fun visitAdd(addContext: HachiParser.AddContext): Statement {
-        return this.expressionVisitor.visitAdd(addContext)
+    override fun visitParenthesizedExpression(parenthesizedExpressionContext: HachiParser.ParenthesizedExpressionContext): Statement {
+        return this.expressionVisitor.visitParenthesizedExpression(parenthesizedExpressionContext)
     }
 
-    override fun visitSubtract(subtractContext: HachiParser.SubtractContext): Statement {
-        return this.expressionVisitor.visitSubtract(subtractContext)
+    override fun visitMultiplicativeExpression(multiplicativeExpressionContext: HachiParser.MultiplicativeExpressionContext): Statement {
+        return this.expressionVisitor.visitMultiplicativeExpression(multiplicativeExpressionContext)
     }
 
-    override fun visitMultiply(multiplyContext: HachiParser.MultiplyContext): Statement {
-        return this.expressionVisitor.visitMultiply(multiplyContext)
-    }
-
-    override fun visitDivide(divideContext: HachiParser.DivideContext): Statement {
-        return this.expressionVisitor.visitDivide(divideContext)
+    override fun visitAdditiveExpression(additiveExpressionContext: HachiParser.AdditiveExpressionContext): Statement {
+        return this.expressionVisitor.visitAdditiveExpression(additiveExpressionContext)
     }
 
     override fun visitConditionalExpression(conditionalExpressionContext: HachiParser.ConditionalExpressionContext): Statement {
         return this.expressionVisitor.visitConditionalExpression(conditionalExpressionContext)
     }
 
+    override fun visitLogicalExpression(logicalExpressionContext: HachiParser.LogicalExpressionContext): Statement {
+        return this.expressionVisitor.visitLogicalExpression(logicalExpressionContext)
+    }
+
+    override fun visitNegationExpression(negationExpressionContext: HachiParser.NegationExpressionContext): Statement {
+        return this.expressionVisitor.visitNegationExpression(negationExpressionContext)
+    }
+
     override fun visitForStatement(forStatementContext: HachiParser.ForStatementContext): Statement {
         return this.forStatementVisitor.visitForStatement(forStatementContext)
     }
@@ -11,10 +11,10 @@ object DescriptorFactory {
     }
 
     fun getMethodDescriptor(functionSignature: FunctionSignature): String {
-        return this.getMethodDescriptor(functionSignature.parameters, functionSignature.returnType)
+        return functionSignature.descriptor
     }
 
-    private fun getMethodDescriptor(arguments: Collection<FunctionParameter>, returnType: Type): String {
+    fun getMethodDescriptor(arguments: Collection<FunctionParameter>, returnType: Type): String {
         val argumentDescriptors = arguments.map { it.getType().getDescriptor() }
                 .joinToString("", "(", ")")
 
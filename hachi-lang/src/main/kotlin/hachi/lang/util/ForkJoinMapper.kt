@@ -0,0 +1,25 @@
+package hachi.lang.util
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ForkJoinPool
+import java.util.function.Supplier
+
+object ForkJoinMapper {
+    /**
+     * Transforms the items concurrently on the common fork-join pool and returns the results in the order of the
+     * items. When several transformations fail, the exception of the first failing item is thrown.
+     */
+    fun <T, R> map(items: List<T>, transform: (T) -> R): List<R> {
+        return items.map { CompletableFuture.supplyAsync(Supplier { transform(it) }, ForkJoinPool.commonPool()) }
+                .map { this.join(it) }
+    }
+
+    private fun <R> join(future: CompletableFuture<R>): R {
+        try {
+            return future.join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+    }
+}
\ No newline at end of file
@@ -1,26 +1,28 @@
 package hachi.lang.util
 
+import hachi.lang.classpath.MethodSymbol
 import hachi.lang.domain.node.expression.FunctionParameter
 import hachi.lang.domain.scope.FunctionSignature
 import hachi.lang.domain.type.BuiltInType
-import java.lang.reflect.Constructor
-import java.lang.reflect.Method
+import jdk.internal.org.objectweb.asm.Type
 
 object FunctionSignatureFactory {
-    fun fromMethod(method: Method): FunctionSignature {
-        val name = method.name
-        val parameters = method.parameters
-                .map { FunctionParameter(it.name, TypeResolver.getFromTypeName(it.type.canonicalName), null) }
-        val returnType = method.returnType
+    fun fromMethod(method: MethodSymbol): FunctionSignature {
+        val parameters = this.getParameters(method)
+        val returnType = Type.getReturnType(method.descriptor)
 
-        return FunctionSignature(name, parameters, TypeResolver.getFromTypeName(returnType.canonicalName))
+        return FunctionSignature(method.name, parameters, TypeResolver.getFromTypeName(returnType.className))
     }
 
-    fun fromConstructor(constructor: Constructor<*>): FunctionSignature {
-        val name = constructor.name
-        val parameters = constructor.parameters
-                .map { FunctionParameter(name, TypeResolver.getFromTypeName(it.type.canonicalName), null) }
+    fun fromConstructor(constructor: MethodSymbol): FunctionSignature {
+        val name = Type.getObjectType(constructor.owner).className
+        val parameters = this.getParameters(constructor)
 
         return FunctionSignature(name, parameters, BuiltInType.VOID)
     }
+
+    private fun getParameters(method: MethodSymbol): List<FunctionParameter> {
+        return Type.getArgumentTypes(method.descriptor)
+                .mapIndexed { index, type -> FunctionParameter("arg$index", TypeResolver.getFromTypeName(type.className), null) }
+    }
 }
\ No newline at end of file
@@ -12,6 +12,18 @@ object TypeChecker {
         return type == BuiltInType.BOOLEAN
     }
 
+    fun isIntLike(type: Type): Boolean {
+        return type == BuiltInType.INT || type == BuiltInType.CHAR || type == BuiltInType.BYTE || type == BuiltInType.SHORT
+    }
+
+    fun isNumeric(type: Type): Boolean {
+        return this.isIntLike(type) || this.isLong(type) || this.isFloat(type) || this.isDouble(type)
+    }
+
+    fun isLong(type: Type): Boolean {
+        return type == BuiltInType.LONG
+    }
+
     fun isFloat(type: Type): Boolean {
         return type == BuiltInType.FLOAT
     }
@@ -23,4 +35,8 @@ object TypeChecker {
     fun isString(type: Type): Boolean {
         return type == BuiltInType.STRING
     }
+
+    fun isPrimitive(type: Type): Boolean {
+        return type is BuiltInType && type.getTypeClass()?.isPrimitive == true
+    }
 }
\ No newline at end of file
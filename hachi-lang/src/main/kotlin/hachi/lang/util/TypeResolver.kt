@@ -2,8 +2,8 @@ package hachi.lang.util
 
 import hachi.antlr.HachiParser
 import hachi.lang.domain.type.BuiltInType
-import hachi.lang.domain.type.ClassType
 import hachi.lang.domain.type.Type
+import hachi.lang.domain.type.TypePool
 
 object TypeResolver {
     fun getFromTypeContext(typeContext: HachiParser.TypeContext?): Type {
@@ -14,46 +14,19 @@ object TypeResolver {
     }
 
     fun getFromTypeName(typeName: String): Type {
-        return when (typeName) {
-            "java.lang.String" -> BuiltInType.STRING
-            else -> this.getBuiltInType(typeName) ?: ClassType(typeName)
-        }
-    }
-
-    fun getFromValue(value: String): Type {
-        return if (value.isEmpty()) {
-            BuiltInType.VOID
-        } else if (value.toIntOrNull() != null) {
-            BuiltInType.INT
-        } else if (value.toFloatOrNull() != null) {
-            BuiltInType.FLOAT
-        } else if (value.toDoubleOrNull() != null) {
-            BuiltInType.DOUBLE
-        } else if (value.toBoolean()) {
-            BuiltInType.BOOLEAN
-        } else {
-            BuiltInType.STRING
-        }
+        return TypePool.getType(typeName)
     }
 
-    fun getValueFromString(value: String, type: Type): Any {
-        return if (TypeChecker.isInt(type)) {
-            value.toInt()
-        } else if (TypeChecker.isBoolean(type)) {
-            value.toBoolean()
-        } else if (TypeChecker.isFloat(type)) {
-            value.toFloat()
-        } else if (TypeChecker.isDouble(type)) {
-            value.toDouble()
-        } else if (TypeChecker.isString(type)) {
-            value.removePrefix("\"").removeSuffix("\"")
-        } else {
-            throw UnsupportedOperationException()
+    /**
+     * Gives the type both numeric operands of a binary operator are widened to, or null if one of them is not a number.
+     */
+    fun getPromotedType(leftType: Type, rightType: Type): Type? {
+        return when {
+            !TypeChecker.isNumeric(leftType) || !TypeChecker.isNumeric(rightType) -> null
+            TypeChecker.isDouble(leftType) || TypeChecker.isDouble(rightType) -> BuiltInType.DOUBLE
+            TypeChecker.isFloat(leftType) || TypeChecker.isFloat(rightType) -> BuiltInType.FLOAT
+            TypeChecker.isLong(leftType) || TypeChecker.isLong(rightType) -> BuiltInType.LONG
+            else -> BuiltInType.INT
         }
     }
-
-    private fun getBuiltInType(typeName: String): BuiltInType? {
-        return BuiltInType.values()
-                .firstOrNull { it.getName() == typeName }
-    }
 }
\ No newline at end of file
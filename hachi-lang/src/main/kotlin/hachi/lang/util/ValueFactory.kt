@@ -0,0 +1,39 @@
+package hachi.lang.util
+
+import hachi.lang.domain.node.expression.BooleanValue
+import hachi.lang.domain.node.expression.DoubleValue
+import hachi.lang.domain.node.expression.FloatValue
+import hachi.lang.domain.node.expression.IntValue
+import hachi.lang.domain.node.expression.LongValue
+import hachi.lang.domain.node.expression.StringValue
+import hachi.lang.exception.InvalidLiteralException
+
+object ValueFactory {
+    fun fromInteger(text: String): IntValue {
+        return IntValue(text.toIntOrNull() ?: throw InvalidLiteralException(text))
+    }
+
+    fun fromLong(text: String): LongValue {
+        return LongValue(text.dropLast(1).toLongOrNull() ?: throw InvalidLiteralException(text))
+    }
+
+    fun fromFloat(text: String): FloatValue {
+        val value = text.dropLast(1).toFloat()
+
+        return if (value.isInfinite()) throw InvalidLiteralException(text) else FloatValue(value)
+    }
+
+    fun fromDouble(text: String): DoubleValue {
+        val value = text.removeSuffix("d").removeSuffix("D").toDouble()
+
+        return if (value.isInfinite()) throw InvalidLiteralException(text) else DoubleValue(value)
+    }
+
+    fun fromString(text: String): StringValue {
+        return StringValue(text.removePrefix("\"").removeSuffix("\""))
+    }
+
+    fun fromBoolean(text: String): BooleanValue {
+        return BooleanValue(text.toBoolean())
+    }
+}
\ No newline at end of file
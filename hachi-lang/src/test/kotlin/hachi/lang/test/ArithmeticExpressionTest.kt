@@ -0,0 +1,20 @@
+package hachi.lang.test
+
+import org.junit.Assert
+import org.junit.Test
+
+class ArithmeticExpressionTest : BaseTest() {
+    @Test
+    fun shouldRespectOperatorPrecedenceAndAssociativity() {
+        val output = this.run("ArithmeticExpression.hc")
+
+        Assert.assertEquals(listOf("7", "9", "3", "2", "9"), output)
+    }
+
+    @Test
+    fun shouldPromoteMixedOperands() {
+        val output = this.run("NumericPromotion.hc")
+
+        Assert.assertEquals(listOf("3000000001", "-2999999999", "1.0", "3.5", "3.0", "4.4999997E9", "2.0"), output)
+    }
+}
\ No newline at end of file
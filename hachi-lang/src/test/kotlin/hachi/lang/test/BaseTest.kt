@@ -1,14 +1,32 @@
 package hachi.lang.test
 
+import hachi.lang.compiler.CompiledClass
 import hachi.lang.compiler.Compiler
+import hachi.lang.compiler.Runner
 import hachi.lang.domain.CompilationUnit
 import hachi.lang.parsing.Parser
-import java.io.BufferedReader
+import hachi.lang.test.generator.SourceGenerator
+import org.junit.Assert
+import java.io.ByteArrayOutputStream
 import java.io.File
-import java.io.InputStreamReader
+import java.io.PrintStream
 import java.nio.file.Paths
 
 abstract class BaseTest {
+    // Sources that every frontend, AST format, analysis mode and optimization level has to compile the same way
+    val sampleFileNames = listOf("ArithmeticExpression.hc", "ClassDeclaration.hc", "ConditionalExpression.hc", "Constructor.hc", "ForStatement.hc", "FunctionCall.hc", "IfStatement.hc", "Literal.hc", "LogicalExpression.hc", "NumericPromotion.hc", "RangedForStatement.hc", "VariableDeclaration.hc")
+
+    fun getSampleSources(vararg sources: String): List<String> {
+        return this.sampleFileNames.map { File(this.getResourceFileAbsolutePath(it)).readText() } + sources + listOf(
+                SourceGenerator(fields = 20, functions = 20, localsPerFunction = 5, callsPerFunction = 3).generate(),
+                SourceGenerator(nestingDepth = 10, additionChainLength = 50).generate()
+        )
+    }
+
+    fun assertSameBytecode(sources: List<String>, expected: (String) -> ByteArray, actual: (String) -> ByteArray) {
+        sources.forEach { Assert.assertArrayEquals(expected(it), actual(it)) }
+    }
+
     fun getCompilationUnit(fileName: String): CompilationUnit {
         return Parser().getCompilationUnit(this.getResourceFileAbsolutePath(fileName))
     }
@@ -18,22 +36,27 @@ abstract class BaseTest {
     }
 
     fun run(fileName: String): List<String> {
-        val file = File(this.getResourceFileAbsolutePath(fileName))
+        return this.run(fileName, Compiler())
+    }
 
-        Compiler().compile(file)
+    fun run(fileName: String, compiler: Compiler): List<String> {
+        val source = File(this.getResourceFileAbsolutePath(fileName)).readText()
 
-        val process = Runtime.getRuntime().exec(arrayOf("java", "-cp", file.parent, fileName.replace(".hc", "")))
-        val bufferedReader = BufferedReader(InputStreamReader(process.inputStream))
+        return this.run(compiler.compile(source))
+    }
 
-        var line = bufferedReader.readLine()
-        val output = mutableListOf<String>()
+    fun run(compiledClass: CompiledClass): List<String> {
+        val outputStream = ByteArrayOutputStream()
+        val standardOutput = System.out
 
-        while (line != null) {
-            output.add(line)
+        System.setOut(PrintStream(outputStream, true))
 
-            line = bufferedReader.readLine()
+        try {
+            Runner().run(compiledClass, emptyArray())
+        } finally {
+            System.setOut(standardOutput)
         }
 
-        return output
+        return outputStream.toString().reader().readLines()
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package hachi.lang.test
+
+import hachi.lang.compiler.BatchCompiler
+import hachi.lang.exception.FunctionSignatureNotFoundException
+import org.junit.Assert
+import org.junit.Test
+import java.io.File
+import java.nio.file.Files
+
+class BatchCompilerTest : BaseTest() {
+    private val fileNames = listOf("ClassDeclaration.hc", "Constructor.hc", "ForStatement.hc", "IfStatement.hc", "VariableDeclaration.hc")
+
+    @Test
+    fun shouldCompileAllFilesInDirectory() {
+        val directory = Files.createTempDirectory("hachi-batch").toFile()
+
+        try {
+            this.fileNames.forEach { File(this.getResourceFileAbsolutePath(it)).copyTo(File(directory, it)) }
+
+            val failures = BatchCompiler(2).compileDirectory(directory)
+            val classFileNames = directory.list { _, name -> name.endsWith(".class") }.sorted()
+
+            Assert.assertEquals(emptyList<String>(), failures.map { it.file.name })
+            Assert.assertEquals(this.fileNames.map { it.replace(".hc", ".class") }, classFileNames)
+        } finally {
+            directory.deleteRecursively()
+        }
+    }
+
+    @Test
+    fun shouldReportFailedFiles() {
+        val directory = Files.createTempDirectory("hachi-batch").toFile()
+
+        try {
+            File(this.getResourceFileAbsolutePath("ForStatement.hc")).copyTo(File(directory, "ForStatement.hc"))
+            File(directory, "Broken.hc").writeText("class Broken {\n    main(string[] args) {\n        missing()\n    }\n}")
+
+            val failures = BatchCompiler(2).compileDirectory(directory)
+
+            Assert.assertEquals(listOf("Broken.hc"), failures.map { it.file.name })
+            Assert.assertTrue(failures[0].cause is FunctionSignatureNotFoundException)
+            Assert.assertTrue(File(directory, "ForStatement.class").exists())
+        } finally {
+            directory.deleteRecursively()
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package hachi.lang.test
+
+import hachi.lang.compiler.Compiler
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import org.junit.Assert
+import org.junit.Test
+
+class BodyAnalysisTest : BaseTest() {
+    private val invalidBodies = "class Invalid {\n    first() {\n        print(a)\n    }\n\n    second() {\n        print(b)\n    }\n}"
+
+    @Test
+    fun shouldGenerateSameBytecodeAsEagerAnalysis() {
+        val sources = this.getSampleSources()
+
+        Frontend.values().forEach { frontend ->
+            listOf(BodyAnalysis.PARALLEL, BodyAnalysis.LAZY).forEach { bodyAnalysis ->
+                this.assertSameBytecode(sources,
+                        { Compiler(frontend, AstFormat.TREE, BodyAnalysis.EAGER).compile(it).bytecode },
+                        { Compiler(frontend, AstFormat.TREE, bodyAnalysis).compile(it).bytecode })
+            }
+        }
+    }
+
+    @Test
+    fun shouldReportFirstInvalidBodyWhenAnalyzingInParallel() {
+        Frontend.values().forEach { frontend ->
+            val eagerException = runCatching { Parser(frontend, AstFormat.TREE, BodyAnalysis.EAGER).getCompilationUnitFromSource(this.invalidBodies) }.exceptionOrNull()
+            val parallelException = runCatching { Parser(frontend, AstFormat.TREE, BodyAnalysis.PARALLEL).getCompilationUnitFromSource(this.invalidBodies) }.exceptionOrNull()
+
+            Assert.assertEquals(eagerException?.javaClass, parallelException?.javaClass)
+            Assert.assertEquals(eagerException?.message, parallelException?.message)
+        }
+    }
+
+    @Test
+    fun shouldDeferAnalysisUntilBodyIsUsed() {
+        Frontend.values().forEach { frontend ->
+            AstFormat.values().forEach { astFormat ->
+                val compilationUnit = Parser(frontend, astFormat, BodyAnalysis.LAZY).getCompilationUnitFromSource(this.invalidBodies)
+                val function = compilationUnit.classDeclaration.methods.first { it.getName() == "second" }
+                val exception = runCatching { function.functionBody }.exceptionOrNull()
+
+                Assert.assertEquals("No local variable found for name b in scope Invalid", exception?.message)
+            }
+        }
+    }
+}
\ No newline at end of file
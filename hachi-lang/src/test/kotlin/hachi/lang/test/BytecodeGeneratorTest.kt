@@ -0,0 +1,96 @@
+package hachi.lang.test
+
+import hachi.lang.bytecode.generator.BytecodeGenerator
+import hachi.lang.bytecode.generator.FrameComputation
+import hachi.lang.bytecode.generator.FrameComputingMethodVisitor
+import hachi.lang.bytecode.generator.MethodGeneration
+import hachi.lang.compiler.CompiledClass
+import hachi.lang.compiler.Compiler
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import jdk.internal.org.objectweb.asm.Handle
+import jdk.internal.org.objectweb.asm.Label
+import jdk.internal.org.objectweb.asm.Opcodes
+import jdk.internal.org.objectweb.asm.tree.MethodNode
+import org.junit.Assert
+import org.junit.Test
+
+class BytecodeGeneratorTest : BaseTest() {
+    @Test
+    fun shouldGenerateSameBytecodeInParallel() {
+        val sources = this.getSampleSources()
+
+        AstFormat.values().forEach { astFormat ->
+            this.assertSameBytecode(sources,
+                    { Compiler(Frontend.ANTLR, astFormat).compile(it).bytecode },
+                    { Compiler(Frontend.ANTLR, astFormat, methodGeneration = MethodGeneration.PARALLEL).compile(it).bytecode })
+        }
+    }
+
+    @Test
+    fun shouldEmitFramesThatPassVerification() {
+        val source = """
+            class Frames {
+                string label
+
+                constructor(boolean flag) {
+                    if (flag) label = "yes" else label = "no"
+                }
+
+                int sign(int value) {
+                    if (value > 0) {
+                        return 1
+                    } else {
+                        return -1
+                    }
+                }
+
+                string getLabel() {
+                    return label
+                }
+
+                main(string[] args) {
+                    {
+                        var first = "stale"
+                        var second = "stale"
+                    }
+                    for i from 1 to 3 {
+                        var square = i * i
+                        print(square > 3)
+                    }
+                    var total = 0L
+                    for j from 3 to 1 total = total + 2L
+                    print(total)
+                    var frames = new Frames(1 < 2)
+                    print(frames.sign(-5))
+                    print(frames.getLabel())
+                    print(new Frames(1 > 2).getLabel())
+                }
+            }
+        """.trimIndent()
+
+        AstFormat.values().forEach { astFormat ->
+            val compilationUnit = Parser(Frontend.ANTLR, astFormat).getCompilationUnitFromSource(source)
+            val outputs = FrameComputation.values().map {
+                this.run(CompiledClass("Frames", BytecodeGenerator(MethodGeneration.PARALLEL, it).generate(compilationUnit)))
+            }
+
+            Assert.assertEquals(listOf("false", "true", "true", "6", "-1", "yes", "no"), outputs[0])
+            Assert.assertEquals(outputs[1], outputs[0])
+        }
+    }
+
+    @Test
+    fun shouldRejectInstructionsWithoutFrameSupport() {
+        val methodVisitor = FrameComputingMethodVisitor(MethodNode(), "Frames", Opcodes.ACC_STATIC, "run", "()V")
+        val instructions = listOf<() -> Unit>(
+                { methodVisitor.visitInvokeDynamicInsn("run", "()Ljava/lang/Runnable;", Handle(Opcodes.H_INVOKESTATIC, "Frames", "bootstrap", "()V")) },
+                { methodVisitor.visitTableSwitchInsn(0, 1, Label(), Label(), Label()) },
+                { methodVisitor.visitLookupSwitchInsn(Label(), intArrayOf(0), arrayOf(Label())) },
+                { methodVisitor.visitMultiANewArrayInsn("[[I", 2) }
+        )
+
+        instructions.forEach { Assert.assertTrue(runCatching(it).exceptionOrNull() is IllegalArgumentException) }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package hachi.lang.test
+
+import hachi.lang.classpath.ClassPath
+import hachi.lang.classpath.ClassPathIndex
+import hachi.lang.classpath.ClassPathSymbols
+import hachi.lang.classpath.JarClassPathEntry
+import org.junit.Assert
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+
+class ClassPathIndexTest {
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    @Test
+    fun shouldResolveClassesFromIndex() {
+        val directory = this.temporaryFolder.newFolder("hachi-index")
+        val jar = this.writeJar(File(directory, "probe.jar"), InitializationProbeTarget::class.java)
+        val classPath = ClassPath(listOf(JarClassPathEntry(jar)))
+        val index = ClassPathIndex.open(File(directory, "classpath.idx"), classPath)
+
+        val classSymbol = index.find("hachi/lang/test/InitializationProbeTarget")!!.value
+        val method = ClassPathSymbols(classPath, index).use {
+            it.findMethod("hachi/lang/test/InitializationProbeTarget", "echo", listOf("Ljava/lang/Object;"))
+        }
+
+        Assert.assertEquals(1, index.classCount)
+        Assert.assertEquals("java/lang/Object", classSymbol.superName)
+        Assert.assertTrue(classSymbol.methods.any { it.name == "echo" })
+        Assert.assertEquals("(Ljava/lang/Object;)Ljava/lang/Object;", method!!.descriptor)
+        Assert.assertNull(index.find("hachi/lang/test/Missing"))
+    }
+
+    @Test
+    fun shouldRebuildIndexWhenJarChanges() {
+        val directory = this.temporaryFolder.newFolder("hachi-index")
+        val jar = this.writeJar(File(directory, "probe.jar"), InitializationProbeTarget::class.java)
+        val indexFile = File(directory, "classpath.idx")
+
+        this.openIndex(indexFile, jar)
+        indexFile.setLastModified(0)
+
+        Assert.assertEquals(1, this.openIndex(indexFile, jar).classCount)
+        Assert.assertEquals(0, indexFile.lastModified())
+
+        this.writeJar(jar, InitializationProbeTarget::class.java, InitializationProbe::class.java)
+
+        Assert.assertEquals(2, this.openIndex(indexFile, jar).classCount)
+    }
+
+    private fun openIndex(indexFile: File, jar: File): ClassPathIndex {
+        return ClassPath(listOf(JarClassPathEntry(jar))).use { ClassPathIndex.open(indexFile, it) }
+    }
+
+    private fun writeJar(jar: File, vararg classes: Class<*>): File {
+        JarOutputStream(jar.outputStream()).use { output ->
+            classes.forEach {
+                val classFile = it.name.replace(".", "/") + ".class"
+
+                output.putNextEntry(JarEntry(classFile))
+                it.classLoader.getResourceAsStream(classFile)!!.use { input -> input.copyTo(output) }
+                output.closeEntry()
+            }
+        }
+
+        return jar
+    }
+}
\ No newline at end of file
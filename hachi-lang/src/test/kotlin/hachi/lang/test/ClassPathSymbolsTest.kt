@@ -0,0 +1,140 @@
+package hachi.lang.test
+
+import hachi.lang.classpath.ClassPath
+import hachi.lang.classpath.ClassPathSymbols
+import hachi.lang.classpath.DirectoryClassPathEntry
+import hachi.lang.domain.scope.ClassPathScope
+import hachi.lang.domain.type.BuiltInType
+import hachi.lang.domain.type.TypePool
+import hachi.lang.exception.AmbiguousMethodCallException
+import org.junit.Assert
+import org.junit.Test
+import java.io.File
+import java.nio.file.Files
+
+object InitializationProbe {
+    var initialized = false
+}
+
+class InitializationProbeTarget {
+    companion object {
+        init {
+            InitializationProbe.initialized = true
+        }
+    }
+
+    fun echo(value: Any): Any {
+        return value
+    }
+}
+
+class AmbiguousOverloads {
+    fun pick(first: Int?, second: Any): Any {
+        return first ?: second
+    }
+
+    fun pick(first: Any, second: Int?): Any {
+        return second ?: first
+    }
+}
+
+class SpecificOverloads {
+    fun pick(value: Any): String {
+        return "object"
+    }
+
+    fun pick(value: CharSequence): String {
+        return "char sequence"
+    }
+
+    fun compare(value: Comparable<*>): String {
+        return "comparable"
+    }
+
+    fun compare(value: CharSequence): String {
+        return "char sequence"
+    }
+}
+
+class ClassPathSymbolsTest {
+    private val classPathSymbols = ClassPathSymbols(ClassPath.fromSystem())
+
+    @Test
+    fun shouldResolveMostSpecificJdkOverload() {
+        val classPathScope = ClassPathScope(this.classPathSymbols)
+
+        val equals = classPathScope.getFunctionSignature(BuiltInType.STRING, "equals", listOf(BuiltInType.STRING))
+        val append = classPathScope.getFunctionSignature(TypePool.getClassType("java.lang.StringBuilder"), "append", listOf(BuiltInType.INT))
+        val constructor = classPathScope.getConstructorSignature("java.lang.StringBuilder", listOf(BuiltInType.STRING))
+
+        Assert.assertSame(TypePool.getClassType("java.lang.Object"), equals!!.parameters.single().getType())
+        Assert.assertEquals(BuiltInType.BOOLEAN, equals.returnType)
+        Assert.assertEquals(BuiltInType.INT, append!!.parameters.single().getType())
+        Assert.assertEquals("java.lang.StringBuilder", constructor!!.functionName)
+        Assert.assertEquals(BuiltInType.STRING, constructor.parameters.single().getType())
+    }
+
+    @Test
+    fun shouldCacheResolvedMethods() {
+        val first = this.classPathSymbols.findMethod("java/lang/String", "indexOf", listOf("Ljava/lang/String;"))
+        val second = this.classPathSymbols.findMethod("java/lang/String", "indexOf", listOf("Ljava/lang/String;"))
+
+        Assert.assertSame(first, second)
+        Assert.assertNull(this.classPathSymbols.findMethod("java/lang/String", "indexOf", listOf("Ljava/lang/Thread;")))
+    }
+
+    @Test
+    fun shouldResolveWithoutInitializingClasses() {
+        val testClasses = File(InitializationProbeTarget::class.java.protectionDomain.codeSource.location.toURI())
+        val classPath = ClassPath(listOf(DirectoryClassPathEntry(testClasses)) + ClassPath.fromSystem().entries)
+
+        val method = ClassPathSymbols(classPath).use { it.findMethod("hachi/lang/test/InitializationProbeTarget", "echo", listOf("I")) }
+
+        Assert.assertEquals("(Ljava/lang/Object;)Ljava/lang/Object;", method!!.descriptor)
+        Assert.assertFalse(InitializationProbe.initialized)
+    }
+
+    @Test
+    fun shouldRejectOverloadsThatNeedBoxingEqually() {
+        val exception = this.getTestClassPathSymbols().use {
+            runCatching { it.findMethod("hachi/lang/test/AmbiguousOverloads", "pick", listOf("I", "I")) }.exceptionOrNull()
+        }
+
+        Assert.assertTrue(exception is AmbiguousMethodCallException)
+    }
+
+    @Test
+    fun shouldPreferMoreSpecificInterfaceOverObject() {
+        val method = this.getTestClassPathSymbols().use { it.findMethod("hachi/lang/test/SpecificOverloads", "pick", listOf("Ljava/lang/String;")) }
+
+        Assert.assertEquals("(Ljava/lang/CharSequence;)Ljava/lang/String;", method!!.descriptor)
+    }
+
+    @Test
+    fun shouldRejectUnrelatedInterfaceOverloads() {
+        val exception = this.getTestClassPathSymbols().use {
+            runCatching { it.findMethod("hachi/lang/test/SpecificOverloads", "compare", listOf("Ljava/lang/String;")) }.exceptionOrNull()
+        }
+
+        Assert.assertTrue(exception is AmbiguousMethodCallException)
+    }
+
+    @Test
+    fun shouldSkipUnreadableClassFiles() {
+        val directory = Files.createTempDirectory("hachi-classpath").toFile()
+
+        File(directory, "Broken.class").writeBytes(byteArrayOf(0xCA.toByte(), 0xFE.toByte(), 0xBA.toByte(), 0xBE.toByte()))
+
+        try {
+            Assert.assertNull(ClassPathSymbols(ClassPath(listOf(DirectoryClassPathEntry(directory)))).getClassSymbol("Broken"))
+        } finally {
+            directory.deleteRecursively()
+        }
+    }
+
+    private fun getTestClassPathSymbols(): ClassPathSymbols {
+        val testClasses = File(SpecificOverloads::class.java.protectionDomain.codeSource.location.toURI())
+
+        return ClassPathSymbols(ClassPath(listOf(DirectoryClassPathEntry(testClasses)) + ClassPath.fromSystem().entries))
+    }
+}
\ No newline at end of file
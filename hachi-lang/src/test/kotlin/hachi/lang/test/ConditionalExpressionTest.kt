@@ -0,0 +1,13 @@
+package hachi.lang.test
+
+import org.junit.Assert
+import org.junit.Test
+
+class ConditionalExpressionTest : BaseTest() {
+    @Test
+    fun shouldCompareEveryPrimitiveTypeAndObjects() {
+        val output = this.run("ConditionalExpression.hc")
+
+        Assert.assertEquals(listOf("true", "true", "false", "false", "false", "false", "true", "true", "true", "true", "true", "taken", "promoted", "true", "true"), output)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package hachi.lang.test
+
+import hachi.lang.compiler.Compiler
+import hachi.lang.domain.node.flat.FlatStatement
+import hachi.lang.domain.node.flat.NodeKind
+import hachi.lang.domain.node.statement.BlockStatement
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import hachi.lang.test.generator.SourceGenerator
+import org.junit.Assert
+import org.junit.Test
+import java.lang.management.ManagementFactory
+
+class FlatAstTest : BaseTest() {
+    private val statements = """
+        class Statements {
+            string name
+
+            constructor(string name) {
+                name = name + "!"
+            }
+
+            boolean isNamed(string other) {
+                return name == other
+            }
+
+            main(string[] args) {
+                var statements = new Statements("flat")
+                var total = 0
+                for (i from 5 to 1) {
+                    total = total + i
+                    if (i > 2) print(total) else print(statements.isNamed("flat!"))
+                }
+
+                print("total " + total)
+            }
+        }
+    """.trimIndent()
+
+    @Test
+    fun shouldGenerateSameBytecodeAsTree() {
+        this.assertSameBytecode(this.getSampleSources(this.statements),
+                { Compiler(Frontend.ANTLR, AstFormat.TREE).compile(it).bytecode },
+                { Compiler(Frontend.ANTLR, AstFormat.FLAT).compile(it).bytecode })
+    }
+
+    @Test
+    fun shouldWalkNodesInPreOrder() {
+        val source = "class Walk {\n    main(string[] args) {\n        var a = 1\n        print(a + 2)\n    }\n}"
+        val compilationUnit = Parser(Frontend.PRATT, AstFormat.FLAT).getCompilationUnitFromSource(source)
+        val functionBody = compilationUnit.classDeclaration.methods.first { it.getName() == "main" }.functionBody as FlatStatement
+        val treeBody = Parser(Frontend.PRATT).getCompilationUnitFromSource(source).classDeclaration.methods.first { it.getName() == "main" }.functionBody as BlockStatement
+        val ast = functionBody.ast
+        val kinds = mutableListOf<NodeKind>()
+
+        ast.walk(functionBody.root) { kinds.add(ast.getKind(it)) }
+
+        Assert.assertEquals(listOf(NodeKind.BLOCK, NodeKind.VARIABLE_DECLARATION, NodeKind.VALUE, NodeKind.PRINT, NodeKind.ADDITION, NodeKind.LOCAL_VARIABLE_REFERENCE, NodeKind.VALUE), kinds)
+        Assert.assertEquals(treeBody.scope.getLocalVariableIndex("a"), ast.getOperand(ast.getChild(functionBody.root, 0)))
+    }
+
+    @Test
+    fun shouldRetainLessHeapThanTree() {
+        val source = SourceGenerator(functions = 200, additionChainLength = 20, localsPerFunction = 50).generate()
+        val treeBytes = this.getRetainedBytes(Parser(Frontend.ANTLR, AstFormat.TREE), source)
+        val flatBytes = this.getRetainedBytes(Parser(Frontend.ANTLR, AstFormat.FLAT), source)
+
+        Assert.assertTrue("Flat bodies retain %d bytes, tree bodies %d".format(flatBytes, treeBytes), flatBytes * 2 < treeBytes)
+    }
+
+    // Heap that is freed once the parsed compilation unit is dropped, which is what lives until bytecode generation
+    private fun getRetainedBytes(parser: Parser, source: String): Long {
+        val compilationUnits = mutableListOf(parser.getCompilationUnitFromSource(source))
+        val usedBytes = this.getUsedHeapBytes()
+
+        Assert.assertEquals(201, compilationUnits.single().classDeclaration.methods.size)
+
+        compilationUnits.clear()
+
+        return usedBytes - this.getUsedHeapBytes()
+    }
+
+    private fun getUsedHeapBytes(): Long {
+        repeat(3) { System.gc() }
+
+        return ManagementFactory.getMemoryMXBean().heapMemoryUsage.used
+    }
+}
\ No newline at end of file
@@ -1,5 +1,13 @@
 package hachi.lang.test
 
+import hachi.lang.compiler.Compiler
+import hachi.lang.compiler.Runner
+import hachi.lang.exception.LoopIteratorAssignmentException
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.parsing.Frontend
+import jdk.internal.org.objectweb.asm.ClassReader
+import jdk.internal.org.objectweb.asm.tree.ClassNode
+import jdk.internal.org.objectweb.asm.tree.MethodInsnNode
 import org.junit.Assert
 import org.junit.Test
 
@@ -10,4 +18,63 @@ class ForStatementTest : BaseTest() {
 
         Assert.assertEquals(listOf("1", "2", "3", "4", "5"), output)
     }
+
+    @Test
+    fun shouldIterateRangesInBothDirectionsWithSteps() {
+        val output = this.run("RangedForStatement.hc")
+
+        Assert.assertEquals(listOf("3", "2", "1", "1", "5", "9", "10", "6", "2", "0", "2", "4", "2", "2147483646", "2147483647", "7"), output)
+    }
+
+    @Test
+    fun shouldEmitLoopBodyOnce() {
+        val source = "class Loops {\n    main(string[] args) {\n        var end = 3\n        for i from 1 to end print(i)\n        for j from 1 to 3 print(j)\n    }\n}"
+        val classNode = ClassNode()
+
+        ClassReader(Compiler().compile(source).bytecode).accept(classNode, 0)
+
+        val printCalls = classNode.methods.single { it.name == "main" }.instructions.toArray()
+                .count { it is MethodInsnNode && it.name == "println" }
+
+        Assert.assertEquals(2, printCalls)
+    }
+
+    @Test
+    fun shouldRejectNonPositiveStepAtRunTime() {
+        listOf("0", "0 - 2").forEach { step ->
+            val source = "class Steps {\n    main(string[] args) {\n        var stride = $step\n        for i from 1 to 3 step stride print(i)\n    }\n}"
+            val exception = runCatching { Runner().run(Compiler().compile(source), emptyArray()) }.exceptionOrNull()
+
+            Assert.assertTrue(exception is IllegalArgumentException)
+            Assert.assertEquals("The step of a ranged loop must be positive", exception?.message)
+        }
+    }
+
+    @Test
+    fun shouldNotReserveLoopVariablesForCountedLoops() {
+        val source = "class Loops {\n    main(string[] args) {\n        for i from 1 to 3 print(i)\n    }\n}"
+        val classNode = ClassNode()
+
+        ClassReader(Compiler().compile(source).bytecode).accept(classNode, 0)
+
+        Assert.assertEquals(3, classNode.methods.single { it.name == "main" }.maxLocals)
+    }
+
+    @Test
+    fun shouldRejectAssigningTheIteratorAtEveryLevel() {
+        val sources = listOf(
+                "class Loops {\n    main(string[] args) {\n        for i from 1 to 5 + 5 {\n            print(i)\n            i = i + 100\n        }\n    }\n}",
+                "class Loops {\n    main(string[] args) {\n        for i from 1 to 3 for i from 1 to 2 print(i)\n    }\n}"
+        )
+
+        sources.forEach { source ->
+            Frontend.values().forEach { frontend ->
+                OptimizationLevel.values().forEach { optimizationLevel ->
+                    val exception = runCatching { Compiler(frontend, optimizationLevel = optimizationLevel).compile(source) }.exceptionOrNull()
+
+                    Assert.assertTrue("$frontend at $optimizationLevel", exception is LoopIteratorAssignmentException)
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
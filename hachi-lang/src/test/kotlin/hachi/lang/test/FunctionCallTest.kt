@@ -0,0 +1,13 @@
+package hachi.lang.test
+
+import org.junit.Assert
+import org.junit.Test
+
+class FunctionCallTest : BaseTest() {
+    @Test
+    fun shouldFillDefaultValuesAndReorderNamedArguments() {
+        val output = this.run("FunctionCall.hc")
+
+        Assert.assertEquals(listOf("111", "103", "14"), output)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package hachi.lang.test
+
+import hachi.lang.domain.node.expression.FunctionArgument
+import hachi.lang.domain.node.expression.FunctionParameter
+import hachi.lang.domain.node.expression.IntValue
+import hachi.lang.domain.node.expression.Value
+import hachi.lang.domain.scope.FunctionSignature
+import hachi.lang.domain.scope.FunctionSignatureIndex
+import hachi.lang.domain.type.BuiltInType
+import org.junit.Assert
+import org.junit.Test
+
+class FunctionSignatureIndexTest {
+    private val add = FunctionSignature("add", listOf(this.parameter("a"), this.parameter("b", IntValue(1))), BuiltInType.INT)
+
+    private val addThree = FunctionSignature("add", listOf(this.parameter("a"), this.parameter("b"), this.parameter("c")), BuiltInType.INT)
+
+    private val functionSignatureIndex = FunctionSignatureIndex()
+
+    init {
+        this.functionSignatureIndex.add(this.add)
+        this.functionSignatureIndex.add(this.addThree)
+    }
+
+    @Test
+    fun shouldResolveOverloadsByArity() {
+        Assert.assertNull(this.functionSignatureIndex.find("add", emptyList()))
+        Assert.assertSame(this.add, this.functionSignatureIndex.find("add", this.arguments(null)))
+        Assert.assertSame(this.add, this.functionSignatureIndex.find("add", this.arguments(null, null)))
+        Assert.assertSame(this.addThree, this.functionSignatureIndex.find("add", this.arguments(null, null, null)))
+        Assert.assertNull(this.functionSignatureIndex.find("add", this.arguments(null, null, null, null)))
+        Assert.assertNull(this.functionSignatureIndex.find("subtract", this.arguments(null)))
+    }
+
+    @Test
+    fun shouldResolveNamedArguments() {
+        Assert.assertSame(this.add, this.functionSignatureIndex.find("add", this.arguments("b", "a")))
+        Assert.assertSame(this.addThree, this.functionSignatureIndex.find("add", this.arguments("c", "a", "b")))
+        Assert.assertNull(this.functionSignatureIndex.find("add", this.arguments("a", "d")))
+        Assert.assertEquals(2, this.addThree.getIndexOfParameter("c"))
+    }
+
+    private fun parameter(name: String, defaultValue: Value? = null): FunctionParameter {
+        return FunctionParameter(name, BuiltInType.INT, defaultValue)
+    }
+
+    private fun arguments(vararg names: String?): List<FunctionArgument> {
+        return names.map { FunctionArgument(IntValue(1), it) }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package hachi.lang.test
+
+import hachi.lang.compiler.incremental.IncrementalCompiler
+import org.junit.Assert
+import org.junit.Test
+import java.io.File
+import java.nio.file.Files
+
+class IncrementalCompilerTest {
+    @Test
+    fun shouldRecompileOnlyChangedFilesAndDependentsOfChangedSignatures() {
+        val directory = Files.createTempDirectory("hachi-incremental").toFile()
+
+        try {
+            val base = File(directory, "Base.hc")
+            val dependent = File(directory, "Dependent.hc")
+            val independent = File(directory, "Independent.hc")
+            val files = listOf(base, dependent, independent)
+            val incrementalCompiler = IncrementalCompiler(File(directory, "state"))
+
+            base.writeText("class Base {\n    int value\n}")
+            dependent.writeText("class Dependent {\n    Base base\n}")
+            independent.writeText("class Independent {\n    int value\n}")
+
+            Assert.assertEquals(listOf("Base.hc", "Dependent.hc", "Independent.hc"), this.compile(incrementalCompiler, files))
+            Assert.assertEquals(emptyList<String>(), this.compile(incrementalCompiler, files))
+
+            independent.appendText("\n")
+
+            Assert.assertEquals(listOf("Independent.hc"), this.compile(incrementalCompiler, files))
+
+            base.writeText("class Base {\n\n    int value\n}")
+
+            Assert.assertEquals(listOf("Base.hc"), this.compile(incrementalCompiler, files))
+
+            base.writeText("class Base {\n    int value\n    int other\n}")
+
+            Assert.assertEquals(listOf("Base.hc", "Dependent.hc"), this.compile(incrementalCompiler, files))
+        } finally {
+            directory.deleteRecursively()
+        }
+    }
+
+    @Test
+    fun shouldRecompileCallersWhenComputedDefaultValueChanges() {
+        val directory = Files.createTempDirectory("hachi-incremental").toFile()
+
+        try {
+            val base = File(directory, "Base.hc")
+            val dependent = File(directory, "Dependent.hc")
+            val files = listOf(base, dependent)
+            val incrementalCompiler = IncrementalCompiler(File(directory, "state"))
+
+            base.writeText("class Base {\n    int add(int a, int b = 1 + 2) {\n        return a + b\n    }\n}")
+            dependent.writeText("class Dependent {\n    Base base\n}")
+
+            Assert.assertEquals(listOf("Base.hc", "Dependent.hc"), this.compile(incrementalCompiler, files))
+
+            base.writeText("class Base {\n    int add(int a, int b = 1 + 3) {\n        return a + b\n    }\n}")
+
+            Assert.assertEquals(listOf("Base.hc", "Dependent.hc"), this.compile(incrementalCompiler, files))
+
+            base.writeText("class Base {\n    int add(int a, int b = 1 + 3) {\n        return b + a\n    }\n}")
+
+            Assert.assertEquals(listOf("Base.hc"), this.compile(incrementalCompiler, files))
+        } finally {
+            directory.deleteRecursively()
+        }
+    }
+
+    private fun compile(incrementalCompiler: IncrementalCompiler, files: List<File>): List<String> {
+        val result = incrementalCompiler.compile(files)
+
+        Assert.assertEquals(emptyList<String>(), result.failures.map { it.file.name })
+
+        return result.compiledFiles.map { it.name }
+    }
+}
\ No newline at end of file
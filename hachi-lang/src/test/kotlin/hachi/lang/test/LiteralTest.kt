@@ -0,0 +1,13 @@
+package hachi.lang.test
+
+import org.junit.Assert
+import org.junit.Test
+
+class LiteralTest : BaseTest() {
+    @Test
+    fun shouldKeepLiteralTypes() {
+        val output = this.run("Literal.hc")
+
+        Assert.assertEquals(listOf("3000000001", "0.30000000000000004", "5.0", "100000", "-7", "true", "text"), output)
+    }
+}
\ No newline at end of file
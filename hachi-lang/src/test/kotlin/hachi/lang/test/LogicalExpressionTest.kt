@@ -0,0 +1,13 @@
+package hachi.lang.test
+
+import org.junit.Assert
+import org.junit.Test
+
+class LogicalExpressionTest : BaseTest() {
+    @Test
+    fun shouldShortCircuitAndNegate() {
+        val output = this.run("LogicalExpression.hc")
+
+        Assert.assertEquals(listOf("false", "true", "true", "a", "false", "c", "true", "e", "f", "false", "in range", "not small", "five"), output)
+    }
+}
\ No newline at end of file
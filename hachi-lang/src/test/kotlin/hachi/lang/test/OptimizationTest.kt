@@ -0,0 +1,48 @@
+package hachi.lang.test
+
+import hachi.lang.compiler.Compiler
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.parsing.Frontend
+import org.junit.Assert
+import org.junit.Test
+import java.io.File
+
+class OptimizationTest : BaseTest() {
+    @Test
+    fun shouldPrintSameOutputAtEveryLevel() {
+        // ClassDeclaration.hc has no main method to run
+        (this.sampleFileNames - "ClassDeclaration.hc" + "Optimization.hc").forEach { fileName ->
+            val expectedOutput = this.run(fileName)
+
+            OptimizationLevel.values().forEach { optimizationLevel ->
+                AstFormat.values().forEach { astFormat ->
+                    val compiler = Compiler(Frontend.ANTLR, astFormat, BodyAnalysis.EAGER, optimizationLevel)
+
+                    Assert.assertEquals("$fileName at $optimizationLevel", expectedOutput, this.run(fileName, compiler))
+                }
+            }
+        }
+    }
+
+    @Test
+    fun shouldFoldConstantsAndRemoveDeadBranches() {
+        val output = this.run("Optimization.hc", Compiler(Frontend.ANTLR, AstFormat.TREE, BodyAnalysis.EAGER, OptimizationLevel.O2))
+
+        Assert.assertEquals(listOf("86400", "-2147483648", "20", "Infinity", "0.3", "hachi lang", "false", "true", "42", "always", "folded", "1", "2", "3", "true", "9", "5", "3", "1", "1", "4", "9"), output)
+    }
+
+    @Test
+    fun shouldReportChangesOfEveryPass() {
+        val source = File(this.getResourceFileAbsolutePath("Optimization.hc")).readText()
+        val unoptimizedBytecode = Compiler().compile(source).bytecode
+        val compiler = Compiler(Frontend.ANTLR, AstFormat.TREE, BodyAnalysis.EAGER, OptimizationLevel.O2)
+        val optimizedBytecode = compiler.compile(source).bytecode
+        val report = compiler.passManager.report
+
+        OptimizationLevel.O2.getPasses().forEach { Assert.assertTrue(it.name, report.getChanges(it.name) > 0) }
+        Assert.assertTrue(optimizedBytecode.size < unoptimizedBytecode.size)
+        Assert.assertFalse(String(optimizedBytecode, Charsets.ISO_8859_1).contains("never"))
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package hachi.lang.test
+
+import hachi.lang.exception.SyntaxErrorException
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import org.junit.Assert
+import org.junit.Test
+import java.io.ByteArrayOutputStream
+import java.io.PrintStream
+
+class ParserTest : BaseTest() {
+    @Test
+    fun shouldParseValidSourceWithoutReportingErrors() {
+        val output = this.captureOutput {
+            val compilationUnit = this.getCompilationUnit("ForStatement.hc")
+
+            Assert.assertEquals("ForStatement", compilationUnit.classDeclaration.name)
+        }
+
+        Assert.assertEquals("", output)
+    }
+
+    @Test
+    fun shouldReportSyntaxErrorsWhenFallingBackToLL() {
+        val output = this.captureOutput {
+            runCatching { Parser().getCompilationUnitFromSource("class Broken {\n    main(string[] args) {\n        print(1\n    }\n}") }
+        }
+
+        Assert.assertTrue(output.contains("line 4"))
+    }
+
+    @Test
+    fun shouldReserveStepAsKeyword() {
+        val source = "class Steps {\n    main(string[] args) {\n        var step = 2\n        for i from 1 to 3 step step print(i)\n    }\n}"
+        val output = this.captureOutput {
+            runCatching { Parser().getCompilationUnitFromSource(source) }
+        }
+        val exception = runCatching { Parser(Frontend.PRATT).getCompilationUnitFromSource(source) }.exceptionOrNull()
+
+        Assert.assertTrue(output.contains("mismatched input 'step'"))
+        Assert.assertTrue(exception is SyntaxErrorException)
+    }
+
+    private fun captureOutput(action: () -> Unit): String {
+        val outputStream = ByteArrayOutputStream()
+        val standardOutput = System.out
+
+        System.setOut(PrintStream(outputStream, true))
+
+        try {
+            action()
+        } finally {
+            System.setOut(standardOutput)
+        }
+
+        return outputStream.toString()
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package hachi.lang.test
+
+import hachi.lang.compiler.Compiler
+import hachi.lang.exception.SyntaxErrorException
+import hachi.lang.parsing.Frontend
+import hachi.lang.parsing.Parser
+import org.junit.Assert
+import org.junit.Test
+
+class PrattParserTest : BaseTest() {
+    private val operators = """
+        class Operators {
+            int total
+
+            constructor(int start, int stride = 2) {
+                total = start
+            }
+
+            int scale(int value, int factor = 3) {
+                return (value + 1) * factor - value / 2
+            }
+
+            boolean isLarge(int value) {
+                return value * 2 >= 10
+            }
+
+            main(string[] args) {
+                var operators = new Operators(1)
+                for (i from 1 to 5) {
+                    var scaled = operators.scale(factor -> i, value -> 4)
+
+                    if (operators.isLarge(i)) print("large") else {
+                        print(scaled - -1)
+                    }
+                }
+
+                print(1.5)
+                print(false)
+            }
+        }
+    """.trimIndent()
+
+    @Test
+    fun shouldGenerateSameBytecodeAsAntlrFrontend() {
+        this.assertSameBytecode(this.getSampleSources(this.operators),
+                { Compiler(Frontend.ANTLR).compile(it).bytecode },
+                { Compiler(Frontend.PRATT).compile(it).bytecode })
+    }
+
+    @Test
+    fun shouldReportSyntaxErrors() {
+        val exception = runCatching {
+            Parser(Frontend.PRATT).getCompilationUnitFromSource("class Broken {\n    main(string[] args) {\n        print(1\n    }\n}")
+        }.exceptionOrNull()
+
+        Assert.assertTrue(exception is SyntaxErrorException)
+        Assert.assertEquals("Syntax error at line 4, char 4: expecting ')' at input '}'", exception?.message)
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package hachi.lang.test
+
+import hachi.lang.compiler.Compiler
+import hachi.lang.test.generator.SourceGenerator
+import org.junit.Assert
+import org.junit.Test
+import java.io.File
+import java.lang.management.ManagementFactory
+import java.nio.file.Files
+
+class ScalingTest {
+    private val growthFactor = 4
+
+    private val allowedGrowth = this.growthFactor * 2.5
+
+    // CPU time is noisier than allocation, so it only has to stay well below the 16x of quadratic growth
+    private val allowedTimeGrowth = this.growthFactor * 3.0
+
+    private val runs = 7
+
+    @Test
+    fun shouldScaleLinearlyWithFields() {
+        this.assertLinearScaling("fields", 500) { SourceGenerator(fields = it) }
+    }
+
+    @Test
+    fun shouldScaleLinearlyWithFunctions() {
+        this.assertLinearScaling("functions", 100) { SourceGenerator(functions = it) }
+    }
+
+    @Test
+    fun shouldScaleLinearlyWithNestingDepth() {
+        this.assertLinearScaling("nesting depth", 25) { SourceGenerator(nestingDepth = it, localsPerFunction = 50) }
+    }
+
+    @Test
+    fun shouldScaleLinearlyWithAdditionChainLength() {
+        this.assertLinearScaling("addition chain length", 100) { SourceGenerator(additionChainLength = it) }
+    }
+
+    @Test
+    fun shouldScaleLinearlyWithLocals() {
+        this.assertLinearScaling("locals", 200) { SourceGenerator(localsPerFunction = it) }
+    }
+
+    @Test
+    fun shouldScaleLinearlyWithCalls() {
+        this.assertLinearScaling("calls", 50) { SourceGenerator(functions = 4, callsPerFunction = it) }
+    }
+
+    private fun assertLinearScaling(knob: String, size: Int, sourceGenerator: (Int) -> SourceGenerator) {
+        val directory = Files.createTempDirectory("hachi-scaling").toFile()
+
+        try {
+            val smallFile = this.writeSource(directory, "Small", sourceGenerator(size))
+            val largeFile = this.writeSource(directory, "Large", sourceGenerator(size * this.growthFactor))
+
+            repeat(this.runs) {
+                Compiler().compile(smallFile)
+                Compiler().compile(largeFile)
+            }
+
+            val small = this.measure(smallFile)
+            val large = this.measure(largeFile)
+            val timeGrowth = large.nanoseconds.toDouble() / small.nanoseconds
+            val allocationGrowth = large.allocatedBytes.toDouble() / small.allocatedBytes
+
+            Assert.assertTrue("Compile time for %s grew %.1fx for %dx input".format(knob, timeGrowth, this.growthFactor), timeGrowth <= this.allowedTimeGrowth)
+            Assert.assertTrue("Allocated heap for %s grew %.1fx for %dx input".format(knob, allocationGrowth, this.growthFactor), allocationGrowth <= this.allowedGrowth)
+        } finally {
+            directory.deleteRecursively()
+        }
+    }
+
+    private fun writeSource(directory: File, className: String, sourceGenerator: SourceGenerator): File {
+        val file = File(directory, "$className.hc")
+
+        file.writeText(sourceGenerator.generate().replaceFirst("class Generated", "class $className"))
+
+        return file
+    }
+
+    // The fewest CPU nanoseconds and allocated bytes of any run, which are the least affected by other load
+    private fun measure(file: File): Measurement {
+        val threadMXBean = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+        val threadId = Thread.currentThread().id
+        val measurements = (1..this.runs).map {
+            val allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId)
+            val start = threadMXBean.currentThreadCpuTime
+
+            Compiler().compile(file)
+
+            val nanoseconds = threadMXBean.currentThreadCpuTime - start
+            val allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore
+
+            Measurement(nanoseconds, allocatedBytes)
+        }
+
+        return Measurement(measurements.map { it.nanoseconds }.minOrNull()!!, measurements.map { it.allocatedBytes }.minOrNull()!!)
+    }
+
+    private class Measurement(val nanoseconds: Long, val allocatedBytes: Long)
+}
\ No newline at end of file
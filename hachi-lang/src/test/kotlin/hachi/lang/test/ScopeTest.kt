@@ -0,0 +1,44 @@
+package hachi.lang.test
+
+import hachi.lang.domain.MetaData
+import hachi.lang.domain.scope.LocalVariable
+import hachi.lang.domain.scope.Scope
+import hachi.lang.domain.type.BuiltInType
+import org.junit.Assert
+import org.junit.Test
+
+class ScopeTest {
+    @Test
+    fun shouldNumberNestedLocalVariablesAfterTheirParent() {
+        val functionScope = Scope(Scope(MetaData("Test", "java.lang.Object")))
+
+        functionScope.addLocalVariable(LocalVariable("this", BuiltInType.NONE))
+        functionScope.addLocalVariable(LocalVariable("a", BuiltInType.INT))
+
+        val blockScope = Scope(functionScope)
+
+        blockScope.addLocalVariable(LocalVariable("b", BuiltInType.INT))
+        functionScope.addLocalVariable(LocalVariable("c", BuiltInType.INT))
+
+        Assert.assertEquals(1, blockScope.getLocalVariableIndex("a"))
+        Assert.assertEquals(2, blockScope.getLocalVariableIndex("b"))
+        Assert.assertEquals(2, functionScope.getLocalVariableIndex("c"))
+        Assert.assertFalse(functionScope.localVariableExists("b"))
+        Assert.assertFalse(blockScope.localVariableExists("c"))
+    }
+
+    @Test
+    fun shouldShadowLocalVariablesOfParent() {
+        val functionScope = Scope(Scope(MetaData("Test", "java.lang.Object")))
+
+        functionScope.addLocalVariable(LocalVariable("a", BuiltInType.INT))
+
+        val blockScope = Scope(functionScope)
+
+        blockScope.addLocalVariable(LocalVariable("a", BuiltInType.STRING))
+
+        Assert.assertEquals(1, blockScope.getLocalVariableIndex("a"))
+        Assert.assertEquals(BuiltInType.STRING, blockScope.getLocalVariable("a").getType())
+        Assert.assertEquals(0, functionScope.getLocalVariableIndex("a"))
+    }
+}
\ No newline at end of file
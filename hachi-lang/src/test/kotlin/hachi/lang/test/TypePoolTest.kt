@@ -0,0 +1,21 @@
+package hachi.lang.test
+
+import hachi.lang.domain.type.BuiltInType
+import hachi.lang.domain.type.TypePool
+import hachi.lang.util.TypeResolver
+import org.junit.Assert
+import org.junit.Test
+
+class TypePoolTest {
+    @Test
+    fun shouldReturnCanonicalTypeInstances() {
+        val classType = TypePool.getClassType("java.lang.StringBuilder")
+
+        Assert.assertSame(classType, TypeResolver.getFromTypeName("java.lang.StringBuilder"))
+        Assert.assertSame(TypePool.getClassType("java.util.ArrayList"), TypePool.getClassType("List"))
+        Assert.assertSame(BuiltInType.STRING, TypeResolver.getFromTypeName("java.lang.String"))
+        Assert.assertSame(BuiltInType.INT, TypeResolver.getFromTypeName("int"))
+        Assert.assertEquals("java/lang/StringBuilder", classType.getInternalName())
+        Assert.assertEquals("Ljava/lang/StringBuilder;", classType.getDescriptor())
+    }
+}
\ No newline at end of file
@@ -10,4 +10,11 @@ class VariableDeclarationTest : BaseTest() {
 
         Assert.assertEquals(listOf("1"), output)
     }
+
+    @Test
+    fun shouldPrintReassignedValue() {
+        val output = this.run("VariableAssignment.hc")
+
+        Assert.assertEquals(listOf("1", "3"), output)
+    }
 }
\ No newline at end of file
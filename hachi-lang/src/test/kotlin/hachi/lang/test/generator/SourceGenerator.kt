@@ -0,0 +1,86 @@
+package hachi.lang.test.generator
+
+class SourceGenerator(
+    private val className: String = "Generated",
+    private val fields: Int = 1,
+    private val functions: Int = 1,
+    private val nestingDepth: Int = 0,
+    private val additionChainLength: Int = 2,
+    private val localsPerFunction: Int = 1,
+    private val callsPerFunction: Int = 0
+) {
+    private val indentation = "    "
+
+    fun generate(): String {
+        val stringBuilder = StringBuilder()
+
+        stringBuilder.append("class ").append(this.className).append(" {\n")
+
+        (0 until this.fields).forEach { this.appendField(stringBuilder, it) }
+        (0 until this.functions).forEach { this.appendFunction(stringBuilder, it) }
+
+        stringBuilder.append("}")
+
+        return stringBuilder.toString()
+    }
+
+    private fun appendField(stringBuilder: StringBuilder, index: Int) {
+        stringBuilder.append(this.indentation).append("int field").append(index).append("\n")
+    }
+
+    private fun appendFunction(stringBuilder: StringBuilder, index: Int) {
+        stringBuilder.append("\n")
+                .append(this.indentation).append("int function").append(index).append("(int a, int b = 1) {\n")
+
+        this.appendLocals(stringBuilder)
+        this.appendAdditionChain(stringBuilder)
+        this.appendNestedBlocks(stringBuilder)
+        this.appendCalls(stringBuilder, index)
+
+        if (this.fields > 0) {
+            this.appendStatement(stringBuilder, 2, "field%d = chain".format(index % this.fields))
+        }
+
+        this.appendStatement(stringBuilder, 2, "return chain")
+
+        stringBuilder.append(this.indentation).append("}\n")
+    }
+
+    private fun appendLocals(stringBuilder: StringBuilder) {
+        (0 until this.localsPerFunction).forEach {
+            val expression = if (it == 0) "a" else "local%d + b".format(it - 1)
+
+            this.appendStatement(stringBuilder, 2, "var local%d = %s".format(it, expression))
+        }
+    }
+
+    private fun appendAdditionChain(stringBuilder: StringBuilder) {
+        val operands = (0 until this.additionChainLength).map { if (it % 2 == 0) "a" else "b" }
+
+        this.appendStatement(stringBuilder, 2, "var chain = " + operands.joinToString(" + "))
+    }
+
+    private fun appendNestedBlocks(stringBuilder: StringBuilder) {
+        (1..this.nestingDepth).forEach {
+            val previous = if (it == 1) "chain" else "nested%d".format(it - 1)
+
+            this.appendStatement(stringBuilder, it + 1, "{")
+            this.appendStatement(stringBuilder, it + 2, "var nested%d = %s + a".format(it, previous))
+        }
+
+        (this.nestingDepth downTo 1).forEach { this.appendStatement(stringBuilder, it + 1, "}") }
+    }
+
+    private fun appendCalls(stringBuilder: StringBuilder, index: Int) {
+        (0 until this.callsPerFunction).forEach {
+            val callee = "function%d".format((index + it + 1) % this.functions)
+            val call = if (it % 2 == 0) "%s(a)".format(callee) else "%s(b -> a, a -> b)".format(callee)
+
+            this.appendStatement(stringBuilder, 2, "var call%d = %s".format(it, call))
+        }
+    }
+
+    private fun appendStatement(stringBuilder: StringBuilder, depth: Int, statement: String) {
+        stringBuilder.append(this.indentation.repeat(depth)).append(statement).append("\n")
+    }
+}
\ No newline at end of file
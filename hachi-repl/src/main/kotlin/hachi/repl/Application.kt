@@ -1,16 +1,179 @@
 package hachi.repl
 
-import hachi.lang.compiler.Compiler
+import hachi.lang.bytecode.generator.MethodGeneration
+import hachi.lang.classpath.ClassPath
+import hachi.lang.classpath.ClassPathIndex
+import hachi.lang.compiler.BatchCompiler
+import hachi.lang.compiler.CompilationFailure
+import hachi.lang.compiler.incremental.IncrementalCompiler
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.optimization.PassReport
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.parsing.Frontend
+import hachi.repl.daemon.CompilerClient
+import hachi.repl.daemon.CompilerDaemon
+import hachi.repl.daemon.DaemonProtocol
 import java.io.File
+import kotlin.system.exitProcess
 
 class Application
 
 fun main(args: Array<String>) {
-    if (args.isEmpty()) {
+    when (args.firstOrNull()) {
+        "--daemon" -> startDaemon(args.drop(1))
+        "--connect" -> compileWithDaemon(args.drop(1))
+        "--shutdown" -> shutdownDaemon(getPort(args.getOrNull(1)))
+        "--index" -> buildClassPathIndex(args.drop(1))
+        else -> compile(args.toList())
+    }
+}
+
+private fun compile(args: List<String>) {
+    val isIncremental = args.contains("--incremental")
+    val frontend = if (args.contains("--pratt")) Frontend.PRATT else Frontend.ANTLR
+    val astFormat = if (args.contains("--flat-ast")) AstFormat.FLAT else AstFormat.TREE
+    val bodyAnalysis = when {
+        args.contains("--parallel-analysis") -> BodyAnalysis.PARALLEL
+        args.contains("--lazy-analysis") -> BodyAnalysis.LAZY
+        else -> BodyAnalysis.EAGER
+    }
+    val optimizationLevel = getOptimizationLevel(args)
+    val methodGeneration = if (args.contains("--parallel-generation")) MethodGeneration.PARALLEL else MethodGeneration.SERIAL
+    val paths = args.filterNot { isOption(it) }
+
+    if (paths.isEmpty()) {
+        println("Missing hachi file")
+    } else {
+        val files = getSourceFiles(paths)
+        val failures: List<CompilationFailure>
+        val passReport: PassReport
+
+        if (isIncremental) {
+            val incrementalCompiler = IncrementalCompiler(File(".hachi-state"), frontend, astFormat, bodyAnalysis, optimizationLevel, methodGeneration)
+
+            failures = compileIncrementally(files, incrementalCompiler)
+            passReport = incrementalCompiler.getPassReport()
+        } else {
+            val batchCompiler = BatchCompiler(Runtime.getRuntime().availableProcessors(), frontend, astFormat, bodyAnalysis, optimizationLevel, methodGeneration)
+
+            failures = batchCompiler.compile(files)
+            passReport = batchCompiler.getPassReport()
+        }
+
+        if (args.contains("--pass-report")) {
+            println(passReport)
+        }
+
+        failures.forEach { println("%s: %s".format(it.file.path, it.getMessage())) }
+
+        if (failures.isNotEmpty()) {
+            exitProcess(1)
+        }
+    }
+}
+
+private fun compileIncrementally(files: List<File>, incrementalCompiler: IncrementalCompiler): List<CompilationFailure> {
+    val result = incrementalCompiler.compile(files)
+
+    println("Compiled %d of %d files".format(result.compiledFiles.size, files.size))
+
+    return result.failures
+}
+
+private fun startDaemon(args: List<String>) {
+    val options = args.filter { isOption(it) && !isOptimizationFlag(it) }
+
+    if (options.isNotEmpty()) {
+        println("Unsupported daemon options %s, only an optimization level can be set".format(options.joinToString(" ")))
+
+        exitProcess(1)
+    }
+
+    CompilerDaemon(getPort(args.firstOrNull { !isOption(it) }), getOptimizationLevel(args)).start()
+}
+
+private fun compileWithDaemon(args: List<String>) {
+    val options = args.filter { isOption(it) }
+    val paths = args.filterNot { isOption(it) }
+
+    if (options.isNotEmpty()) {
+        println("Unsupported options %s, pass the optimization level when starting the daemon".format(options.joinToString(" ")))
+
+        exitProcess(1)
+    }
+
+    if (paths.isEmpty()) {
         println("Missing hachi file")
     } else {
-        val file = File(args[0])
+        val errors = CompilerClient(getPort(null)).compile(getSourceFiles(paths))
+                .filter { it.startsWith(DaemonProtocol.error) }
+
+        errors.forEach { println(it.removePrefix(DaemonProtocol.error).trim()) }
+
+        if (errors.isNotEmpty()) {
+            exitProcess(1)
+        }
+    }
+}
+
+private fun shutdownDaemon(port: Int) {
+    val errors = CompilerClient(port).shutdown()
+            .filter { it.startsWith(DaemonProtocol.error) }
+
+    errors.forEach { println(it.removePrefix(DaemonProtocol.error).trim()) }
+
+    if (errors.isNotEmpty()) {
+        exitProcess(1)
+    }
+}
+
+private fun buildClassPathIndex(args: List<String>) {
+    val file = args.firstOrNull()?.let { File(it) } ?: ClassPathIndex.getConfiguredFile()
+
+    if (file == null) {
+        println("Missing index file, pass one or set -D%s=<file>".format(ClassPathIndex.INDEX_FILE_PROPERTY))
+    } else {
+        val classPathIndex = ClassPath.fromSystem().use { ClassPathIndex.open(file, it) }
 
-        Compiler().compile(file)
+        println("Indexed %d classes in %s".format(classPathIndex.classCount, file.path))
     }
+}
+
+private fun getSourceFiles(paths: List<String>): List<File> {
+    return paths.map { File(it) }
+            .flatMap { if (it.isDirectory) BatchCompiler.findSourceFiles(it) else listOf(it) }
+}
+
+private fun isOption(arg: String): Boolean {
+    return arg.startsWith("--") || isOptimizationFlag(arg)
+}
+
+private fun isOptimizationFlag(arg: String): Boolean {
+    return arg.matches(Regex("-O\\w+"))
+}
+
+private fun getOptimizationLevel(args: List<String>): OptimizationLevel {
+    val flag = args.lastOrNull { isOptimizationFlag(it) } ?: return OptimizationLevel.O0
+
+    return OptimizationLevel.fromFlag(flag) ?: run {
+        println("Unknown optimization level %s, expected one of %s".format(flag, OptimizationLevel.values().joinToString(", ") { "-" + it.name }))
+
+        exitProcess(1)
+    }
+}
+
+private fun getPort(argument: String?): Int {
+    val value = argument
+            ?: System.getenv("HACHI_DAEMON_PORT")
+            ?: return DaemonProtocol.defaultPort
+    val port = value.toIntOrNull()
+
+    if (port == null || port !in 1..65535) {
+        println("Invalid port %s, expected a number between 1 and 65535".format(value))
+
+        exitProcess(1)
+    }
+
+    return port
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package hachi.repl.daemon
+
+import java.io.File
+import java.io.PrintWriter
+import java.net.InetAddress
+import java.net.Socket
+
+class CompilerClient(private val port: Int) {
+    fun compile(files: List<File>): List<String> {
+        val request = listOf(DaemonProtocol.compile) + files.map { it.absolutePath } + DaemonProtocol.end
+
+        return this.send(request)
+    }
+
+    fun shutdown(): List<String> {
+        return this.send(listOf(DaemonProtocol.shutdown))
+    }
+
+    private fun send(request: List<String>): List<String> {
+        val token = DaemonToken.read(this.port)
+                ?: return listOf("%s no daemon token in %s".format(DaemonProtocol.error, DaemonToken.getFile(this.port).path))
+
+        Socket(InetAddress.getLoopbackAddress(), this.port).use { socket ->
+            val writer = PrintWriter(socket.getOutputStream().bufferedWriter(), true)
+            val reader = socket.getInputStream().bufferedReader()
+
+            writer.println(token)
+            request.forEach { writer.println(it) }
+
+            return generateSequence { reader.readLine() }
+                    .takeWhile { it != DaemonProtocol.end }
+                    .toList()
+        }
+    }
+}
\ No newline at end of file
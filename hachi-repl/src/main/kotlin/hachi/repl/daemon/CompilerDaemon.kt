@@ -0,0 +1,123 @@
+package hachi.repl.daemon
+
+import hachi.lang.compiler.BatchCompiler
+import hachi.lang.compiler.Compiler
+import hachi.lang.optimization.OptimizationLevel
+import hachi.lang.parsing.AstFormat
+import hachi.lang.parsing.BodyAnalysis
+import hachi.lang.parsing.Frontend
+import java.io.BufferedReader
+import java.io.File
+import java.io.PrintWriter
+import java.net.InetAddress
+import java.net.ServerSocket
+import java.net.Socket
+import java.net.SocketException
+import java.util.concurrent.Executors
+
+class CompilerDaemon(private val port: Int, private val optimizationLevel: OptimizationLevel) {
+    private val batchCompiler = BatchCompiler(Runtime.getRuntime().availableProcessors(), Frontend.ANTLR, AstFormat.TREE, BodyAnalysis.EAGER, this.optimizationLevel)
+
+    private val connections = Executors.newCachedThreadPool()
+
+    private val warmUpIterations = 50
+
+    private val warmUpSource = """
+        class WarmUp {
+            int counter
+
+            int add(int a, int b = 1) {
+                return a + b
+            }
+
+            main(string[] args) {
+                var warmUp = new WarmUp()
+
+                for i from 1 to 10 {
+                    if (i > 5) {
+                        print(warmUp.add(i))
+                    } else {
+                        print(warmUp.add(b -> 2, a -> i) * 3)
+                    }
+                }
+            }
+        }
+    """.trimIndent()
+
+    private lateinit var serverSocket: ServerSocket
+
+    private lateinit var token: String
+
+    fun start() {
+        this.warmUp()
+
+        this.serverSocket = ServerSocket(this.port, 50, InetAddress.getLoopbackAddress())
+        this.token = DaemonToken.create(this.port)
+
+        println("Hachi compiler daemon listening on %s:%d at %s".format(this.serverSocket.inetAddress.hostAddress, this.port, this.optimizationLevel))
+
+        try {
+            while (!this.serverSocket.isClosed) {
+                val socket = this.serverSocket.accept()
+
+                this.connections.execute { this.handle(socket) }
+            }
+        } catch (e: SocketException) {
+            if (!this.serverSocket.isClosed) {
+                throw e
+            }
+        } finally {
+            this.connections.shutdown()
+
+            DaemonToken.delete(this.port)
+        }
+    }
+
+    private fun warmUp() {
+        val compiler = Compiler(Frontend.ANTLR, AstFormat.TREE, BodyAnalysis.EAGER, this.optimizationLevel)
+
+        repeat(this.warmUpIterations) { compiler.compile(this.warmUpSource) }
+    }
+
+    private fun handle(socket: Socket) {
+        socket.use {
+            val reader = it.getInputStream().bufferedReader()
+            val writer = PrintWriter(it.getOutputStream().bufferedWriter(), true)
+
+            if (!DaemonToken.matches(this.token, reader.readLine())) {
+                writer.println("%s invalid token".format(DaemonProtocol.error))
+                writer.println(DaemonProtocol.end)
+
+                return
+            }
+
+            when (val command = reader.readLine()) {
+                DaemonProtocol.compile -> this.compile(reader, writer)
+                DaemonProtocol.shutdown -> this.shutdown(writer)
+                else -> writer.println("%s unknown command %s".format(DaemonProtocol.error, command))
+            }
+
+            writer.println(DaemonProtocol.end)
+        }
+    }
+
+    private fun compile(reader: BufferedReader, writer: PrintWriter) {
+        val files = generateSequence { reader.readLine() }
+                .takeWhile { it != DaemonProtocol.end }
+                .map { File(it) }
+                .toList()
+        val failures = this.batchCompiler.compile(files)
+
+        failures.forEach { writer.println("%s %s: %s".format(DaemonProtocol.error, it.file.path, it.getMessage().replace('\n', ' '))) }
+
+        if (failures.isEmpty()) {
+            writer.println(DaemonProtocol.ok)
+        }
+    }
+
+    private fun shutdown(writer: PrintWriter) {
+        writer.println(DaemonProtocol.ok)
+
+        this.serverSocket.close()
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package hachi.repl.daemon
+
+object DaemonProtocol {
+    const val defaultPort = 7117
+
+    const val compile = "compile"
+
+    const val shutdown = "shutdown"
+
+    const val end = "end"
+
+    const val ok = "ok"
+
+    const val error = "error"
+}
\ No newline at end of file
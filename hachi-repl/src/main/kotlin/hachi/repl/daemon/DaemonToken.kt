@@ -0,0 +1,70 @@
+package hachi.repl.daemon
+
+import java.io.File
+import java.nio.file.FileAlreadyExistsException
+import java.nio.file.Files
+import java.nio.file.attribute.PosixFilePermissions
+import java.security.MessageDigest
+import java.security.SecureRandom
+
+/**
+ * Secret that a client has to present before the daemon accepts a command. It is kept in a file that only the
+ * current user can read, so other users of the machine cannot drive the daemon over the loopback socket.
+ */
+object DaemonToken {
+    const val tokenDirectoryProperty = "hachi.daemon.tokenDirectory"
+
+    private const val tokenBytes = 32
+
+    fun getFile(port: Int): File {
+        val directory = System.getProperty(this.tokenDirectoryProperty)
+                ?: File(System.getProperty("user.home"), ".hachi").path
+
+        return File(directory, "daemon-%d.token".format(port))
+    }
+
+    fun create(port: Int): String {
+        val file = this.getFile(port)
+        val token = ByteArray(this.tokenBytes)
+                .also { SecureRandom().nextBytes(it) }
+                .joinToString("") { "%02x".format(it) }
+
+        file.parentFile?.mkdirs()
+        file.delete()
+
+        this.createPrivateFile(file)
+
+        file.writeText(token)
+
+        return token
+    }
+
+    fun read(port: Int): String? {
+        val file = this.getFile(port)
+
+        return if (file.isFile) file.readText().trim() else null
+    }
+
+    fun delete(port: Int) {
+        this.getFile(port).delete()
+    }
+
+    fun matches(expected: String, actual: String?): Boolean {
+        return actual != null && MessageDigest.isEqual(expected.toByteArray(), actual.toByteArray())
+    }
+
+    private fun createPrivateFile(file: File) {
+        try {
+            Files.createFile(file.toPath(), PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+        } catch (e: UnsupportedOperationException) {
+            if (!file.createNewFile()) {
+                throw FileAlreadyExistsException(file.path)
+            }
+
+            file.setReadable(false, false)
+            file.setWritable(false, false)
+            file.setReadable(true, true)
+            file.setWritable(true, true)
+        }
+    }
+}
\ No newline at end of file